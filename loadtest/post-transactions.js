@@ -0,0 +1,52 @@
+// k6 load test for POST /transactions. Run it once per execution mode and compare the summaries:
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/post-transactions.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCOUNTS = Number(__ENV.ACCOUNTS || 200);
+const RATE = Number(__ENV.RATE || 2000);
+const DURATION = __ENV.DURATION || '2m';
+const HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        post_transactions: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 500,
+            maxVUs: 5000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: __ENV.MODE || 'unknown' },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const accountIds = [];
+    const firstDocument = Date.now() * 1000;
+    for (let i = 0; i < ACCOUNTS; i++) {
+        const response = http.post(`${BASE_URL}/accounts`, JSON.stringify({ document_number: firstDocument + i }), HEADERS);
+        check(response, { 'account created': r => r.status === 201 });
+        accountIds.push(response.json('account_id'));
+    }
+    return { accountIds };
+}
+
+// Four purchases per payment, spread over the accounts, so every request also exercises the discharge path.
+export default function (data) {
+    const accountId = data.accountIds[Math.floor(Math.random() * data.accountIds.length)];
+    const payment = Math.random() < 0.2;
+    const body = {
+        account_id: accountId,
+        operation_type_id: payment ? 4 : 1,
+        amount: payment ? 40.0 : 10.0,
+    };
+    const response = http.post(`${BASE_URL}/transactions`, JSON.stringify(body), HEADERS);
+    check(response, { 'transaction created': r => r.status === 201 });
+}
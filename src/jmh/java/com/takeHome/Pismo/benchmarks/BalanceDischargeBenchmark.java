@@ -0,0 +1,88 @@
+package com.takeHome.Pismo.benchmarks;
+
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionDischargeResult;
+import com.takeHome.Pismo.core.usecase.BalanceDischargeUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Discharge mutates its inputs, so every invocation gets freshly built debits; the payment settles all of them.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BalanceDischargeBenchmark {
+
+    private static final long ACCOUNT_ID = 1L;
+    private static final BigDecimal DEBIT_AMOUNT = new BigDecimal("12.34");
+
+    @Param({"10", "1000", "100000"})
+    private int openDebits;
+
+    private final BalanceDischargeUseCase balanceDischargeUseCase = new BalanceDischargeUseCase();
+    private final LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private List<Transaction> debitTransactions;
+    private BalanceBearingTransaction payment;
+    private List<BalanceBearingTransaction> debits;
+
+    @Setup(Level.Trial)
+    public void createDebitTransactions() {
+        debitTransactions = new ArrayList<>(openDebits);
+        for (int i = 0; i < openDebits; i++) {
+            debitTransactions.add(Transaction.builder()
+                    .transactionId((long) i + 1)
+                    .accountId(ACCOUNT_ID)
+                    .operationTypeId(OperationType.CASH_PURCHASE.getId())
+                    .amount(DEBIT_AMOUNT)
+                    .eventDate(start.plusSeconds(i))
+                    .build());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBalances() {
+        debits = new ArrayList<>(openDebits);
+        for (Transaction debitTransaction : debitTransactions) {
+            debits.add(ExecutableTransaction.from(debitTransaction));
+        }
+        payment = ExecutableTransaction.from(Transaction.builder()
+                .transactionId((long) openDebits + 1)
+                .accountId(ACCOUNT_ID)
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .amount(DEBIT_AMOUNT.multiply(BigDecimal.valueOf(openDebits)))
+                .eventDate(start.plusSeconds(openDebits))
+                .build());
+    }
+
+    @Benchmark
+    public TransactionDischargeResult dischargeAllOpenDebits() {
+        return balanceDischargeUseCase.discharge(payment, debits);
+    }
+
+    @Benchmark
+    public TransactionDischargeResult dischargePresortedOpenDebits() {
+        return balanceDischargeUseCase.dischargePresorted(payment, debits);
+    }
+}
@@ -0,0 +1,84 @@
+package com.takeHome.Pismo.benchmarks;
+
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.Money;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainModelBenchmark {
+
+    private final BigDecimal amount = new BigDecimal("12.34");
+    private final BigDecimal step = new BigDecimal("0.01");
+    private final Money moneyStep = Money.of(step);
+    private final LocalDateTime eventDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private ExecutableTransaction debit;
+    private int operationTypeId;
+
+    @Setup
+    public void setup() {
+        debit = ExecutableTransaction.from(Transaction.builder()
+                .transactionId(1L)
+                .accountId(1L)
+                .operationTypeId(OperationType.CASH_PURCHASE.getId())
+                .amount(amount)
+                .eventDate(eventDate)
+                .build());
+    }
+
+    @Benchmark
+    public BigDecimal applyPayment() {
+        // Alternating signs keep the balance bounded however many invocations run.
+        debit.applyPayment(step);
+        debit.applyPayment(step.negate());
+        return debit.balance();
+    }
+
+    @Benchmark
+    public Money applyMoneyPayment() {
+        debit.applyPayment(moneyStep);
+        debit.applyPayment(moneyStep.negate());
+        return debit.monetaryBalance();
+    }
+
+    @Benchmark
+    public Transaction transactionConstructor() {
+        return new Transaction(1L, 1L, OperationType.INSTALLMENT_PURCHASE.getId(), amount, eventDate);
+    }
+
+    @Benchmark
+    public ExecutableTransaction executableTransactionFrom() {
+        return ExecutableTransaction.from(Transaction.builder()
+                .accountId(1L)
+                .operationTypeId(OperationType.WITHDRAWAL.getId())
+                .amount(amount)
+                .eventDate(eventDate)
+                .build());
+    }
+
+    @Benchmark
+    public OperationType operationTypeFromId() {
+        operationTypeId = operationTypeId % 4 + 1;
+        return OperationType.fromId(operationTypeId);
+    }
+}
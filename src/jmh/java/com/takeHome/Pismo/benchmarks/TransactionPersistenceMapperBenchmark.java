@@ -0,0 +1,64 @@
+package com.takeHome.Pismo.benchmarks;
+
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.entity.TransactionEntity;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionPersistenceMapperBenchmark {
+
+    private final TransactionPersistenceMapper transactionPersistenceMapper = new JdbcTransactionPersistenceMapper();
+
+    private BalanceBearingTransaction transaction;
+    private TransactionEntity entity;
+
+    @Setup
+    public void setup() {
+        transaction = ExecutableTransaction.from(Transaction.builder()
+                .transactionId(42L)
+                .accountId(7L)
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .amount(new BigDecimal("250.00"))
+                .eventDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build());
+        entity = transactionPersistenceMapper.toEntity(transaction);
+    }
+
+    @Benchmark
+    public TransactionEntity toEntity() {
+        return transactionPersistenceMapper.toEntity(transaction);
+    }
+
+    @Benchmark
+    public BalanceBearingTransaction toTransaction() {
+        return transactionPersistenceMapper.toTransaction(entity);
+    }
+
+    @Benchmark
+    public BalanceBearingTransaction roundTrip() {
+        return transactionPersistenceMapper.toTransaction(transactionPersistenceMapper.toEntity(transaction));
+    }
+}
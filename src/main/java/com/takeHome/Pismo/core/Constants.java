@@ -14,4 +14,23 @@ public final class Constants {
     public static final String DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG = "Account with document number %s already exists";
     public static final String ACCOUNT_NOT_EXISTS_EXCEPTION_MSG = "Account Id %s does not exist";
     public static final String KEY_GENERATION_ERROR_MSG = "Failed to retrieve generated %s id";
+    public static final String MALFORMED_BULK_PAYLOAD_MSG = "Malformed bulk payload, remaining lines were not read - %s";
+    public static final String INVALID_LANE_COUNT_MSG = "Invalid account lane count - %s";
+    public static final String INVALID_PARTITION_MONTHS_AHEAD_MSG = "Invalid partition months ahead - %s, must not be negative";
+    public static final String INVALID_ARCHIVE_BATCH_SIZE_MSG = "Invalid archive batch size - %s";
+    public static final String INVALID_IDEMPOTENCY_PURGE_BATCH_SIZE_MSG = "Invalid idempotency key purge batch size - %s";
+    public static final String INVALID_LEDGER_SEGMENT_SIZE_MSG = "Invalid ledger journal segment size - %s, must be at least %s bytes";
+    public static final String ACCOUNT_LANE_INTERRUPTED_MSG = "Interrupted while waiting for the lane of account %s";
+    public static final String GROUP_COMMIT_INTERRUPTED_MSG = "Interrupted while waiting for the group commit of account %s";
+    public static final String GROUP_COMMIT_STOPPED_MSG = "Group commit writer has stopped";
+    public static final String LEDGER_JOURNAL_CLOSED_MSG = "Ledger journal is closed";
+    public static final String LEDGER_JOURNAL_INTERRUPTED_MSG = "Interrupted while waiting for ledger journal record %s to be synced";
+    public static final String LEDGER_RECORD_TOO_LARGE_MSG = "Ledger journal record of %s entries does not fit a %s byte segment";
+    public static final String INVALID_IDEMPOTENCY_KEY_MSG = "Invalid Idempotency-Key - must be 1 to %s characters";
+    public static final String IDEMPOTENCY_KEY_CONFLICT_MSG = "Idempotency-Key %s was already used";
+    public static final String IDEMPOTENCY_KEY_MISMATCH_MSG = "Idempotency-Key %s was already used for a different transaction";
+    public static final String INVALID_PAGE_LIMIT_MSG = "Invalid page limit - %s, must be between 1 and %s";
+    public static final String INVALID_DATE_RANGE_MSG = "Invalid date range - from %s is not before to %s";
+    public static final String INVALID_CURSOR_MSG = "Invalid cursor - %s";
+    public static final String INVALID_EXPORT_FORMAT_MSG = "Invalid export format - %s, must be ndjson or csv";
 }
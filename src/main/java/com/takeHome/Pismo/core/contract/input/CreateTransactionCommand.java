@@ -6,23 +6,36 @@ import java.math.BigDecimal;
 import java.util.Objects;
 import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
 import static com.takeHome.Pismo.core.Constants.INVALID_AMOUNT_VALUE_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_IDEMPOTENCY_KEY_MSG;
 
 public record CreateTransactionCommand(long accountId,
                                        OperationType operationType,
-                                       BigDecimal amount) {
+                                       BigDecimal amount,
+                                       String idempotencyKey) {
+
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
     public CreateTransactionCommand {
         validateAccountId(accountId);
         validateAmount(amount);
+        validateIdempotencyKey(idempotencyKey);
+    }
+
+    public CreateTransactionCommand(long accountId, OperationType operationType, BigDecimal amount) {
+        this(accountId, operationType, amount, null);
     }
 
     public static CreateTransactionCommand fromRequest(CreateTransactionRequest request) {
+        return fromRequest(request, null);
+    }
+
+    public static CreateTransactionCommand fromRequest(CreateTransactionRequest request, String idempotencyKey) {
         validateAccountId(request.accountId());
         validateAmount(request.amount());
 
         OperationType type = OperationType.fromId(request.operationTypeId());
 
-        return new CreateTransactionCommand(request.accountId(), type, request.amount());
+        return new CreateTransactionCommand(request.accountId(), type, request.amount(), idempotencyKey);
     }
 
     private static void validateAccountId(long accountId){
@@ -36,4 +49,10 @@ public record CreateTransactionCommand(long accountId,
             throw new IllegalArgumentException(INVALID_AMOUNT_VALUE_MSG.formatted(amount));
         }
     }
+
+    private static void validateIdempotencyKey(String idempotencyKey){
+        if(Objects.nonNull(idempotencyKey) && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)){
+            throw new IllegalArgumentException(INVALID_IDEMPOTENCY_KEY_MSG.formatted(MAX_IDEMPOTENCY_KEY_LENGTH));
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package com.takeHome.Pismo.core.contract.input;
+
+import com.takeHome.Pismo.core.domain.model.OperationType;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_DATE_RANGE_MSG;
+
+// from is inclusive and to exclusive; a null filter is not applied.
+public record ExportTransactionsQuery(long accountId,
+                                      OperationType operationType,
+                                      LocalDateTime from,
+                                      LocalDateTime to) {
+
+    public ExportTransactionsQuery {
+
+        if (accountId <= 0) {
+            throw new IllegalArgumentException(INVALID_ACCOUNT_ID_MSG.formatted(accountId));
+        }
+        if (Objects.nonNull(from) && Objects.nonNull(to) && !from.isBefore(to)) {
+            throw new IllegalArgumentException(INVALID_DATE_RANGE_MSG.formatted(from, to));
+        }
+    }
+
+    public static class ExportTransactionsQueryBuilder {
+        private long accountId;
+        private OperationType operationType;
+        private LocalDateTime from;
+        private LocalDateTime to;
+
+        public ExportTransactionsQueryBuilder accountId(long accountId){
+            this.accountId = accountId;
+            return this;
+        }
+
+        public ExportTransactionsQueryBuilder operationType(OperationType operationType){
+            this.operationType = operationType;
+            return this;
+        }
+
+        public ExportTransactionsQueryBuilder from(LocalDateTime from){
+            this.from = from;
+            return this;
+        }
+
+        public ExportTransactionsQueryBuilder to(LocalDateTime to){
+            this.to = to;
+            return this;
+        }
+
+        public ExportTransactionsQuery build(){
+            return new ExportTransactionsQuery(accountId, operationType, from, to);
+        }
+    }
+
+    public static ExportTransactionsQueryBuilder builder(){
+        return new ExportTransactionsQueryBuilder();
+    }
+}
@@ -0,0 +1,83 @@
+package com.takeHome.Pismo.core.contract.input;
+
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_DATE_RANGE_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_PAGE_LIMIT_MSG;
+
+// from is inclusive and to exclusive; a null filter or cursor is not applied.
+public record GetTransactionHistoryQuery(long accountId,
+                                         OperationType operationType,
+                                         LocalDateTime from,
+                                         LocalDateTime to,
+                                         TransactionCursor after,
+                                         int limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public GetTransactionHistoryQuery {
+
+        if (accountId <= 0) {
+            throw new IllegalArgumentException(INVALID_ACCOUNT_ID_MSG.formatted(accountId));
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(INVALID_PAGE_LIMIT_MSG.formatted(limit, MAX_LIMIT));
+        }
+        if (Objects.nonNull(from) && Objects.nonNull(to) && !from.isBefore(to)) {
+            throw new IllegalArgumentException(INVALID_DATE_RANGE_MSG.formatted(from, to));
+        }
+    }
+
+    public static class GetTransactionHistoryQueryBuilder {
+        private long accountId;
+        private OperationType operationType;
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private TransactionCursor after;
+        private int limit = DEFAULT_LIMIT;
+
+        public GetTransactionHistoryQueryBuilder accountId(long accountId){
+            this.accountId = accountId;
+            return this;
+        }
+
+        public GetTransactionHistoryQueryBuilder operationType(OperationType operationType){
+            this.operationType = operationType;
+            return this;
+        }
+
+        public GetTransactionHistoryQueryBuilder from(LocalDateTime from){
+            this.from = from;
+            return this;
+        }
+
+        public GetTransactionHistoryQueryBuilder to(LocalDateTime to){
+            this.to = to;
+            return this;
+        }
+
+        public GetTransactionHistoryQueryBuilder after(TransactionCursor after){
+            this.after = after;
+            return this;
+        }
+
+        public GetTransactionHistoryQueryBuilder limit(int limit){
+            this.limit = limit;
+            return this;
+        }
+
+        public GetTransactionHistoryQuery build(){
+            return new GetTransactionHistoryQuery(accountId, operationType, from, to, after, limit);
+        }
+    }
+
+    public static GetTransactionHistoryQueryBuilder builder(){
+        return new GetTransactionHistoryQueryBuilder();
+    }
+}
@@ -0,0 +1,42 @@
+package com.takeHome.Pismo.core.contract.output;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record AccountBalanceResult(long accountId, BigDecimal openDebitTotal, BigDecimal availableCredit, LocalDateTime lastEventDate) {
+
+    public static class AccountBalanceResultBuilder {
+        private long accountId;
+        private BigDecimal openDebitTotal;
+        private BigDecimal availableCredit;
+        private LocalDateTime lastEventDate;
+
+        public AccountBalanceResultBuilder accountId(long accountId){
+            this.accountId = accountId;
+            return this;
+        }
+
+        public AccountBalanceResultBuilder openDebitTotal(BigDecimal openDebitTotal){
+            this.openDebitTotal = openDebitTotal;
+            return this;
+        }
+
+        public AccountBalanceResultBuilder availableCredit(BigDecimal availableCredit){
+            this.availableCredit = availableCredit;
+            return this;
+        }
+
+        public AccountBalanceResultBuilder lastEventDate(LocalDateTime lastEventDate){
+            this.lastEventDate = lastEventDate;
+            return this;
+        }
+
+        public AccountBalanceResult build(){
+            return new AccountBalanceResult(accountId, openDebitTotal, availableCredit, lastEventDate);
+        }
+    }
+
+    public static AccountBalanceResultBuilder builder(){
+        return new AccountBalanceResultBuilder();
+    }
+}
@@ -0,0 +1,18 @@
+package com.takeHome.Pismo.core.contract.output;
+
+import java.util.Objects;
+
+public record BulkAccountResult(AccountResult account, String error) {
+
+    public static BulkAccountResult accepted(AccountResult account) {
+        return new BulkAccountResult(account, null);
+    }
+
+    public static BulkAccountResult rejected(String error) {
+        return new BulkAccountResult(null, error);
+    }
+
+    public boolean isAccepted() {
+        return Objects.nonNull(account);
+    }
+}
@@ -0,0 +1,18 @@
+package com.takeHome.Pismo.core.contract.output;
+
+import java.util.Objects;
+
+public record BulkTransactionResult(TransactionResult transaction, String error) {
+
+    public static BulkTransactionResult accepted(TransactionResult transaction) {
+        return new BulkTransactionResult(transaction, null);
+    }
+
+    public static BulkTransactionResult rejected(String error) {
+        return new BulkTransactionResult(null, error);
+    }
+
+    public boolean isAccepted() {
+        return Objects.nonNull(transaction);
+    }
+}
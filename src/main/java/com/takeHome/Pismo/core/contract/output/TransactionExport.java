@@ -0,0 +1,9 @@
+package com.takeHome.Pismo.core.contract.output;
+
+import java.util.function.Consumer;
+
+// A deferred export: rows are read and handed to the consumer one at a time only when forEach runs.
+@FunctionalInterface
+public interface TransactionExport {
+    void forEach(Consumer<TransactionResult> consumer);
+}
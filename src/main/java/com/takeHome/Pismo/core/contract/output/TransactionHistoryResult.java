@@ -0,0 +1,13 @@
+package com.takeHome.Pismo.core.contract.output;
+
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+
+import java.util.List;
+
+// nextCursor is null on the last page.
+public record TransactionHistoryResult(List<TransactionResult> transactions, TransactionCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
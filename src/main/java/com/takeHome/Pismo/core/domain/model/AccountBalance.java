@@ -0,0 +1,63 @@
+package com.takeHome.Pismo.core.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
+
+public record AccountBalance(long accountId,
+                             BigDecimal openDebitTotal,
+                             BigDecimal availableCredit,
+                             LocalDateTime lastEventDate) {
+
+    public AccountBalance {
+        if (accountId <= 0L) {
+            throw new IllegalArgumentException(INVALID_ACCOUNT_ID_MSG.formatted(accountId));
+        }
+        openDebitTotal = openDebitTotal == null ? BigDecimal.ZERO : openDebitTotal;
+        availableCredit = availableCredit == null ? BigDecimal.ZERO : availableCredit;
+    }
+
+    public boolean hasOpenDebits() {
+        return openDebitTotal.compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    public boolean hasAvailableCredit() {
+        return availableCredit.compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    public static class AccountBalanceBuilder {
+        private long accountId;
+        private BigDecimal openDebitTotal;
+        private BigDecimal availableCredit;
+        private LocalDateTime lastEventDate;
+
+        public AccountBalanceBuilder accountId(long accountId) {
+            this.accountId = accountId;
+            return this;
+        }
+
+        public AccountBalanceBuilder openDebitTotal(BigDecimal openDebitTotal) {
+            this.openDebitTotal = openDebitTotal;
+            return this;
+        }
+
+        public AccountBalanceBuilder availableCredit(BigDecimal availableCredit) {
+            this.availableCredit = availableCredit;
+            return this;
+        }
+
+        public AccountBalanceBuilder lastEventDate(LocalDateTime lastEventDate) {
+            this.lastEventDate = lastEventDate;
+            return this;
+        }
+
+        public AccountBalance build() {
+            return new AccountBalance(accountId, openDebitTotal, availableCredit, lastEventDate);
+        }
+    }
+
+    public static AccountBalanceBuilder builder() {
+        return new AccountBalanceBuilder();
+    }
+}
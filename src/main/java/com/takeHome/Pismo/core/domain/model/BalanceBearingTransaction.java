@@ -8,9 +8,17 @@ public interface BalanceBearingTransaction {
 
     BigDecimal balance();
 
+    BigDecimal originalBalance();
+
+    Money monetaryBalance();
+
+    boolean isDirty();
+
     boolean isSettled();
 
     void applyPayment(BigDecimal amount);
 
+    void applyPayment(Money amount);
+
     boolean isPayment();
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.takeHome.Pismo.core.domain.model;
+
+public enum ConcurrencyMode {
+    NONE,
+    ACCOUNT_ROW_LOCK
+}
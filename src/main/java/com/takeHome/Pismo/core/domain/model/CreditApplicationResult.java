@@ -0,0 +1,8 @@
+package com.takeHome.Pismo.core.domain.model;
+
+import java.util.List;
+
+public record CreditApplicationResult(
+        BalanceBearingTransaction debit,
+        List<? extends BalanceBearingTransaction> updatedCredits
+) {}
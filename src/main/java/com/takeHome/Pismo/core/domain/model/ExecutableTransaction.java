@@ -1,15 +1,20 @@
 package com.takeHome.Pismo.core.domain.model;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 public class ExecutableTransaction implements BalanceBearingTransaction{
 
     private final Transaction transaction;
-    private BigDecimal balance;
+    private final Money originalBalance;
+    private Money balance;
 
     public ExecutableTransaction(Transaction transaction, BigDecimal balance) {
+        this(transaction, Money.of(balance));
+    }
+
+    public ExecutableTransaction(Transaction transaction, Money balance) {
         this.transaction = transaction;
+        this.originalBalance = balance;
         this.balance = balance;
     }
 
@@ -42,17 +47,37 @@ public class ExecutableTransaction implements BalanceBearingTransaction{
 
     @Override
     public BigDecimal balance() {
+        return balance.toBigDecimal();
+    }
+
+    @Override
+    public BigDecimal originalBalance() {
+        return originalBalance.toBigDecimal();
+    }
+
+    @Override
+    public Money monetaryBalance() {
         return balance;
     }
 
+    @Override
+    public boolean isDirty() {
+        return balance.minorUnits() != originalBalance.minorUnits();
+    }
+
     @Override
     public boolean isSettled() {
-        return balance.compareTo(BigDecimal.ZERO) == 0;
+        return balance.isZero();
+    }
+
+    @Override
+    public void applyPayment(BigDecimal amount) {
+        this.balance = Money.of(balance.toBigDecimal().add(amount));
     }
 
     @Override
-    public void applyPayment(BigDecimal balance) {
-        this.balance = this.balance.add(balance).setScale(2, RoundingMode.HALF_UP);
+    public void applyPayment(Money amount) {
+        this.balance = balance.plus(amount);
     }
 
     @Override
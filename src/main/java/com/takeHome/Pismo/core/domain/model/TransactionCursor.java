@@ -0,0 +1,10 @@
+package com.takeHome.Pismo.core.domain.model;
+
+import java.time.LocalDateTime;
+
+public record TransactionCursor(LocalDateTime eventDate, long transactionId) {
+
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(transaction.eventDate(), transaction.transactionId());
+    }
+}
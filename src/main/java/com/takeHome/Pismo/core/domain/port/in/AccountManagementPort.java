@@ -2,9 +2,15 @@ package com.takeHome.Pismo.core.domain.port.in;
 
 import com.takeHome.Pismo.core.contract.input.CreateAccountCommand;
 import com.takeHome.Pismo.core.contract.input.GetAccountByAccountIdQuery;
+import com.takeHome.Pismo.core.contract.output.AccountBalanceResult;
 import com.takeHome.Pismo.core.contract.output.AccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkAccountResult;
+
+import java.util.List;
 
 public interface AccountManagementPort {
     AccountResult saveAccount(CreateAccountCommand createAccountCommand);
+    List<BulkAccountResult> saveAccounts(List<CreateAccountCommand> createAccountCommands);
     AccountResult retrieveAccount(GetAccountByAccountIdQuery accountQuery);
+    AccountBalanceResult retrieveAccountBalance(GetAccountByAccountIdQuery accountQuery);
 }
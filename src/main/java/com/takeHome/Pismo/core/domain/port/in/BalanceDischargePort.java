@@ -1,6 +1,7 @@
 package com.takeHome.Pismo.core.domain.port.in;
 
 import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.CreditApplicationResult;
 import com.takeHome.Pismo.core.domain.model.TransactionDischargeResult;
 
 import java.util.List;
@@ -11,4 +12,20 @@ public interface BalanceDischargePort {
             BalanceBearingTransaction payment,
             List<? extends BalanceBearingTransaction> openDebits
     );
+
+    // Trusts the caller to pass the debits already ordered by event date and walks them in place.
+    TransactionDischargeResult dischargePresorted(
+            BalanceBearingTransaction payment,
+            List<? extends BalanceBearingTransaction> openDebits
+    );
+
+    CreditApplicationResult applyCredits(
+            BalanceBearingTransaction debit,
+            List<? extends BalanceBearingTransaction> openCredits
+    );
+
+    CreditApplicationResult applyCreditsPresorted(
+            BalanceBearingTransaction debit,
+            List<? extends BalanceBearingTransaction> openCredits
+    );
 }
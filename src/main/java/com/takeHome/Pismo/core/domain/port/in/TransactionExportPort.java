@@ -0,0 +1,8 @@
+package com.takeHome.Pismo.core.domain.port.in;
+
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.output.TransactionExport;
+
+public interface TransactionExportPort {
+    TransactionExport exportTransactions(ExportTransactionsQuery query);
+}
@@ -0,0 +1,8 @@
+package com.takeHome.Pismo.core.domain.port.in;
+
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.contract.output.TransactionHistoryResult;
+
+public interface TransactionHistoryPort {
+    TransactionHistoryResult retrieveTransactions(GetTransactionHistoryQuery query);
+}
@@ -2,8 +2,13 @@ package com.takeHome.Pismo.core.domain.port.in;
 
 
 import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
 import com.takeHome.Pismo.core.contract.output.TransactionResult;
 
+import java.util.List;
+
 public interface TransactionManagementPort {
     TransactionResult saveTransactionAndDischargeDebitBalances(CreateTransactionCommand createTransactionCommand);
+
+    List<BulkTransactionResult> saveTransactions(List<CreateTransactionCommand> createTransactionCommands);
 }
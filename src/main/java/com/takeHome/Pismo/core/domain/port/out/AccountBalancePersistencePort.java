@@ -0,0 +1,13 @@
+package com.takeHome.Pismo.core.domain.port.out;
+
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+
+import java.util.Optional;
+
+public interface AccountBalancePersistencePort {
+    Optional<AccountBalance> retrieve(long accountId);
+
+    boolean hasOpenDebits(long accountId);
+
+    boolean hasAvailableCredit(long accountId);
+}
@@ -2,10 +2,13 @@ package com.takeHome.Pismo.core.domain.port.out;
 
 import com.takeHome.Pismo.core.domain.model.Account;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountPersistencePort {
     Account save(Account account);
 
+    List<Account> saveAll(List<Account> accounts);
+
     Optional<Account> retrieve(long accountId);
 }
@@ -0,0 +1,7 @@
+package com.takeHome.Pismo.core.domain.port.out;
+
+public interface AccountRegistryPort {
+    boolean isKnown(long accountId);
+
+    void register(long accountId);
+}
@@ -0,0 +1,8 @@
+package com.takeHome.Pismo.core.domain.port.out;
+
+public interface DischargeMetricsPort {
+
+    DischargeMetricsPort NONE = (debitsScanned, debitsTouched) -> {};
+
+    void recordPaymentDischarge(int debitsScanned, int debitsTouched);
+}
@@ -0,0 +1,25 @@
+package com.takeHome.Pismo.core.domain.port.out;
+
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+
+import java.util.Optional;
+
+public interface IdempotencyKeyPort {
+
+    IdempotencyKeyPort NONE = new IdempotencyKeyPort() {
+
+        @Override
+        public Optional<TransactionResult> find(String idempotencyKey) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void save(String idempotencyKey, TransactionResult transactionResult) {
+        }
+    };
+
+    Optional<TransactionResult> find(String idempotencyKey);
+
+    // Must join the caller's transaction; a key that is already stored fails with IdempotencyKeyConflictException.
+    void save(String idempotencyKey, TransactionResult transactionResult);
+}
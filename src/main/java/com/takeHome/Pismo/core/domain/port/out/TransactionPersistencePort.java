@@ -1,11 +1,28 @@
 package com.takeHome.Pismo.core.domain.port.out;
 
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
 import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TransactionPersistencePort {
+    void lockAccount(long accountId);
     BalanceBearingTransaction save(BalanceBearingTransaction transaction);
+    List<BalanceBearingTransaction> saveAll(List<? extends BalanceBearingTransaction> transactions);
+    // Both fetches return rows ordered by event date, oldest first.
     List<BalanceBearingTransaction> fetchDebitTransactions(long accountId);
+    // Next page of open debits strictly after the cursor; a null cursor starts from the oldest.
+    List<BalanceBearingTransaction> fetchDebitTransactions(long accountId, TransactionCursor after, int limit);
+    List<BalanceBearingTransaction> fetchCreditTransactions(long accountId);
+    // Up to limit rows matching the query, strictly after its cursor, in (event date, transaction id) order.
+    List<Transaction> fetchTransactions(GetTransactionHistoryQuery query, int limit);
+    // Every row matching the query in the same order, handed over one at a time without materialising the result.
+    void streamTransactions(ExportTransactionsQuery query, Consumer<Transaction> consumer);
     void updateTransaction(BalanceBearingTransaction transaction);
+    void updateBalances(Collection<? extends BalanceBearingTransaction> transactions);
 }
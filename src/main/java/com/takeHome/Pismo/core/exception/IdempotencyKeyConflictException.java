@@ -0,0 +1,7 @@
+package com.takeHome.Pismo.core.exception;
+
+public class IdempotencyKeyConflictException extends DomainException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
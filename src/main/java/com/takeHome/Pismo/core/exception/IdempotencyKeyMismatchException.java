@@ -0,0 +1,7 @@
+package com.takeHome.Pismo.core.exception;
+
+public class IdempotencyKeyMismatchException extends DomainException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,59 @@
+package com.takeHome.Pismo.core.usecase;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_EXISTS_EXCEPTION_MSG;
+
+// Runs outside the delegate's transaction, so posts for unknown accounts never borrow a connection or take a lock.
+public class AccountGuardedTransactionManagementUseCase implements TransactionManagementPort {
+
+    private final TransactionManagementPort delegate;
+    private final AccountRegistryPort accountRegistryPort;
+
+    public AccountGuardedTransactionManagementUseCase(TransactionManagementPort delegate, AccountRegistryPort accountRegistryPort) {
+        this.delegate = delegate;
+        this.accountRegistryPort = accountRegistryPort;
+    }
+
+    @Override
+    public TransactionResult saveTransactionAndDischargeDebitBalances(CreateTransactionCommand createTransactionCommand) {
+
+        if (!accountRegistryPort.isKnown(createTransactionCommand.accountId())) {
+            throw new AccountDoesNotExistException(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(createTransactionCommand.accountId()));
+        }
+        return delegate.saveTransactionAndDischargeDebitBalances(createTransactionCommand);
+    }
+
+    @Override
+    public List<BulkTransactionResult> saveTransactions(List<CreateTransactionCommand> createTransactionCommands) {
+
+        BulkTransactionResult[] results = new BulkTransactionResult[createTransactionCommands.size()];
+        List<CreateTransactionCommand> known = new ArrayList<>();
+        List<Integer> knownPositions = new ArrayList<>();
+        for (int i = 0; i < createTransactionCommands.size(); i++) {
+            CreateTransactionCommand command = createTransactionCommands.get(i);
+            if (accountRegistryPort.isKnown(command.accountId())) {
+                known.add(command);
+                knownPositions.add(i);
+            } else {
+                results[i] = BulkTransactionResult.rejected(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(command.accountId()));
+            }
+        }
+
+        if (!known.isEmpty()) {
+            List<BulkTransactionResult> saved = delegate.saveTransactions(known);
+            for (int i = 0; i < knownPositions.size(); i++) {
+                results[knownPositions.get(i)] = saved.get(i);
+            }
+        }
+        return List.of(results);
+    }
+}
@@ -2,20 +2,31 @@ package com.takeHome.Pismo.core.usecase;
 
 import com.takeHome.Pismo.core.contract.input.CreateAccountCommand;
 import com.takeHome.Pismo.core.contract.input.GetAccountByAccountIdQuery;
+import com.takeHome.Pismo.core.contract.output.AccountBalanceResult;
 import com.takeHome.Pismo.core.contract.output.AccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkAccountResult;
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
 import com.takeHome.Pismo.core.domain.port.in.AccountManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
 import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
 import com.takeHome.Pismo.core.exception.AccountNotFoundException;
 import com.takeHome.Pismo.core.domain.model.Account;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_FOUND_EXCEPTION_MSG;
+import static com.takeHome.Pismo.core.Constants.DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG;
 
 public class AccountManagementUseCase implements AccountManagementPort {
 
     private final AccountPersistencePort accountPersistencePort;
+    private final AccountBalancePersistencePort accountBalancePersistencePort;
 
-    public AccountManagementUseCase(AccountPersistencePort accountPersistencePort) {
+    public AccountManagementUseCase(AccountPersistencePort accountPersistencePort, AccountBalancePersistencePort accountBalancePersistencePort) {
         this.accountPersistencePort = accountPersistencePort;
+        this.accountBalancePersistencePort = accountBalancePersistencePort;
     }
 
     @Override
@@ -30,6 +41,27 @@ public class AccountManagementUseCase implements AccountManagementPort {
         return mapAccountToResult(savedAccount);
     }
 
+    @Override
+    public List<BulkAccountResult> saveAccounts(List<CreateAccountCommand> createAccountCommands){
+
+        List<Account> accounts = createAccountCommands.stream()
+                .map(command -> Account.builder().documentNumber(command.documentNumber()).build())
+                .toList();
+
+        Map<Long, Account> createdByDocumentNumber = new HashMap<>();
+        accountPersistencePort.saveAll(accounts).forEach(account -> createdByDocumentNumber.put(account.documentNumber(), account));
+
+        // A document number repeated inside the batch is created once; its later occurrences are duplicates.
+        return createAccountCommands.stream()
+                .map(command -> {
+                    Account created = createdByDocumentNumber.remove(command.documentNumber());
+                    return created != null
+                            ? BulkAccountResult.accepted(mapAccountToResult(created))
+                            : BulkAccountResult.rejected(DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG.formatted(command.documentNumber()));
+                })
+                .toList();
+    }
+
     @Override
     public AccountResult retrieveAccount(GetAccountByAccountIdQuery accountQuery){
 
@@ -40,6 +72,21 @@ public class AccountManagementUseCase implements AccountManagementPort {
         return mapAccountToResult(account);
     }
 
+    @Override
+    public AccountBalanceResult retrieveAccountBalance(GetAccountByAccountIdQuery accountQuery){
+
+        AccountBalance accountBalance = accountBalancePersistencePort.retrieve(accountQuery.accountId())
+                        .orElseThrow(() ->
+                            new AccountNotFoundException(ACCOUNT_NOT_FOUND_EXCEPTION_MSG.formatted(accountQuery.accountId())));
+
+        return AccountBalanceResult.builder()
+                .accountId(accountBalance.accountId())
+                .openDebitTotal(accountBalance.openDebitTotal())
+                .availableCredit(accountBalance.availableCredit())
+                .lastEventDate(accountBalance.lastEventDate())
+                .build();
+    }
+
     private AccountResult mapAccountToResult(Account account) {
         return AccountResult.builder()
                 .accountId(account.accountId())
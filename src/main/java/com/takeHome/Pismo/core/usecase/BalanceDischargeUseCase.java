@@ -1,43 +1,116 @@
 package com.takeHome.Pismo.core.usecase;
 
 import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.CreditApplicationResult;
+import com.takeHome.Pismo.core.domain.model.Money;
 import com.takeHome.Pismo.core.domain.model.TransactionDischargeResult;
 import com.takeHome.Pismo.core.domain.port.in.BalanceDischargePort;
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class BalanceDischargeUseCase implements BalanceDischargePort {
 
+    private static final Comparator<LocalDateTime> EVENT_DATE_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+    private static final Comparator<BalanceBearingTransaction> BY_EVENT_DATE =
+            Comparator.comparing(tx -> tx.transaction().eventDate(), EVENT_DATE_ORDER);
+
     @Override
     public TransactionDischargeResult discharge(BalanceBearingTransaction paymentTransaction, List<? extends BalanceBearingTransaction> openDebits) {
 
+        if(Objects.isNull(openDebits)){
+            throw new IllegalArgumentException("Invalid discharge operation");
+        }
+        return dischargePresorted(paymentTransaction, sortedByEventDate(openDebits));
+    }
+
+    @Override
+    public TransactionDischargeResult dischargePresorted(BalanceBearingTransaction paymentTransaction, List<? extends BalanceBearingTransaction> openDebits) {
+
         if(Objects.isNull(paymentTransaction)|| Objects.isNull(openDebits) || !paymentTransaction.isPayment()){
             throw new IllegalArgumentException("Invalid discharge operation");
         }
-        List<BalanceBearingTransaction> mutableDebits = openDebits.stream()
-                .sorted(Comparator.comparing(tx -> tx.transaction().eventDate(),
-                Comparator.nullsLast(Comparator.naturalOrder())))
-                .collect(Collectors.toList());
+        assert isSortedByEventDate(openDebits) : "open debits must be ordered by event date";
+
+        List<BalanceBearingTransaction> modifiedDebits = new ArrayList<>();
+        Money paymentBalance = paymentTransaction.monetaryBalance();
 
-        for (BalanceBearingTransaction debit : mutableDebits) {
+        for (int i = 0, size = openDebits.size(); i < size && paymentBalance.signum() > 0; i++) {
 
-            BigDecimal paymentBalance = paymentTransaction.balance();
+            BalanceBearingTransaction debit = openDebits.get(i);
 
             if (debit.isPayment() || debit.isSettled()) {
                 continue;
             }
-            if (paymentBalance.compareTo(BigDecimal.ZERO) <= 0) {
-                break;
-            }
 
-            BigDecimal amountToApply = paymentBalance.min(debit.balance().negate());
+            Money amountToApply = paymentBalance.min(debit.monetaryBalance().negate());
             debit.applyPayment(amountToApply);
             paymentTransaction.applyPayment(amountToApply.negate());
+            paymentBalance = paymentTransaction.monetaryBalance();
+
+            if (debit.isDirty()) {
+                modifiedDebits.add(debit);
+            }
+        }
+        return new TransactionDischargeResult(paymentTransaction, modifiedDebits);
+    }
+
+    @Override
+    public CreditApplicationResult applyCredits(BalanceBearingTransaction debit, List<? extends BalanceBearingTransaction> openCredits) {
+
+        if(Objects.isNull(openCredits)){
+            throw new IllegalArgumentException("Invalid credit application");
+        }
+        return applyCreditsPresorted(debit, sortedByEventDate(openCredits));
+    }
+
+    @Override
+    public CreditApplicationResult applyCreditsPresorted(BalanceBearingTransaction debit, List<? extends BalanceBearingTransaction> openCredits) {
+
+        if(Objects.isNull(debit) || Objects.isNull(openCredits) || debit.isPayment()){
+            throw new IllegalArgumentException("Invalid credit application");
+        }
+        assert isSortedByEventDate(openCredits) : "open credits must be ordered by event date";
+
+        List<BalanceBearingTransaction> modifiedCredits = new ArrayList<>();
+        Money debitBalance = debit.monetaryBalance();
+
+        for (int i = 0, size = openCredits.size(); i < size && debitBalance.signum() < 0; i++) {
+
+            BalanceBearingTransaction credit = openCredits.get(i);
+
+            if (!credit.isPayment() || credit.monetaryBalance().signum() <= 0) {
+                continue;
+            }
+
+            Money amountToApply = credit.monetaryBalance().min(debitBalance.negate());
+            debit.applyPayment(amountToApply);
+            credit.applyPayment(amountToApply.negate());
+            debitBalance = debit.monetaryBalance();
+
+            if (credit.isDirty()) {
+                modifiedCredits.add(credit);
+            }
+        }
+        return new CreditApplicationResult(debit, modifiedCredits);
+    }
+
+    private static List<BalanceBearingTransaction> sortedByEventDate(List<? extends BalanceBearingTransaction> transactions) {
+
+        List<BalanceBearingTransaction> sorted = new ArrayList<>(transactions);
+        sorted.sort(BY_EVENT_DATE);
+        return sorted;
+    }
+
+    private static boolean isSortedByEventDate(List<? extends BalanceBearingTransaction> transactions) {
+
+        for (int i = 1, size = transactions.size(); i < size; i++) {
+            if (BY_EVENT_DATE.compare(transactions.get(i - 1), transactions.get(i)) > 0) {
+                return false;
+            }
         }
-        return new TransactionDischargeResult(paymentTransaction, mutableDebits);
+        return true;
     }
 }
@@ -0,0 +1,62 @@
+package com.takeHome.Pismo.core.usecase;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.model.Money;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyConflictException;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyMismatchException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.takeHome.Pismo.core.Constants.IDEMPOTENCY_KEY_MISMATCH_MSG;
+
+// The delegate writes the key in the post's own transaction; of two concurrent attempts the loser rolls back and replays the winner.
+public class IdempotentTransactionManagementUseCase implements TransactionManagementPort {
+
+    private final TransactionManagementPort delegate;
+    private final IdempotencyKeyPort idempotencyKeyPort;
+
+    public IdempotentTransactionManagementUseCase(TransactionManagementPort delegate, IdempotencyKeyPort idempotencyKeyPort) {
+        this.delegate = delegate;
+        this.idempotencyKeyPort = idempotencyKeyPort;
+    }
+
+    @Override
+    public TransactionResult saveTransactionAndDischargeDebitBalances(CreateTransactionCommand createTransactionCommand) {
+
+        String idempotencyKey = createTransactionCommand.idempotencyKey();
+        if (Objects.isNull(idempotencyKey)) {
+            return delegate.saveTransactionAndDischargeDebitBalances(createTransactionCommand);
+        }
+        Optional<TransactionResult> stored = idempotencyKeyPort.find(idempotencyKey);
+        if (stored.isPresent()) {
+            return replay(createTransactionCommand, stored.get());
+        }
+        try {
+            return delegate.saveTransactionAndDischargeDebitBalances(createTransactionCommand);
+        } catch (IdempotencyKeyConflictException ex) {
+            return replay(createTransactionCommand, idempotencyKeyPort.find(idempotencyKey).orElseThrow(() -> ex));
+        }
+    }
+
+    @Override
+    public List<BulkTransactionResult> saveTransactions(List<CreateTransactionCommand> createTransactionCommands) {
+        return delegate.saveTransactions(createTransactionCommands);
+    }
+
+    private static TransactionResult replay(CreateTransactionCommand createTransactionCommand, TransactionResult stored) {
+
+        boolean samePost = stored.accountId() == createTransactionCommand.accountId()
+                && stored.operationTypeId() == createTransactionCommand.operationType().getId()
+                && Money.of(stored.amount().abs()).equals(Money.of(createTransactionCommand.amount()));
+        if (!samePost) {
+            throw new IdempotencyKeyMismatchException(IDEMPOTENCY_KEY_MISMATCH_MSG.formatted(createTransactionCommand.idempotencyKey()));
+        }
+        return stored;
+    }
+}
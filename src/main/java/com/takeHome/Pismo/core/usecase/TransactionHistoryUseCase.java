@@ -0,0 +1,67 @@
+package com.takeHome.Pismo.core.usecase;
+
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.contract.output.TransactionExport;
+import com.takeHome.Pismo.core.contract.output.TransactionHistoryResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+import com.takeHome.Pismo.core.domain.port.in.TransactionExportPort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionHistoryPort;
+import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
+import com.takeHome.Pismo.core.exception.AccountNotFoundException;
+
+import java.util.List;
+
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_FOUND_EXCEPTION_MSG;
+
+public class TransactionHistoryUseCase implements TransactionHistoryPort, TransactionExportPort {
+
+    private final TransactionPersistencePort transactionPersistencePort;
+    private final AccountPersistencePort accountPersistencePort;
+
+    public TransactionHistoryUseCase(TransactionPersistencePort transactionPersistencePort, AccountPersistencePort accountPersistencePort) {
+        this.transactionPersistencePort = transactionPersistencePort;
+        this.accountPersistencePort = accountPersistencePort;
+    }
+
+    @Override
+    public TransactionHistoryResult retrieveTransactions(GetTransactionHistoryQuery query) {
+
+        requireAccount(query.accountId());
+
+        List<Transaction> transactions = transactionPersistencePort.fetchTransactions(query, query.limit() + 1);
+        boolean hasNext = transactions.size() > query.limit();
+        List<Transaction> page = hasNext ? transactions.subList(0, query.limit()) : transactions;
+
+        return new TransactionHistoryResult(page.stream().map(this::mapToTransactionResult).toList(),
+                hasNext ? TransactionCursor.after(page.getLast()) : null);
+    }
+
+    @Override
+    public TransactionExport exportTransactions(ExportTransactionsQuery query) {
+
+        // Checked up front so an unknown account is still a 404 rather than an empty body once streaming has begun.
+        requireAccount(query.accountId());
+
+        return consumer -> transactionPersistencePort.streamTransactions(query,
+                transaction -> consumer.accept(mapToTransactionResult(transaction)));
+    }
+
+    private void requireAccount(long accountId) {
+        if (accountPersistencePort.retrieve(accountId).isEmpty()) {
+            throw new AccountNotFoundException(ACCOUNT_NOT_FOUND_EXCEPTION_MSG.formatted(accountId));
+        }
+    }
+
+    private TransactionResult mapToTransactionResult(Transaction transaction) {
+        return TransactionResult.builder()
+                .transactionId(transaction.transactionId())
+                .accountId(transaction.accountId())
+                .operationTypeId(transaction.operationTypeId())
+                .amount(transaction.amount())
+                .eventDate(transaction.eventDate()).build();
+    }
+}
@@ -1,29 +1,62 @@
 package com.takeHome.Pismo.core.usecase;
 
 import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
 import com.takeHome.Pismo.core.contract.output.TransactionResult;
 import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ConcurrencyMode;
+import com.takeHome.Pismo.core.domain.model.CreditApplicationResult;
 import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
 import com.takeHome.Pismo.core.domain.model.OperationType;
 import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
 import com.takeHome.Pismo.core.domain.model.TransactionDischargeResult;
 import com.takeHome.Pismo.core.domain.port.in.BalanceDischargePort;
 import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.DischargeMetricsPort;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
 import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
 public class TransactionManagementUseCase implements TransactionManagementPort {
 
+    public static final int OPEN_DEBIT_PAGE_SIZE = 100;
+
     private final TransactionPersistencePort transactionPersistencePort;
+    private final AccountBalancePersistencePort accountBalancePersistencePort;
     private final BalanceDischargePort balanceDischargePort;
+    private final ConcurrencyMode concurrencyMode;
+    private final DischargeMetricsPort dischargeMetricsPort;
+    private final IdempotencyKeyPort idempotencyKeyPort;
+
+    public TransactionManagementUseCase(TransactionPersistencePort transactionPersistencePort,
+                                        AccountBalancePersistencePort accountBalancePersistencePort,
+                                        BalanceDischargePort balanceDischargePort, ConcurrencyMode concurrencyMode) {
+        this(transactionPersistencePort, accountBalancePersistencePort, balanceDischargePort, concurrencyMode, DischargeMetricsPort.NONE,
+                IdempotencyKeyPort.NONE);
+    }
 
-    public TransactionManagementUseCase(TransactionPersistencePort transactionPersistencePort, BalanceDischargePort balanceDischargePort) {
+    public TransactionManagementUseCase(TransactionPersistencePort transactionPersistencePort,
+                                        AccountBalancePersistencePort accountBalancePersistencePort,
+                                        BalanceDischargePort balanceDischargePort, ConcurrencyMode concurrencyMode,
+                                        DischargeMetricsPort dischargeMetricsPort, IdempotencyKeyPort idempotencyKeyPort) {
         this.transactionPersistencePort = transactionPersistencePort;
+        this.accountBalancePersistencePort = accountBalancePersistencePort;
         this.balanceDischargePort = balanceDischargePort;
+        this.concurrencyMode = concurrencyMode;
+        this.dischargeMetricsPort = dischargeMetricsPort;
+        this.idempotencyKeyPort = idempotencyKeyPort;
     }
 
     @Override
@@ -39,23 +72,148 @@ public class TransactionManagementUseCase implements TransactionManagementPort {
 
         BalanceBearingTransaction executableTransaction = ExecutableTransaction.from(transaction);
 
+        // Locked before the insert, whose ACCOUNT_BALANCES FK check would otherwise take a shared lock on the row and deadlock on upgrade.
+        if (concurrencyMode == ConcurrencyMode.ACCOUNT_ROW_LOCK) {
+            transactionPersistencePort.lockAccount(createTransactionCommand.accountId());
+        }
+
         BalanceBearingTransaction saved = transactionPersistencePort.save(executableTransaction);
+        TransactionResult transactionResult = mapToTransactionResult(saved.transaction());
+
+        // Written before the discharge, so a concurrent retry with the same key fails without netting anything.
+        if (Objects.nonNull(createTransactionCommand.idempotencyKey())) {
+            idempotencyKeyPort.save(createTransactionCommand.idempotencyKey(), transactionResult);
+        }
 
         if(createTransactionCommand.operationType().equals(OperationType.PAYMENT)) {
+            if (accountBalancePersistencePort.hasOpenDebits(createTransactionCommand.accountId())) {
+                dischargeOpenDebits(saved);
+            }
+        } else if (accountBalancePersistencePort.hasAvailableCredit(createTransactionCommand.accountId())) {
+            applyOpenCredits(saved);
+        }
+        return transactionResult;
+    }
+
 
-            List<BalanceBearingTransaction> openDebits =
-                    transactionPersistencePort.fetchDebitTransactions(createTransactionCommand.accountId());
-            if(!openDebits.isEmpty()) {
-                TransactionDischargeResult dischargeResult = balanceDischargePort.discharge(saved, openDebits);
-                if (!Objects.isNull(dischargeResult)) {
-                    dischargeResult.updatedDebits().forEach(transactionPersistencePort::updateTransaction);
-                    transactionPersistencePort.updateTransaction(dischargeResult.payment());
+    @Override
+    @Transactional
+    public List<BulkTransactionResult> saveTransactions(List<CreateTransactionCommand> createTransactionCommands) {
+
+        LocalDateTime eventDate = LocalDateTime.now();
+        BulkTransactionResult[] results = new BulkTransactionResult[createTransactionCommands.size()];
+
+        Map<Long, List<Integer>> positionsByAccount = new TreeMap<>();
+        for (int i = 0; i < createTransactionCommands.size(); i++) {
+            positionsByAccount.computeIfAbsent(createTransactionCommands.get(i).accountId(), accountId -> new ArrayList<>()).add(i);
+        }
+
+        // Ascending account id order, so concurrent bulk loads lock shared accounts in the same order.
+        positionsByAccount.forEach((accountId, positions) -> {
+            List<BalanceBearingTransaction> transactions = positions.stream()
+                    .map(position -> toExecutableTransaction(createTransactionCommands.get(position), eventDate))
+                    .toList();
+            try {
+                if (concurrencyMode == ConcurrencyMode.ACCOUNT_ROW_LOCK) {
+                    transactionPersistencePort.lockAccount(accountId);
+                }
+                List<BalanceBearingTransaction> saved = transactionPersistencePort.saveAll(transactions);
+                settleAccount(accountId);
+                for (int i = 0; i < positions.size(); i++) {
+                    results[positions.get(i)] = BulkTransactionResult.accepted(mapToTransactionResult(saved.get(i).transaction()));
                 }
+            } catch (AccountDoesNotExistException ex) {
+                positions.forEach(position -> results[position] = BulkTransactionResult.rejected(ex.getMessage()));
             }
+        });
+        return List.of(results);
+    }
+
+    private BalanceBearingTransaction toExecutableTransaction(CreateTransactionCommand createTransactionCommand, LocalDateTime eventDate) {
+
+        return ExecutableTransaction.from(Transaction.builder()
+                .accountId(createTransactionCommand.accountId())
+                .operationTypeId(createTransactionCommand.operationType().getId())
+                .amount(createTransactionCommand.amount())
+                .eventDate(eventDate)
+                .build());
+    }
+
+    private void settleAccount(long accountId) {
+
+        if (!accountBalancePersistencePort.hasOpenDebits(accountId) || !accountBalancePersistencePort.hasAvailableCredit(accountId)) {
+            return;
+        }
+        List<BalanceBearingTransaction> openCredits = transactionPersistencePort.fetchCreditTransactions(accountId);
+        List<BalanceBearingTransaction> openDebits = transactionPersistencePort.fetchDebitTransactions(accountId);
+
+        Set<BalanceBearingTransaction> changedBalances = new LinkedHashSet<>();
+        int firstOpenDebit = 0;
+        for (BalanceBearingTransaction credit : openCredits) {
+            if (firstOpenDebit == openDebits.size()) {
+                break;
+            }
+            TransactionDischargeResult dischargeResult =
+                    balanceDischargePort.dischargePresorted(credit, openDebits.subList(firstOpenDebit, openDebits.size()));
+            changedBalances.addAll(dischargeResult.updatedDebits());
+            if (dischargeResult.payment().isDirty()) {
+                changedBalances.add(dischargeResult.payment());
+            }
+            while (firstOpenDebit < openDebits.size() && openDebits.get(firstOpenDebit).isSettled()) {
+                firstOpenDebit++;
+            }
+        }
+        transactionPersistencePort.updateBalances(changedBalances);
+    }
+
+    private void dischargeOpenDebits(BalanceBearingTransaction payment) {
+
+        long accountId = payment.transaction().accountId();
+        List<BalanceBearingTransaction> openDebits =
+                transactionPersistencePort.fetchDebitTransactions(accountId, null, OPEN_DEBIT_PAGE_SIZE);
+        if(openDebits.isEmpty()) {
+            return;
+        }
+        List<BalanceBearingTransaction> changedBalances = new ArrayList<>();
+        BalanceBearingTransaction dischargedPayment = payment;
+        int debitsScanned = 0;
+        while (true) {
+            debitsScanned += openDebits.size();
+            TransactionDischargeResult dischargeResult = balanceDischargePort.dischargePresorted(dischargedPayment, openDebits);
+            if (Objects.isNull(dischargeResult)) {
+                return;
+            }
+            changedBalances.addAll(dischargeResult.updatedDebits());
+            dischargedPayment = dischargeResult.payment();
+            if (dischargedPayment.monetaryBalance().signum() <= 0 || openDebits.size() < OPEN_DEBIT_PAGE_SIZE) {
+                break;
+            }
+            openDebits = transactionPersistencePort.fetchDebitTransactions(accountId,
+                    TransactionCursor.after(openDebits.getLast().transaction()), OPEN_DEBIT_PAGE_SIZE);
+        }
+        dischargeMetricsPort.recordPaymentDischarge(debitsScanned, changedBalances.size());
+        if (dischargedPayment.isDirty()) {
+            changedBalances.add(dischargedPayment);
         }
-        return mapToTransactionResult(saved.transaction());
+        transactionPersistencePort.updateBalances(changedBalances);
     }
 
+    private void applyOpenCredits(BalanceBearingTransaction debit) {
+
+        List<BalanceBearingTransaction> openCredits =
+                transactionPersistencePort.fetchCreditTransactions(debit.transaction().accountId());
+        if(openCredits.isEmpty()) {
+            return;
+        }
+        CreditApplicationResult creditApplicationResult = balanceDischargePort.applyCreditsPresorted(debit, openCredits);
+        if (!Objects.isNull(creditApplicationResult)) {
+            List<BalanceBearingTransaction> changedBalances = new ArrayList<>(creditApplicationResult.updatedCredits());
+            if (creditApplicationResult.debit().isDirty()) {
+                changedBalances.add(creditApplicationResult.debit());
+            }
+            transactionPersistencePort.updateBalances(changedBalances);
+        }
+    }
 
     private TransactionResult mapToTransactionResult(Transaction transaction) {
         return TransactionResult.builder()
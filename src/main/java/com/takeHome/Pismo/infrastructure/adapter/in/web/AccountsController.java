@@ -1,31 +1,67 @@
 package com.takeHome.Pismo.infrastructure.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.takeHome.Pismo.core.contract.input.CreateAccountCommand;
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
 import com.takeHome.Pismo.core.contract.input.GetAccountByAccountIdQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.contract.output.AccountBalanceResult;
 import com.takeHome.Pismo.core.contract.output.AccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkAccountResult;
+import com.takeHome.Pismo.core.contract.output.TransactionExport;
+import com.takeHome.Pismo.core.contract.output.TransactionHistoryResult;
+import com.takeHome.Pismo.core.domain.model.OperationType;
 import com.takeHome.Pismo.core.domain.port.in.AccountManagementPort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionExportPort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionHistoryPort;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.AccountBalanceResponse;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.AccountResponse;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.BulkAccountLineResponse;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.CreateAccountRequest;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.TransactionHistoryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Validator;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/accounts")
 @Tag(name = "Accounts")
 public class AccountsController {
 
+    private static final int BULK_CHUNK_SIZE = 1_000;
+
     private final AccountManagementPort accountManagementPort;
+    private final TransactionHistoryPort transactionHistoryPort;
+    private final TransactionExportPort transactionExportPort;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    public AccountsController(AccountManagementPort accountManagementPort) {
+    public AccountsController(AccountManagementPort accountManagementPort, TransactionHistoryPort transactionHistoryPort,
+                              TransactionExportPort transactionExportPort, ObjectMapper objectMapper, Validator validator) {
         this.accountManagementPort = accountManagementPort;
+        this.transactionHistoryPort = transactionHistoryPort;
+        this.transactionExportPort = transactionExportPort;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
     @PostMapping
@@ -40,6 +76,45 @@ public class AccountsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(accountResponse);
     }
 
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create accounts in bulk",
+            description = "Creates accounts from an NDJSON or JSON array body and streams back duplicates per line.")
+    public ResponseEntity<StreamingResponseBody> createBulk(InputStream body) {
+
+        StreamingResponseBody results = outputStream -> {
+            BulkResponseWriter writer = new BulkResponseWriter(objectMapper, outputStream);
+            try (BulkRequestReader<CreateAccountRequest, CreateAccountCommand> reader = new BulkRequestReader<>(objectMapper, validator, body,
+                    CreateAccountRequest.class, request -> new CreateAccountCommand(request.documentNumber()))) {
+                List<BulkRequestLine<CreateAccountCommand>> chunk = reader.nextChunk(BULK_CHUNK_SIZE);
+                while (!chunk.isEmpty()) {
+                    writer.writeChunk(saveChunk(chunk));
+                    chunk = reader.nextChunk(BULK_CHUNK_SIZE);
+                }
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(results);
+    }
+
+    private List<BulkAccountLineResponse> saveChunk(List<BulkRequestLine<CreateAccountCommand>> chunk) {
+
+        List<BulkRequestLine<CreateAccountCommand>> parsedLines = chunk.stream().filter(BulkRequestLine::isParsed).toList();
+        List<BulkAccountResult> bulkResults = parsedLines.isEmpty() ? List.of()
+                : accountManagementPort.saveAccounts(parsedLines.stream().map(BulkRequestLine::command).toList());
+
+        List<BulkAccountLineResponse> responses = new ArrayList<>(chunk.size());
+        int parsedIndex = 0;
+        for (BulkRequestLine<CreateAccountCommand> line : chunk) {
+            if (line.isParsed()) {
+                responses.add(WebResponseMapper.toBulkAccountLineResponse(line.line(), bulkResults.get(parsedIndex++)));
+            } else {
+                responses.add(WebResponseMapper.toRejectedBulkAccountLineResponse(line.line(), line.error()));
+            }
+        }
+        return responses;
+    }
+
     @GetMapping("/{account_id}")
     @Operation(summary = "Retrieve account by ID")
     public ResponseEntity<AccountResponse> retrieve(@PathVariable("account_id") long accountId){
@@ -52,4 +127,80 @@ public class AccountsController {
 
         return ResponseEntity.status(HttpStatus.OK).body(accountResponse);
     }
+
+    @GetMapping("/{account_id}/balance")
+    @Operation(summary = "Retrieve account balance", description = "Returns the open debit total and available payment credit of an account.")
+    public ResponseEntity<AccountBalanceResponse> balance(@PathVariable("account_id") long accountId){
+
+        GetAccountByAccountIdQuery accountQuery = new GetAccountByAccountIdQuery(accountId);
+
+        AccountBalanceResult accountBalanceResult = accountManagementPort.retrieveAccountBalance(accountQuery);
+
+        AccountBalanceResponse accountBalanceResponse = WebResponseMapper.toAccountBalanceResponse(accountBalanceResult);
+
+        return ResponseEntity.status(HttpStatus.OK).body(accountBalanceResponse);
+    }
+
+    @GetMapping("/{account_id}/transactions")
+    @Operation(summary = "List account transactions",
+            description = "Returns the transactions of an account oldest first, one page at a time; pass next_cursor as after to read the next page.")
+    public ResponseEntity<TransactionHistoryResponse> transactions(@PathVariable("account_id") long accountId,
+                                                                   @RequestParam(name = "after", required = false) String after,
+                                                                   @RequestParam(name = "limit", defaultValue = "" + GetTransactionHistoryQuery.DEFAULT_LIMIT) int limit,
+                                                                   @RequestParam(name = "operation_type_id", required = false) Integer operationTypeId,
+                                                                   @RequestParam(name = "from", required = false)
+                                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                   @RequestParam(name = "to", required = false)
+                                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to){
+
+        GetTransactionHistoryQuery historyQuery = GetTransactionHistoryQuery.builder()
+                .accountId(accountId)
+                .operationType(operationTypeId == null ? null : OperationType.fromId(operationTypeId))
+                .from(from)
+                .to(to)
+                .after(TransactionCursorCodec.decode(after))
+                .limit(limit)
+                .build();
+
+        TransactionHistoryResult historyResult = transactionHistoryPort.retrieveTransactions(historyQuery);
+
+        TransactionHistoryResponse historyResponse = WebResponseMapper.toTransactionHistoryResponse(historyResult);
+
+        return ResponseEntity.status(HttpStatus.OK).body(historyResponse);
+    }
+
+    @GetMapping("/{account_id}/transactions/export")
+    @Operation(summary = "Export account transactions",
+            description = "Streams every matching transaction oldest first as NDJSON or CSV, for statements and other full-history reads.")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable("account_id") long accountId,
+                                                        @RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                        @RequestParam(name = "operation_type_id", required = false) Integer operationTypeId,
+                                                        @RequestParam(name = "from", required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam(name = "to", required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to){
+
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        ExportTransactionsQuery exportQuery = ExportTransactionsQuery.builder()
+                .accountId(accountId)
+                .operationType(operationTypeId == null ? null : OperationType.fromId(operationTypeId))
+                .from(from)
+                .to(to)
+                .build();
+
+        TransactionExport transactionExport = transactionExportPort.exportTransactions(exportQuery);
+
+        StreamingResponseBody body = outputStream -> {
+            TransactionExportWriter writer = TransactionExportWriter.open(exportFormat, objectMapper, outputStream);
+            transactionExport.forEach(transactionResult -> writer.write(WebResponseMapper.toTransactionResponse(transactionResult)));
+            writer.flush();
+        };
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("account-%d-transactions.%s".formatted(accountId, exportFormat.getExtension()))
+                        .build().toString())
+                .body(body);
+    }
 }
@@ -0,0 +1,10 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import java.util.Objects;
+
+record BulkRequestLine<C>(int line, C command, String error) {
+
+    boolean isParsed() {
+        return Objects.nonNull(command);
+    }
+}
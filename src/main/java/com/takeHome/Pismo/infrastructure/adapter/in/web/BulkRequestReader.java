@@ -0,0 +1,97 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.takeHome.Pismo.core.Constants.MALFORMED_BULK_PAYLOAD_MSG;
+
+// Reads a JSON array or NDJSON body one chunk at a time, binding and validating each element like a single @Valid @RequestBody.
+class BulkRequestReader<R, C> implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Class<R> requestType;
+    private final Function<R, C> toCommand;
+    private final JsonParser parser;
+    private boolean started;
+    private boolean finished;
+    private int line;
+
+    BulkRequestReader(ObjectMapper objectMapper, Validator validator, InputStream body, Class<R> requestType,
+                      Function<R, C> toCommand) throws IOException {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.requestType = requestType;
+        this.toCommand = toCommand;
+        this.parser = objectMapper.getFactory().createParser(body);
+    }
+
+    List<BulkRequestLine<C>> nextChunk(int chunkSize) throws IOException {
+
+        List<BulkRequestLine<C>> chunk = new ArrayList<>();
+        while (!finished && chunk.size() < chunkSize) {
+            try {
+                JsonToken token = nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    finished = true;
+                    break;
+                }
+                line++;
+                chunk.add(toLine(parser.readValueAsTree()));
+            } catch (JsonProcessingException ex) {
+                finished = true;
+                chunk.add(new BulkRequestLine<>(line, null, MALFORMED_BULK_PAYLOAD_MSG.formatted(ex.getOriginalMessage())));
+            }
+        }
+        return chunk;
+    }
+
+    private JsonToken nextToken() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (!started) {
+            started = true;
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+        }
+        return token;
+    }
+
+    private BulkRequestLine<C> toLine(JsonNode node) {
+        try {
+            R request = objectMapper.treeToValue(node, requestType);
+            Set<ConstraintViolation<R>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return new BulkRequestLine<>(line, null, violations.stream()
+                        .map(violation -> "%s %s".formatted(violation.getPropertyPath(), violation.getMessage()))
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+            return new BulkRequestLine<>(line, toCommand.apply(request), null);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            Throwable root = ExceptionUtils.getRootCause(ex);
+            return new BulkRequestLine<>(line, null, (Objects.isNull(root) ? ex : root).getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
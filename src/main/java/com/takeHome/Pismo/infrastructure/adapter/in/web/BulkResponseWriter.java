@@ -0,0 +1,38 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Writes bulk line results as NDJSON, flushing after every chunk so a client sees each chunk as soon as it is saved.
+class BulkResponseWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ObjectWriter objectWriter;
+    private final Writer writer;
+
+    BulkResponseWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    void writeChunk(List<?> results) throws IOException {
+        for (Object result : results) {
+            objectWriter.writeValue(writer, result);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+}
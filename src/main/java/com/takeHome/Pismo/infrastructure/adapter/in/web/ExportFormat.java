@@ -0,0 +1,37 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_EXPORT_FORMAT_MSG;
+
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromParameter(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(INVALID_EXPORT_FORMAT_MSG.formatted(format), ex);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_CURSOR_MSG;
+
+// Cursors are opaque to clients: URL-safe Base64 of "<event date>|<transaction id>".
+public final class TransactionCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private TransactionCursorCodec() {
+    }
+
+    public static String encode(TransactionCursor cursor) {
+
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+        String plain = cursor.eventDate() + SEPARATOR + cursor.transactionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String encoded) {
+
+        if (Objects.isNull(encoded)) {
+            return null;
+        }
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = plain.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(LocalDateTime.parse(plain.substring(0, Math.max(separator, 0))),
+                    Long.parseLong(plain.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            // The decoder and Long.parseLong both report malformed input as IllegalArgumentException.
+            throw new IllegalArgumentException(INVALID_CURSOR_MSG.formatted(encoded), ex);
+        }
+    }
+}
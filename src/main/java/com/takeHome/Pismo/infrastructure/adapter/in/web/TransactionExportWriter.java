@@ -0,0 +1,71 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.TransactionResponse;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+// Writes one row at a time through a fixed-size buffer, so an export holds a single row in memory whatever its length.
+public final class TransactionExportWriter implements Flushable {
+
+    static final String CSV_HEADER = "transaction_id,account_id,operation_type_id,amount,event_date";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ExportFormat format;
+    private final ObjectWriter ndjsonWriter;
+    private final Writer writer;
+
+    private TransactionExportWriter(ExportFormat format, ObjectWriter ndjsonWriter, Writer writer) {
+        this.format = format;
+        this.ndjsonWriter = ndjsonWriter;
+        this.writer = writer;
+    }
+
+    public static TransactionExportWriter open(ExportFormat format, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+
+        ObjectWriter ndjsonWriter = objectMapper.writerFor(TransactionResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        TransactionExportWriter exportWriter = new TransactionExportWriter(format, ndjsonWriter,
+                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE));
+        if (format == ExportFormat.CSV) {
+            exportWriter.writer.write(CSV_HEADER);
+            exportWriter.writer.write('\n');
+        }
+        return exportWriter;
+    }
+
+    public void write(TransactionResponse transaction) {
+        try {
+            switch (format) {
+                case NDJSON -> ndjsonWriter.writeValue(writer, transaction);
+                case CSV -> writer.write(String.join(",",
+                        String.valueOf(transaction.transactionId()),
+                        String.valueOf(transaction.accountId()),
+                        String.valueOf(transaction.operationTypeId()),
+                        transaction.amount().toPlainString(),
+                        DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(transaction.eventDate())));
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -1,36 +1,55 @@
 package com.takeHome.Pismo.infrastructure.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
 import com.takeHome.Pismo.core.contract.output.TransactionResult;
 import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.BulkTransactionLineResponse;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.CreateTransactionRequest;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.TransactionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/transactions")
 @Tag(name = "Transactions")
 public class TransactionsController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int BULK_CHUNK_SIZE = 1_000;
+
     private final TransactionManagementPort transactionManagementPort;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    public TransactionsController(TransactionManagementPort transactionManagementPort) {
+    public TransactionsController(TransactionManagementPort transactionManagementPort, ObjectMapper objectMapper, Validator validator) {
         this.transactionManagementPort = transactionManagementPort;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
     @PostMapping
     @Operation(summary = "Create transaction", description = "Creates a transaction for an existing account")
-    public ResponseEntity<TransactionResponse> transaction(@Valid @RequestBody CreateTransactionRequest request) {
+    public ResponseEntity<TransactionResponse> transaction(@Valid @RequestBody CreateTransactionRequest request,
+                                                           @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
-        CreateTransactionCommand createTransactionCommand = CreateTransactionCommand.fromRequest(request);
+        CreateTransactionCommand createTransactionCommand = CreateTransactionCommand.fromRequest(request, idempotencyKey);
 
         TransactionResult transactionResult = transactionManagementPort.saveTransactionAndDischargeDebitBalances(createTransactionCommand);
 
@@ -39,4 +58,42 @@ public class TransactionsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(transactionResponse);
     }
 
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create transactions in bulk",
+            description = "Creates transactions from an NDJSON or JSON array body and streams back the outcome of every line")
+    public ResponseEntity<StreamingResponseBody> bulkTransactions(InputStream body) {
+
+        StreamingResponseBody results = outputStream -> {
+            BulkResponseWriter writer = new BulkResponseWriter(objectMapper, outputStream);
+            try (BulkRequestReader<CreateTransactionRequest, CreateTransactionCommand> reader =
+                         new BulkRequestReader<>(objectMapper, validator, body, CreateTransactionRequest.class, CreateTransactionCommand::fromRequest)) {
+                List<BulkRequestLine<CreateTransactionCommand>> chunk = reader.nextChunk(BULK_CHUNK_SIZE);
+                while (!chunk.isEmpty()) {
+                    writer.writeChunk(saveChunk(chunk));
+                    chunk = reader.nextChunk(BULK_CHUNK_SIZE);
+                }
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(results);
+    }
+
+    private List<BulkTransactionLineResponse> saveChunk(List<BulkRequestLine<CreateTransactionCommand>> chunk) {
+
+        List<BulkRequestLine<CreateTransactionCommand>> parsedLines = chunk.stream().filter(BulkRequestLine::isParsed).toList();
+        List<BulkTransactionResult> bulkResults = parsedLines.isEmpty() ? List.of()
+                : transactionManagementPort.saveTransactions(parsedLines.stream().map(BulkRequestLine::command).toList());
+
+        List<BulkTransactionLineResponse> responses = new ArrayList<>(chunk.size());
+        int parsedIndex = 0;
+        for (BulkRequestLine<CreateTransactionCommand> line : chunk) {
+            if (line.isParsed()) {
+                responses.add(WebResponseMapper.toBulkTransactionLineResponse(line.line(), bulkResults.get(parsedIndex++)));
+            } else {
+                responses.add(WebResponseMapper.toRejectedBulkTransactionLineResponse(line.line(), line.error()));
+            }
+        }
+        return responses;
+    }
 }
@@ -1,8 +1,16 @@
 package com.takeHome.Pismo.infrastructure.adapter.in.web;
 
+import com.takeHome.Pismo.core.contract.output.AccountBalanceResult;
 import com.takeHome.Pismo.core.contract.output.AccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkAccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionHistoryResult;
 import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.AccountBalanceResponse;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.AccountResponse;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.BulkAccountLineResponse;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.BulkTransactionLineResponse;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.TransactionHistoryResponse;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.TransactionResponse;
 
 public class WebResponseMapper {
@@ -15,6 +23,16 @@ public class WebResponseMapper {
                 .build();
     }
 
+    public static AccountBalanceResponse toAccountBalanceResponse(AccountBalanceResult result){
+
+        return AccountBalanceResponse.builder()
+                .accountId(result.accountId())
+                .openDebitTotal(result.openDebitTotal())
+                .availableCredit(result.availableCredit())
+                .lastEventDate(result.lastEventDate())
+                .build();
+    }
+
     public static TransactionResponse toTransactionResponse(TransactionResult result){
 
         return TransactionResponse.builder()
@@ -25,4 +43,55 @@ public class WebResponseMapper {
                 .eventDate(result.eventDate())
                 .build();
     }
+
+    public static TransactionHistoryResponse toTransactionHistoryResponse(TransactionHistoryResult result){
+
+        return TransactionHistoryResponse.of(
+                result.transactions().stream().map(WebResponseMapper::toTransactionResponse).toList(),
+                TransactionCursorCodec.encode(result.nextCursor()));
+    }
+
+    public static BulkTransactionLineResponse toBulkTransactionLineResponse(int line, BulkTransactionResult result){
+
+        if (!result.isAccepted()) {
+            return toRejectedBulkTransactionLineResponse(line, result.error());
+        }
+        return BulkTransactionLineResponse.builder()
+                .line(line)
+                .status(BulkTransactionLineResponse.CREATED)
+                .transactionId(result.transaction().transactionId())
+                .accountId(result.transaction().accountId())
+                .build();
+    }
+
+    public static BulkTransactionLineResponse toRejectedBulkTransactionLineResponse(int line, String error){
+
+        return BulkTransactionLineResponse.builder()
+                .line(line)
+                .status(BulkTransactionLineResponse.REJECTED)
+                .error(error)
+                .build();
+    }
+
+    public static BulkAccountLineResponse toBulkAccountLineResponse(int line, BulkAccountResult result){
+
+        if (!result.isAccepted()) {
+            return toRejectedBulkAccountLineResponse(line, result.error());
+        }
+        return BulkAccountLineResponse.builder()
+                .line(line)
+                .status(BulkTransactionLineResponse.CREATED)
+                .accountId(result.account().accountId())
+                .documentNumber(result.account().documentNumber())
+                .build();
+    }
+
+    public static BulkAccountLineResponse toRejectedBulkAccountLineResponse(int line, String error){
+
+        return BulkAccountLineResponse.builder()
+                .line(line)
+                .status(BulkTransactionLineResponse.REJECTED)
+                .error(error)
+                .build();
+    }
 }
@@ -3,6 +3,8 @@ package com.takeHome.Pismo.infrastructure.adapter.in.web.advice;
 import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
 import com.takeHome.Pismo.core.exception.AccountNotFoundException;
 import com.takeHome.Pismo.core.exception.DuplicateDocumentNumberException;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyConflictException;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyMismatchException;
 import com.takeHome.Pismo.core.exception.PersistenceException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -14,6 +16,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
 import java.util.stream.Collectors;
@@ -61,6 +64,13 @@ public class GlobalExceptionHandler {
                 ex.getMessage(), request);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ProblemDetail handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+
+        return baseProblem(HttpStatus.BAD_REQUEST, "Invalid request",
+                "%s has an invalid value - %s".formatted(ex.getName(), ex.getValue()), request);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ProblemDetail handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
 
@@ -91,6 +101,16 @@ public class GlobalExceptionHandler {
         return baseProblem(HttpStatus.UNPROCESSABLE_ENTITY, "Invalid Transaction", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ProblemDetail handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex, HttpServletRequest request) {
+        return baseProblem(HttpStatus.UNPROCESSABLE_ENTITY, "Invalid Transaction", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ProblemDetail handleIdempotencyKeyConflictException(IdempotencyKeyConflictException ex, HttpServletRequest request) {
+        return baseProblem(HttpStatus.CONFLICT, "Data Persistence Issue: Duplicate Entry", ex.getMessage(), request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleGeneric(Exception ex, HttpServletRequest request) {
 
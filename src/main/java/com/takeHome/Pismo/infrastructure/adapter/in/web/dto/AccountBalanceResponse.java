@@ -0,0 +1,47 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record AccountBalanceResponse(@JsonProperty("account_id") long accountId,
+                                     @JsonProperty("open_debit_total") BigDecimal openDebitTotal,
+                                     @JsonProperty("available_credit") BigDecimal availableCredit,
+                                     @JsonProperty("last_event_date") LocalDateTime lastEventDate) {
+
+    public static class AccountBalanceResponseBuilder {
+        private long accountId;
+        private BigDecimal openDebitTotal;
+        private BigDecimal availableCredit;
+        private LocalDateTime lastEventDate;
+
+        public AccountBalanceResponseBuilder accountId(long accountId){
+            this.accountId = accountId;
+            return this;
+        }
+
+        public AccountBalanceResponseBuilder openDebitTotal(BigDecimal openDebitTotal){
+            this.openDebitTotal = openDebitTotal;
+            return this;
+        }
+
+        public AccountBalanceResponseBuilder availableCredit(BigDecimal availableCredit){
+            this.availableCredit = availableCredit;
+            return this;
+        }
+
+        public AccountBalanceResponseBuilder lastEventDate(LocalDateTime lastEventDate){
+            this.lastEventDate = lastEventDate;
+            return this;
+        }
+
+        public AccountBalanceResponse build(){
+            return new AccountBalanceResponse(accountId, openDebitTotal, availableCredit, lastEventDate);
+        }
+    }
+
+    public static AccountBalanceResponseBuilder builder(){
+        return new AccountBalanceResponseBuilder();
+    }
+}
@@ -0,0 +1,54 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkAccountLineResponse(
+        int line,
+        String status,
+        @JsonProperty("account_id") Long accountId,
+        @JsonProperty("document_number") Long documentNumber,
+        String error) {
+
+    public static class BulkAccountLineResponseBuilder {
+        private int line;
+        private String status;
+        private Long accountId;
+        private Long documentNumber;
+        private String error;
+
+        public BulkAccountLineResponseBuilder line(int line){
+            this.line = line;
+            return this;
+        }
+
+        public BulkAccountLineResponseBuilder status(String status){
+            this.status = status;
+            return this;
+        }
+
+        public BulkAccountLineResponseBuilder accountId(Long accountId){
+            this.accountId = accountId;
+            return this;
+        }
+
+        public BulkAccountLineResponseBuilder documentNumber(Long documentNumber){
+            this.documentNumber = documentNumber;
+            return this;
+        }
+
+        public BulkAccountLineResponseBuilder error(String error){
+            this.error = error;
+            return this;
+        }
+
+        public BulkAccountLineResponse build(){
+            return new BulkAccountLineResponse(line, status, accountId, documentNumber, error);
+        }
+    }
+
+    public static BulkAccountLineResponseBuilder builder(){
+        return new BulkAccountLineResponseBuilder();
+    }
+}
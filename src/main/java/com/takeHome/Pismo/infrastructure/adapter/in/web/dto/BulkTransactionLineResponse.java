@@ -0,0 +1,57 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkTransactionLineResponse(
+        int line,
+        String status,
+        @JsonProperty("transaction_id") Long transactionId,
+        @JsonProperty("account_id") Long accountId,
+        String error) {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    public static class BulkTransactionLineResponseBuilder {
+        private int line;
+        private String status;
+        private Long transactionId;
+        private Long accountId;
+        private String error;
+
+        public BulkTransactionLineResponseBuilder line(int line){
+            this.line = line;
+            return this;
+        }
+
+        public BulkTransactionLineResponseBuilder status(String status){
+            this.status = status;
+            return this;
+        }
+
+        public BulkTransactionLineResponseBuilder transactionId(Long transactionId){
+            this.transactionId = transactionId;
+            return this;
+        }
+
+        public BulkTransactionLineResponseBuilder accountId(Long accountId){
+            this.accountId = accountId;
+            return this;
+        }
+
+        public BulkTransactionLineResponseBuilder error(String error){
+            this.error = error;
+            return this;
+        }
+
+        public BulkTransactionLineResponse build(){
+            return new BulkTransactionLineResponse(line, status, transactionId, accountId, error);
+        }
+    }
+
+    public static BulkTransactionLineResponseBuilder builder(){
+        return new BulkTransactionLineResponseBuilder();
+    }
+}
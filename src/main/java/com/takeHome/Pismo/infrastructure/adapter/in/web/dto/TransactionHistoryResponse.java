@@ -0,0 +1,16 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransactionHistoryResponse(
+        List<TransactionResponse> transactions,
+        @JsonProperty("next_cursor") String nextCursor) {
+
+    public static TransactionHistoryResponse of(List<TransactionResponse> transactions, String nextCursor) {
+        return new TransactionHistoryResponse(transactions, nextCursor);
+    }
+}
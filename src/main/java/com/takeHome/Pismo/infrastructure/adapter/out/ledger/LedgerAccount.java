@@ -0,0 +1,84 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+import com.takeHome.Pismo.core.domain.model.Money;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Rows change only under the lock; the totals are also read without it.
+final class LedgerAccount {
+
+    private final long accountId;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, LedgerEntry> openEntries = new HashMap<>();
+    private final NavigableSet<LedgerEntry> openDebits = new TreeSet<>(LedgerEntry.EVENT_ORDER);
+    private final NavigableSet<LedgerEntry> openCredits = new TreeSet<>(LedgerEntry.EVENT_ORDER);
+    private volatile long openDebitTotal;
+    private volatile long availableCredit;
+    private volatile LocalDateTime lastEventDate;
+
+    LedgerAccount(long accountId) {
+        this.accountId = accountId;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    LedgerEntry openEntry(long transactionId) {
+        return openEntries.get(transactionId);
+    }
+
+    NavigableSet<LedgerEntry> openEntries(boolean payments) {
+        return payments ? openCredits : openDebits;
+    }
+
+    long openDebitTotal() {
+        return openDebitTotal;
+    }
+
+    long availableCredit() {
+        return availableCredit;
+    }
+
+    void apply(LedgerEntry entry) {
+
+        LedgerEntry previous = openEntries.remove(entry.transactionId());
+        if (previous != null) {
+            openEntries(previous.isPayment()).remove(previous);
+            openDebitTotal -= previous.openDebit();
+            availableCredit -= previous.credit();
+        }
+        if (entry.isOpen()) {
+            openEntries.put(entry.transactionId(), entry);
+            openEntries(entry.isPayment()).add(entry);
+        }
+        openDebitTotal += entry.openDebit();
+        availableCredit += entry.credit();
+        restoreLastEventDate(entry.eventDate());
+    }
+
+    void restoreLastEventDate(LocalDateTime eventDate) {
+        if (lastEventDate == null || eventDate.isAfter(lastEventDate)) {
+            lastEventDate = eventDate;
+        }
+    }
+
+    AccountBalance balance() {
+        return AccountBalance.builder()
+                .accountId(accountId)
+                .openDebitTotal(Money.ofMinor(openDebitTotal).toBigDecimal())
+                .availableCredit(Money.ofMinor(availableCredit).toBigDecimal())
+                .lastEventDate(lastEventDate)
+                .build();
+    }
+}
@@ -0,0 +1,435 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.Money;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
+import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_EXISTS_EXCEPTION_MSG;
+
+// In-memory open rows backed by the journal; a record counts only if its LEDGER_COMMITS row commits. Must be the only writer
+// of TRANSACTIONS and ACCOUNT_BALANCES.
+public class LedgerEngine implements TransactionPersistencePort, AccountBalancePersistencePort, AutoCloseable {
+
+    private static final int CHECKPOINT_BATCH_SIZE = 500;
+    private static final String COLUMNS = "TRANSACTION_ID, ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE";
+    private static final Comparator<Transaction> EVENT_ORDER =
+            Comparator.comparing(Transaction::eventDate).thenComparing(Transaction::transactionId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate checkpointTransaction;
+    private final TransactionTemplate outcomeTransaction;
+    private final TransactionPersistencePort storedTransactions;
+    private final AccountRegistryPort accountRegistryPort;
+    private final LedgerJournal journal;
+    private final Map<Long, LedgerAccount> accounts = new ConcurrentHashMap<>();
+    private final Map<Long, LedgerEntry> pending = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    // Commits hold the read side while appending and applying; a checkpoint takes the write side.
+    private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+    private final AtomicLong lastTransactionId = new AtomicLong();
+    private final Timer checkpointTimer;
+
+    public LedgerEngine(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        TransactionPersistencePort storedTransactions, AccountRegistryPort accountRegistryPort,
+                        LedgerJournal journal, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointTransaction = new TransactionTemplate(transactionManager);
+        this.outcomeTransaction = new TransactionTemplate(transactionManager);
+        this.outcomeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.outcomeTransaction.setReadOnly(true);
+        this.storedTransactions = storedTransactions;
+        this.accountRegistryPort = accountRegistryPort;
+        this.journal = journal;
+        this.checkpointTimer = Timer.builder("pismo.ledger.checkpoint")
+                .description("Time to copy the rows committed since the last checkpoint to MySQL")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("pismo.ledger.pending.entries", pending, Map::size)
+                .description("Rows committed to the journal and not yet checkpointed")
+                .register(meterRegistry);
+    }
+
+    public void recover() {
+
+        long checkpointLsn = jdbcTemplate.queryForList("SELECT LSN FROM LEDGER_CHECKPOINT WHERE CHECKPOINT_ID = 1", Long.class)
+                .stream().findFirst().orElse(0L);
+
+        jdbcTemplate.query("SELECT ACCOUNT_ID, LAST_EVENT_DATE FROM ACCOUNT_BALANCES WHERE LAST_EVENT_DATE IS NOT NULL",
+                (RowCallbackHandler) rs -> account(rs.getLong("ACCOUNT_ID"))
+                        .restoreLastEventDate(rs.getTimestamp("LAST_EVENT_DATE").toLocalDateTime()));
+
+        jdbcTemplate.query("SELECT " + COLUMNS + " FROM TRANSACTIONS WHERE BALANCE <> 0", (RowCallbackHandler) rs -> {
+            LedgerEntry entry = new LedgerEntry(rs.getLong("TRANSACTION_ID"), rs.getLong("ACCOUNT_ID"), rs.getInt("OPERATIONTYPE_ID"),
+                    Money.of(rs.getBigDecimal("AMOUNT")), Money.of(rs.getBigDecimal("BALANCE")),
+                    rs.getTimestamp("EVENT_DATE").toLocalDateTime());
+            account(entry.accountId()).apply(entry);
+        });
+
+        Long lastStoredId = jdbcTemplate.queryForObject("SELECT GREATEST(COALESCE((SELECT MAX(TRANSACTION_ID) FROM TRANSACTIONS), 0), " +
+                "COALESCE((SELECT MAX(TRANSACTION_ID) FROM TRANSACTIONS_ARCHIVE), 0))", Long.class);
+        lastTransactionId.set(Objects.requireNonNullElse(lastStoredId, 0L));
+
+        // A record without its LEDGER_COMMITS row never committed; only its ids are kept.
+        Set<Long> committedLsns = Set.copyOf(jdbcTemplate.queryForList("SELECT LSN FROM LEDGER_COMMITS WHERE LSN > ?", Long.class,
+                checkpointLsn));
+        journal.replay(checkpointLsn, (entries, lsn) -> entries.forEach(entry -> {
+            lastTransactionId.accumulateAndGet(entry.transactionId(), Math::max);
+            if (committedLsns.contains(lsn)) {
+                account(entry.accountId()).apply(entry);
+                pending.put(entry.transactionId(), entry);
+            }
+        }));
+        journal.continueAfter(committedLsns.stream().reduce(checkpointLsn, Math::max));
+    }
+
+    @Scheduled(fixedDelayString = "${pismo.ledger.checkpoint-interval:PT1S}",
+            initialDelayString = "${pismo.ledger.checkpoint-interval:PT1S}")
+    public synchronized int checkpoint() {
+
+        List<LedgerEntry> entries;
+        List<AccountBalance> balances;
+        long lsn;
+        checkpointLock.writeLock().lock();
+        try {
+            entries = List.copyOf(pending.values());
+            lsn = inFlight.isEmpty() ? journal.lastLsn() : inFlight.first() - 1;
+            balances = entries.stream().map(LedgerEntry::accountId).distinct()
+                    .map(accountId -> accounts.get(accountId).balance())
+                    .toList();
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        checkpointTimer.record(() -> checkpointTransaction.executeWithoutResult(status -> store(entries, balances, lsn)));
+
+        entries.forEach(entry -> pending.remove(entry.transactionId(), entry));
+        journal.truncateThrough(lsn);
+        return entries.size();
+    }
+
+    private void store(List<LedgerEntry> entries, List<AccountBalance> balances, long lsn) {
+
+        jdbcTemplate.batchUpdate("INSERT INTO TRANSACTIONS (" + COLUMNS + ") VALUES (?,?,?,?,?,?) " +
+                "ON DUPLICATE KEY UPDATE BALANCE = VALUES(BALANCE)", entries, CHECKPOINT_BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.transactionId());
+            ps.setLong(2, entry.accountId());
+            ps.setInt(3, entry.operationTypeId());
+            ps.setBigDecimal(4, entry.amount().toBigDecimal());
+            ps.setBigDecimal(5, entry.balance().toBigDecimal());
+            ps.setTimestamp(6, Timestamp.valueOf(entry.eventDate()));
+        });
+
+        jdbcTemplate.batchUpdate("INSERT INTO ACCOUNT_BALANCES (ACCOUNT_ID, OPEN_DEBIT_TOTAL, AVAILABLE_CREDIT, LAST_EVENT_DATE) VALUES (?,?,?,?) " +
+                "ON DUPLICATE KEY UPDATE OPEN_DEBIT_TOTAL = VALUES(OPEN_DEBIT_TOTAL), AVAILABLE_CREDIT = VALUES(AVAILABLE_CREDIT), " +
+                "LAST_EVENT_DATE = VALUES(LAST_EVENT_DATE)", balances, CHECKPOINT_BATCH_SIZE, (ps, balance) -> {
+            ps.setLong(1, balance.accountId());
+            ps.setBigDecimal(2, balance.openDebitTotal());
+            ps.setBigDecimal(3, balance.availableCredit());
+            ps.setTimestamp(4, balance.lastEventDate() == null ? null : Timestamp.valueOf(balance.lastEventDate()));
+        });
+
+        jdbcTemplate.update("UPDATE LEDGER_CHECKPOINT SET LSN = ? WHERE CHECKPOINT_ID = 1", lsn);
+        jdbcTemplate.update("DELETE FROM LEDGER_COMMITS WHERE LSN <= ?", lsn);
+    }
+
+    @Override
+    public void close() {
+        try {
+            checkpoint();
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Override
+    public void lockAccount(long accountId) {
+        runInTransaction(tx -> tx.lock(accountId, knownAccount(accountId)));
+    }
+
+    @Override
+    public BalanceBearingTransaction save(BalanceBearingTransaction transaction) {
+        return inTransaction(tx -> stageNew(tx, transaction));
+    }
+
+    @Override
+    public List<BalanceBearingTransaction> saveAll(List<? extends BalanceBearingTransaction> transactions) {
+        return inTransaction(tx -> transactions.stream().map(transaction -> stageNew(tx, transaction)).toList());
+    }
+
+    private BalanceBearingTransaction stageNew(LedgerTransaction tx, BalanceBearingTransaction balanceBearingTransaction) {
+
+        Transaction transaction = balanceBearingTransaction.transaction();
+        tx.lock(transaction.accountId(), knownAccount(transaction.accountId()));
+        LocalDateTime eventDate = Objects.requireNonNullElseGet(transaction.eventDate(), LocalDateTime::now).truncatedTo(ChronoUnit.MICROS);
+        LedgerEntry entry = new LedgerEntry(lastTransactionId.incrementAndGet(), transaction.accountId(), transaction.operationTypeId(),
+                Money.of(transaction.amount()), balanceBearingTransaction.monetaryBalance(), eventDate);
+        tx.stage(entry);
+        return entry.toBalanceBearingTransaction();
+    }
+
+    @Override
+    public List<BalanceBearingTransaction> fetchDebitTransactions(long accountId) {
+        return fetchDebitTransactions(accountId, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<BalanceBearingTransaction> fetchDebitTransactions(long accountId, TransactionCursor after, int limit) {
+        return fetchOpenEntries(accountId, false, after, limit);
+    }
+
+    @Override
+    public List<BalanceBearingTransaction> fetchCreditTransactions(long accountId) {
+        return fetchOpenEntries(accountId, true, null, Integer.MAX_VALUE);
+    }
+
+    private List<BalanceBearingTransaction> fetchOpenEntries(long accountId, boolean payments, TransactionCursor after, int limit) {
+        LedgerAccount account = accounts.get(accountId);
+        if (account == null) {
+            return List.of();
+        }
+        return inTransaction(tx -> {
+            tx.lock(accountId, account);
+            return tx.openEntries(accountId, account, payments, after, limit);
+        });
+    }
+
+    @Override
+    public void updateTransaction(BalanceBearingTransaction transaction) {
+        updateBalances(List.of(transaction));
+    }
+
+    @Override
+    public void updateBalances(Collection<? extends BalanceBearingTransaction> transactions) {
+
+        runInTransaction(tx -> {
+            for (BalanceBearingTransaction transaction : transactions) {
+                if (transaction.isDirty()) {
+                    long accountId = transaction.transaction().accountId();
+                    tx.lock(accountId, knownAccount(accountId));
+                    tx.stage(LedgerEntry.from(transaction));
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<Transaction> fetchTransactions(GetTransactionHistoryQuery query, int limit) {
+
+        // Read before the stored page, so a row checkpointed in between is found in one of them.
+        List<LedgerEntry> unstored = pendingEntries(query.accountId(), query.operationType(), query.from(), query.to(), query.after());
+        List<Transaction> stored = storedTransactions.fetchTransactions(query, limit);
+        if (unstored.isEmpty()) {
+            return stored;
+        }
+
+        Set<Long> unstoredIds = unstored.stream().map(LedgerEntry::transactionId).collect(Collectors.toSet());
+        List<Transaction> merged = new ArrayList<>(stored.size() + unstored.size());
+        stored.stream().filter(transaction -> !unstoredIds.contains(transaction.transactionId())).forEach(merged::add);
+        unstored.forEach(entry -> merged.add(entry.transaction()));
+        merged.sort(EVENT_ORDER);
+        return List.copyOf(merged.subList(0, Math.min(limit, merged.size())));
+    }
+
+    @Override
+    public void streamTransactions(ExportTransactionsQuery query, Consumer<Transaction> consumer) {
+
+        List<LedgerEntry> unstored = pendingEntries(query.accountId(), query.operationType(), query.from(), query.to(), null);
+        Set<Long> unstoredIds = unstored.stream().map(LedgerEntry::transactionId).collect(Collectors.toSet());
+        int[] next = {0};
+
+        storedTransactions.streamTransactions(query, transaction -> {
+            while (next[0] < unstored.size() && EVENT_ORDER.compare(unstored.get(next[0]).transaction(), transaction) < 0) {
+                consumer.accept(unstored.get(next[0]++).transaction());
+            }
+            if (!unstoredIds.contains(transaction.transactionId())) {
+                consumer.accept(transaction);
+            }
+        });
+        while (next[0] < unstored.size()) {
+            consumer.accept(unstored.get(next[0]++).transaction());
+        }
+    }
+
+    private List<LedgerEntry> pendingEntries(long accountId, OperationType operationType, LocalDateTime from, LocalDateTime to,
+                                             TransactionCursor after) {
+        return pending.values().stream()
+                .filter(entry -> entry.accountId() == accountId)
+                .filter(entry -> operationType == null || entry.operationTypeId() == operationType.getId())
+                .filter(entry -> from == null || !entry.eventDate().isBefore(from))
+                .filter(entry -> to == null || entry.eventDate().isBefore(to))
+                .filter(entry -> after == null || entry.eventDate().isAfter(after.eventDate())
+                        || (entry.eventDate().isEqual(after.eventDate()) && entry.transactionId() > after.transactionId()))
+                .sorted(LedgerEntry.EVENT_ORDER)
+                .toList();
+    }
+
+    @Override
+    public Optional<AccountBalance> retrieve(long accountId) {
+
+        if (!accountRegistryPort.isKnown(accountId)) {
+            return Optional.empty();
+        }
+        LedgerAccount account = accounts.get(accountId);
+        return Optional.of(account == null ? AccountBalance.builder().accountId(accountId).build() : account.balance());
+    }
+
+    @Override
+    public boolean hasOpenDebits(long accountId) {
+        LedgerAccount account = accounts.get(accountId);
+        LedgerTransaction tx = boundTransaction();
+        return account != null && account.openDebitTotal() + (tx == null ? 0L : tx.openDebitDelta(accountId, account)) > 0L;
+    }
+
+    @Override
+    public boolean hasAvailableCredit(long accountId) {
+        LedgerAccount account = accounts.get(accountId);
+        LedgerTransaction tx = boundTransaction();
+        return account != null && account.availableCredit() + (tx == null ? 0L : tx.creditDelta(accountId, account)) > 0L;
+    }
+
+    // Before the caller's DB commit: the LEDGER_COMMITS row commits or rolls back with it.
+    void prepare(LedgerTransaction tx) {
+
+        List<LedgerEntry> entries = tx.stagedEntries();
+        if (entries.isEmpty()) {
+            return;
+        }
+        long lsn;
+        checkpointLock.readLock().lock();
+        try {
+            lsn = journal.append(entries);
+            inFlight.add(lsn);
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+        tx.prepared(lsn);
+        journal.awaitDurable(lsn);
+        jdbcTemplate.update("INSERT INTO LEDGER_COMMITS (LSN) VALUES (?)", lsn);
+    }
+
+    // After completion; an unknown outcome is read back from LEDGER_COMMITS, else the record stays in flight for recovery.
+    void complete(LedgerTransaction tx, int status) {
+
+        long lsn = tx.preparedLsn();
+        if (lsn == 0L) {
+            return;
+        }
+        boolean committed = status == TransactionSynchronization.STATUS_COMMITTED
+                || (status == TransactionSynchronization.STATUS_UNKNOWN && isCommitted(lsn));
+        checkpointLock.readLock().lock();
+        try {
+            if (committed) {
+                for (LedgerEntry entry : tx.stagedEntries()) {
+                    accounts.get(entry.accountId()).apply(entry);
+                    pending.put(entry.transactionId(), entry);
+                }
+            }
+            inFlight.remove(lsn);
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+    }
+
+    private boolean isCommitted(long lsn) {
+        return Boolean.TRUE.equals(outcomeTransaction.execute(status ->
+                !jdbcTemplate.queryForList("SELECT LSN FROM LEDGER_COMMITS WHERE LSN = ?", Long.class, lsn).isEmpty()));
+    }
+
+    void release(LedgerTransaction tx) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(this);
+        tx.unlockAll();
+    }
+
+    private void runInTransaction(Consumer<LedgerTransaction> work) {
+        inTransaction(tx -> {
+            work.accept(tx);
+            return null;
+        });
+    }
+
+    private <T> T inTransaction(Function<LedgerTransaction, T> work) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            LedgerTransaction tx = boundTransaction();
+            if (tx == null) {
+                tx = new LedgerTransaction(this);
+                TransactionSynchronizationManager.bindResource(this, tx);
+                TransactionSynchronizationManager.registerSynchronization(tx);
+            }
+            return work.apply(tx);
+        }
+        LedgerTransaction tx = new LedgerTransaction(this);
+        try {
+            T result = work.apply(tx);
+            try {
+                prepare(tx);
+            } catch (RuntimeException ex) {
+                complete(tx, TransactionSynchronization.STATUS_ROLLED_BACK);
+                throw ex;
+            }
+            complete(tx, TransactionSynchronization.STATUS_COMMITTED);
+            return result;
+        } finally {
+            tx.unlockAll();
+        }
+    }
+
+    private LedgerTransaction boundTransaction() {
+        return (LedgerTransaction) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private LedgerAccount knownAccount(long accountId) {
+        if (!accountRegistryPort.isKnown(accountId)) {
+            throw new AccountDoesNotExistException(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(accountId));
+        }
+        return account(accountId);
+    }
+
+    private LedgerAccount account(long accountId) {
+        return accounts.computeIfAbsent(accountId, LedgerAccount::new);
+    }
+}
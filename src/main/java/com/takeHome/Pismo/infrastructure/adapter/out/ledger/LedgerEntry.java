@@ -0,0 +1,62 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.Money;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+// Full row image rather than a delta, so replaying a record twice is harmless.
+record LedgerEntry(long transactionId,
+                   long accountId,
+                   int operationTypeId,
+                   Money amount,
+                   Money balance,
+                   LocalDateTime eventDate) {
+
+    static final Comparator<LedgerEntry> EVENT_ORDER =
+            Comparator.comparing(LedgerEntry::eventDate).thenComparingLong(LedgerEntry::transactionId);
+
+    static LedgerEntry from(BalanceBearingTransaction balanceBearingTransaction) {
+        Transaction transaction = balanceBearingTransaction.transaction();
+        return new LedgerEntry(transaction.transactionId(), transaction.accountId(), transaction.operationTypeId(),
+                Money.of(transaction.amount()), balanceBearingTransaction.monetaryBalance(), transaction.eventDate());
+    }
+
+    LedgerEntry withBalance(Money balance) {
+        return new LedgerEntry(transactionId, accountId, operationTypeId, amount, balance, eventDate);
+    }
+
+    boolean isPayment() {
+        return operationTypeId == OperationType.PAYMENT.getId();
+    }
+
+    boolean isOpen() {
+        return !balance.isZero();
+    }
+
+    long openDebit() {
+        return isPayment() ? 0L : -balance.minorUnits();
+    }
+
+    long credit() {
+        return isPayment() ? balance.minorUnits() : 0L;
+    }
+
+    Transaction transaction() {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .accountId(accountId)
+                .operationTypeId(operationTypeId)
+                .amount(amount.toBigDecimal())
+                .eventDate(eventDate)
+                .build();
+    }
+
+    BalanceBearingTransaction toBalanceBearingTransaction() {
+        return new ExecutableTransaction(transaction(), balance);
+    }
+}
@@ -0,0 +1,355 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.domain.model.Money;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjLongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_LEDGER_SEGMENT_SIZE_MSG;
+import static com.takeHome.Pismo.core.Constants.LEDGER_JOURNAL_CLOSED_MSG;
+import static com.takeHome.Pismo.core.Constants.LEDGER_JOURNAL_INTERRUPTED_MSG;
+import static com.takeHome.Pismo.core.Constants.LEDGER_RECORD_TOO_LARGE_MSG;
+
+// Write-ahead log over memory-mapped segments named after their first LSN; commits waiting during one fsync share the next.
+public class LedgerJournal implements AutoCloseable {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("ledger-(\\d{20})\\.journal");
+    // Record layout: length of the body, then the body (LSN, entry count, entries), then a CRC32C of the body.
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int BODY_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int ENTRY_SIZE = 5 * Long.BYTES + Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int MIN_SEGMENT_SIZE = LENGTH_SIZE + BODY_HEADER_SIZE + ENTRY_SIZE + CHECKSUM_SIZE;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition syncRequested = lock.newCondition();
+    private final Condition synced = lock.newCondition();
+    private final DistributionSummary syncBatchSizes;
+    private final Thread syncer;
+
+    private MappedByteBuffer segment;
+    private int position;
+    private int syncedPosition;
+    private long lastLsn;
+    private long durableLsn;
+    private boolean syncWanted;
+    private boolean closed;
+    private RuntimeException syncFailure;
+
+    public LedgerJournal(Path directory, int segmentSize, MeterRegistry meterRegistry) {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException(INVALID_LEDGER_SEGMENT_SIZE_MSG.formatted(segmentSize, MIN_SEGMENT_SIZE));
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncBatchSizes = DistributionSummary.builder("pismo.ledger.journal.sync.batch")
+                .description("Journal records made durable by one fsync")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        open();
+        this.syncer = Thread.ofPlatform().name("ledger-journal-sync").daemon().start(this::sync);
+    }
+
+    public long append(List<LedgerEntry> entries) {
+
+        int recordSize = LENGTH_SIZE + BODY_HEADER_SIZE + entries.size() * ENTRY_SIZE + CHECKSUM_SIZE;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException(LEDGER_JOURNAL_CLOSED_MSG, syncFailure);
+            }
+            if (position + recordSize > segment.capacity()) {
+                if (recordSize > segmentSize) {
+                    throw new IllegalArgumentException(LEDGER_RECORD_TOO_LARGE_MSG.formatted(entries.size(), segmentSize));
+                }
+                rollSegment();
+            }
+            long lsn = lastLsn + 1;
+            writeRecord(segment.slice(position, recordSize), lsn, entries);
+            position += recordSize;
+            lastLsn = lsn;
+            return lsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void awaitDurable(long lsn) {
+
+        lock.lock();
+        try {
+            while (durableLsn < lsn) {
+                if (closed) {
+                    throw new IllegalStateException(LEDGER_JOURNAL_CLOSED_MSG, syncFailure);
+                }
+                syncWanted = true;
+                syncRequested.signal();
+                synced.await();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(LEDGER_JOURNAL_INTERRUPTED_MSG.formatted(lsn), ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastLsn() {
+        lock.lock();
+        try {
+            return lastLsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void continueAfter(long lsn) {
+
+        lock.lock();
+        try {
+            if (lastLsn < lsn) {
+                segment.force();
+                startSegment(lsn + 1);
+                lastLsn = lsn;
+                durableLsn = lsn;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void replay(long afterLsn, ObjLongConsumer<List<LedgerEntry>> consumer) {
+
+        List<Map.Entry<Long, Path>> replayed = new ArrayList<>();
+        lock.lock();
+        try {
+            Long first = segments.floorKey(afterLsn + 1);
+            replayed.addAll((first == null ? segments : segments.tailMap(first, true)).entrySet());
+        } finally {
+            lock.unlock();
+        }
+        for (Map.Entry<Long, Path> entry : replayed) {
+            readRecords(map(entry.getValue(), FileChannel.MapMode.READ_ONLY), (entries, lsn) -> {
+                if (lsn > afterLsn) {
+                    consumer.accept(entries, lsn);
+                }
+            });
+        }
+    }
+
+    public void truncateThrough(long lsn) {
+
+        lock.lock();
+        try {
+            while (segments.size() > 1 && segments.higherKey(segments.firstKey()) <= lsn + 1) {
+                Files.deleteIfExists(segments.pollFirstEntry().getValue());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+
+        lock.lock();
+        try {
+            closed = true;
+            syncRequested.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            syncer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            segment.force();
+            durableLsn = lastLsn;
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sync() {
+
+        lock.lock();
+        try {
+            while (!closed) {
+                if (!syncWanted) {
+                    syncRequested.await();
+                    continue;
+                }
+                syncWanted = false;
+                long target = lastLsn;
+                MappedByteBuffer buffer = segment;
+                int from = syncedPosition;
+                int to = position;
+                lock.unlock();
+                try {
+                    buffer.force(from, to - from);
+                } finally {
+                    lock.lock();
+                }
+                if (buffer == segment) {
+                    syncedPosition = Math.max(syncedPosition, to);
+                }
+                if (target > durableLsn) {
+                    syncBatchSizes.record(target - durableLsn);
+                    durableLsn = target;
+                }
+                synced.signalAll();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            // A failed fsync leaves the page cache in an unknown state; refuse further commits rather than acknowledge them.
+            syncFailure = ex;
+            closed = true;
+        } finally {
+            synced.signalAll();
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.forEach(path -> {
+                    Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+                    if (matcher.matches()) {
+                        segments.put(Long.parseLong(matcher.group(1)), path);
+                    }
+                });
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (segments.isEmpty()) {
+            startSegment(1L);
+            return;
+        }
+        Map.Entry<Long, Path> last = segments.lastEntry();
+        segment = map(last.getValue(), FileChannel.MapMode.READ_WRITE);
+        lastLsn = last.getKey() - 1;
+        position = readRecords(segment, (entries, lsn) -> lastLsn = lsn);
+        syncedPosition = position;
+        durableLsn = lastLsn;
+    }
+
+    private void rollSegment() {
+        segment.force();
+        durableLsn = lastLsn;
+        synced.signalAll();
+        startSegment(lastLsn + 1);
+    }
+
+    private void startSegment(long firstLsn) {
+        Path path = directory.resolve("ledger-%020d.journal".formatted(firstLsn));
+        segment = map(path, FileChannel.MapMode.READ_WRITE);
+        segments.put(firstLsn, path);
+        position = 0;
+        syncedPosition = 0;
+    }
+
+    private MappedByteBuffer map(Path path, FileChannel.MapMode mode) {
+        try (FileChannel channel = mode == FileChannel.MapMode.READ_ONLY
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+            long size = channel.size() > 0 ? channel.size() : segmentSize;
+            return channel.map(mode, 0, size);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeRecord(ByteBuffer record, long lsn, List<LedgerEntry> entries) {
+
+        int bodySize = record.capacity() - LENGTH_SIZE - CHECKSUM_SIZE;
+        record.putInt(bodySize);
+        record.putLong(lsn);
+        record.putInt(entries.size());
+        for (LedgerEntry entry : entries) {
+            record.putLong(entry.transactionId());
+            record.putLong(entry.accountId());
+            record.putInt(entry.operationTypeId());
+            record.putLong(entry.amount().minorUnits());
+            record.putLong(entry.balance().minorUnits());
+            record.putLong(toEpochMicros(entry.eventDate()));
+        }
+        record.putInt(checksum(record.slice(LENGTH_SIZE, bodySize)));
+    }
+
+    // Returns the offset just past the last intact record.
+    private static int readRecords(ByteBuffer segment, ObjLongConsumer<List<LedgerEntry>> consumer) {
+
+        int offset = 0;
+        while (offset + LENGTH_SIZE + BODY_HEADER_SIZE + CHECKSUM_SIZE <= segment.capacity()) {
+            int bodySize = segment.getInt(offset);
+            if (bodySize < BODY_HEADER_SIZE || offset + LENGTH_SIZE + bodySize + CHECKSUM_SIZE > segment.capacity()) {
+                break;
+            }
+            ByteBuffer body = segment.slice(offset + LENGTH_SIZE, bodySize);
+            if (checksum(body) != segment.getInt(offset + LENGTH_SIZE + bodySize)) {
+                break;
+            }
+            long lsn = body.getLong();
+            int entryCount = body.getInt();
+            List<LedgerEntry> entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                entries.add(new LedgerEntry(body.getLong(), body.getLong(), body.getInt(), Money.ofMinor(body.getLong()),
+                        Money.ofMinor(body.getLong()), fromEpochMicros(body.getLong())));
+            }
+            consumer.accept(entries, lsn);
+            offset += LENGTH_SIZE + bodySize + CHECKSUM_SIZE;
+        }
+        return offset;
+    }
+
+    private static int checksum(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static long toEpochMicros(LocalDateTime eventDate) {
+        return eventDate.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + eventDate.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,121 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.Money;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Ledger writes of one Spring transaction: journaled before its DB commit, applied after it. Touched accounts stay locked until then.
+final class LedgerTransaction implements TransactionSynchronization {
+
+    private final LedgerEngine engine;
+    private final Map<Long, LedgerEntry> staged = new LinkedHashMap<>();
+    private final Map<Long, LedgerAccount> lockedAccounts = new LinkedHashMap<>();
+    private long preparedLsn;
+
+    LedgerTransaction(LedgerEngine engine) {
+        this.engine = engine;
+    }
+
+    void lock(long accountId, LedgerAccount account) {
+        if (!lockedAccounts.containsKey(accountId)) {
+            account.lock();
+            lockedAccounts.put(accountId, account);
+        }
+    }
+
+    void stage(LedgerEntry entry) {
+        staged.put(entry.transactionId(), entry);
+    }
+
+    List<LedgerEntry> stagedEntries() {
+        return List.copyOf(staged.values());
+    }
+
+    void prepared(long lsn) {
+        preparedLsn = lsn;
+    }
+
+    long preparedLsn() {
+        return preparedLsn;
+    }
+
+    List<BalanceBearingTransaction> openEntries(long accountId, LedgerAccount account, boolean payments, TransactionCursor after,
+                                                int limit) {
+
+        Iterable<LedgerEntry> committed = account.openEntries(payments);
+        LedgerEntry probe = null;
+        if (after != null) {
+            probe = new LedgerEntry(after.transactionId(), accountId, 0, Money.ZERO, Money.ZERO, after.eventDate());
+            committed = account.openEntries(payments).tailSet(probe, false);
+        }
+
+        List<LedgerEntry> page = new ArrayList<>();
+        for (LedgerEntry entry : committed) {
+            if (page.size() == limit) {
+                break;
+            }
+            LedgerEntry current = staged.getOrDefault(entry.transactionId(), entry);
+            if (current.isOpen()) {
+                page.add(current);
+            }
+        }
+        for (LedgerEntry entry : staged.values()) {
+            if (entry.accountId() == accountId && entry.isPayment() == payments && entry.isOpen()
+                    && account.openEntry(entry.transactionId()) == null
+                    && (probe == null || LedgerEntry.EVENT_ORDER.compare(entry, probe) > 0)) {
+                page.add(entry);
+            }
+        }
+        page.sort(LedgerEntry.EVENT_ORDER);
+        return page.stream().limit(limit).map(LedgerEntry::toBalanceBearingTransaction).toList();
+    }
+
+    long openDebitDelta(long accountId, LedgerAccount account) {
+        long delta = 0L;
+        for (LedgerEntry entry : staged.values()) {
+            if (entry.accountId() == accountId) {
+                LedgerEntry previous = account.openEntry(entry.transactionId());
+                delta += entry.openDebit() - (previous == null ? 0L : previous.openDebit());
+            }
+        }
+        return delta;
+    }
+
+    long creditDelta(long accountId, LedgerAccount account) {
+        long delta = 0L;
+        for (LedgerEntry entry : staged.values()) {
+            if (entry.accountId() == accountId) {
+                LedgerEntry previous = account.openEntry(entry.transactionId());
+                delta += entry.credit() - (previous == null ? 0L : previous.credit());
+            }
+        }
+        return delta;
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        engine.prepare(this);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        try {
+            engine.complete(this, status);
+        } finally {
+            engine.release(this);
+        }
+    }
+
+    void unlockAll() {
+        lockedAccounts.values().forEach(LedgerAccount::unlock);
+        lockedAccounts.clear();
+        staged.clear();
+        preparedLsn = 0L;
+    }
+}
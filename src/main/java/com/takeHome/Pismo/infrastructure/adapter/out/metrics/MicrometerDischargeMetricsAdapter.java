@@ -0,0 +1,28 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.metrics;
+
+import com.takeHome.Pismo.core.domain.port.out.DischargeMetricsPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MicrometerDischargeMetricsAdapter implements DischargeMetricsPort {
+
+    private final DistributionSummary debitsScanned;
+    private final DistributionSummary debitsTouched;
+
+    public MicrometerDischargeMetricsAdapter(MeterRegistry meterRegistry) {
+        this.debitsScanned = DistributionSummary.builder("pismo.payment.debits.scanned")
+                .description("Open debits read from the database to discharge one payment")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.debitsTouched = DistributionSummary.builder("pismo.payment.debits.touched")
+                .description("Debit balances changed by one payment")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordPaymentDischarge(int debitsScanned, int debitsTouched) {
+        this.debitsScanned.record(debitsScanned);
+        this.debitsTouched.record(debitsTouched);
+    }
+}
@@ -0,0 +1,68 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public class AccountBalancePersistenceAdapter implements AccountBalancePersistencePort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<AccountBalance> accountBalanceRowMapper = (rs, rowNum) ->
+            AccountBalance.builder()
+                    .accountId(rs.getLong("ACCOUNT_ID"))
+                    .openDebitTotal(rs.getBigDecimal("OPEN_DEBIT_TOTAL"))
+                    .availableCredit(rs.getBigDecimal("AVAILABLE_CREDIT"))
+                    .lastEventDate(convertToLocalDate(rs.getTimestamp("LAST_EVENT_DATE")))
+                    .build();
+
+    public AccountBalancePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private LocalDateTime convertToLocalDate(Timestamp eventDate) {
+        if(eventDate != null){
+            return eventDate.toLocalDateTime();
+        }
+        return null;
+    }
+
+    @Override
+    public Optional<AccountBalance> retrieve(long accountId) {
+
+        // Accounts without any transaction have no projection row yet and report a zero balance.
+        String sql = "SELECT a.ACCOUNT_ID, b.OPEN_DEBIT_TOTAL, b.AVAILABLE_CREDIT, b.LAST_EVENT_DATE FROM ACCOUNTS a " +
+                "LEFT JOIN ACCOUNT_BALANCES b ON b.ACCOUNT_ID = a.ACCOUNT_ID WHERE a.ACCOUNT_ID = ?";
+
+        List<AccountBalance> balances = jdbcTemplate.query(sql, accountBalanceRowMapper, accountId);
+
+        return balances.stream().findFirst();
+    }
+
+    @Override
+    public boolean hasOpenDebits(long accountId) {
+
+        String sql = "SELECT OPEN_DEBIT_TOTAL FROM ACCOUNT_BALANCES WHERE ACCOUNT_ID = ?";
+
+        List<BigDecimal> openDebitTotals = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getBigDecimal("OPEN_DEBIT_TOTAL"), accountId);
+
+        return openDebitTotals.stream().findFirst().map(total -> total.signum() > 0).orElse(false);
+    }
+
+    @Override
+    public boolean hasAvailableCredit(long accountId) {
+
+        String sql = "SELECT AVAILABLE_CREDIT FROM ACCOUNT_BALANCES WHERE ACCOUNT_ID = ?";
+
+        List<BigDecimal> availableCredits = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getBigDecimal("AVAILABLE_CREDIT"), accountId);
+
+        return availableCredits.stream().findFirst().map(credit -> credit.signum() > 0).orElse(false);
+    }
+}
@@ -0,0 +1,35 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Account ids are dense auto-increment values, so one bit per id in 8 KB pages is exact and far smaller than a set of longs.
+public class AccountIdBitmap {
+
+    private static final int PAGE_BITS = 16;
+    private static final long PAGE_MASK = (1L << PAGE_BITS) - 1;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_BITS) / Long.SIZE;
+
+    private final ConcurrentHashMap<Long, AtomicLongArray> pages = new ConcurrentHashMap<>();
+
+    public void add(long accountId) {
+        if (accountId <= 0L) {
+            return;
+        }
+        AtomicLongArray page = pages.computeIfAbsent(accountId >>> PAGE_BITS, pageIndex -> new AtomicLongArray(WORDS_PER_PAGE));
+        int bit = (int) (accountId & PAGE_MASK);
+        page.getAndAccumulate(bit >>> 6, 1L << bit, (word, mask) -> word | mask);
+    }
+
+    public boolean contains(long accountId) {
+        if (accountId <= 0L) {
+            return false;
+        }
+        AtomicLongArray page = pages.get(accountId >>> PAGE_BITS);
+        if (page == null) {
+            return false;
+        }
+        int bit = (int) (accountId & PAGE_MASK);
+        return (page.get(bit >>> 6) & (1L << bit)) != 0L;
+    }
+}
@@ -1,6 +1,7 @@
 package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
 
 import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
 import com.takeHome.Pismo.core.exception.DuplicateDocumentNumberException;
 import com.takeHome.Pismo.core.exception.PersistenceException;
 import com.takeHome.Pismo.core.domain.model.Account;
@@ -15,21 +16,36 @@ import org.springframework.jdbc.support.KeyHolder;
 import java.sql.PreparedStatement;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.takeHome.Pismo.core.Constants.DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG;
 import static com.takeHome.Pismo.core.Constants.KEY_GENERATION_ERROR_MSG;
 
 public class AccountPersistenceAdapter implements AccountPersistencePort {
 
+    private static final int MULTI_ROW_INSERT_SIZE = 500;
+
     private final JdbcTemplate jdbcTemplate;
 
+    private final AccountRegistryPort accountRegistryPort;
+
     private final RowMapper<Account> accountRowMapper = (rs, rowNum) ->
                                                             new Account(rs.getLong("ACCOUNT_ID"),
                                                                     rs.getLong("DOCUMENT_NUMBER"));
 
     public AccountPersistenceAdapter(JdbcTemplate jdbcTemplate){
+        this(jdbcTemplate, new AccountRegistryAdapter(jdbcTemplate));
+    }
+
+    public AccountPersistenceAdapter(JdbcTemplate jdbcTemplate, AccountRegistryPort accountRegistryPort){
         this.jdbcTemplate = jdbcTemplate;
+        this.accountRegistryPort = accountRegistryPort;
     }
 
 
@@ -43,10 +59,7 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
                 return ps;
             }, holder);
         } catch (DataIntegrityViolationException ex) {
-            Throwable rootException = ExceptionUtils.getRootCause(ex);
-
-            if (rootException instanceof SQLIntegrityConstraintViolationException sqlEx
-                    && sqlEx.getErrorCode() == 1062) {
+            if (isDuplicateEntry(ex)) {
                 throw new DuplicateDocumentNumberException(DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG.formatted(account.documentNumber()));
             }
             throw ex;
@@ -56,11 +69,96 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
             throw new PersistenceException(KEY_GENERATION_ERROR_MSG.formatted("account"));
         }
 
+        accountRegistryPort.register(holder.getKey().longValue());
         return Account.builder()
                 .accountId(holder.getKey().longValue())
                 .documentNumber(account.documentNumber()).build();
     }
 
+    public List<Account> saveAll(List<Account> accounts){
+
+        List<Account> created = new ArrayList<>();
+        for (int from = 0; from < accounts.size(); from += MULTI_ROW_INSERT_SIZE) {
+            created.addAll(insertNewAccounts(accounts.subList(from, Math.min(from + MULTI_ROW_INSERT_SIZE, accounts.size()))));
+        }
+        created.forEach(account -> accountRegistryPort.register(account.accountId()));
+        return created;
+    }
+
+    private List<Account> insertNewAccounts(List<Account> accounts) {
+
+        Set<Long> taken = existingDocumentNumbers(accounts);
+        List<Long> documentNumbers = accounts.stream()
+                .map(Account::documentNumber)
+                .distinct()
+                .filter(documentNumber -> !taken.contains(documentNumber))
+                .toList();
+
+        if (documentNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return insertRows(documentNumbers);
+        } catch (DataIntegrityViolationException ex) {
+            if (!isDuplicateEntry(ex)) {
+                throw ex;
+            }
+            // A concurrent writer took one of the numbers after the lookup; fall back to row-by-row for this chunk.
+            List<Account> created = new ArrayList<>();
+            for (Long documentNumber : documentNumbers) {
+                try {
+                    created.add(save(Account.builder().documentNumber(documentNumber).build()));
+                } catch (DuplicateDocumentNumberException duplicate) {
+                    // reported as a duplicate by the caller
+                }
+            }
+            return created;
+        }
+    }
+
+    private Set<Long> existingDocumentNumbers(List<Account> accounts) {
+
+        String sql = "SELECT DOCUMENT_NUMBER FROM ACCOUNTS WHERE DOCUMENT_NUMBER IN (" +
+                String.join(",", Collections.nCopies(accounts.size(), "?")) + ")";
+
+        return new HashSet<>(jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("DOCUMENT_NUMBER"),
+                accounts.stream().map(Account::documentNumber).toArray()));
+    }
+
+    private List<Account> insertRows(List<Long> documentNumbers) {
+
+        String sql = "INSERT INTO ACCOUNTS (DOCUMENT_NUMBER) VALUES " + String.join(",", Collections.nCopies(documentNumbers.size(), "(?)"));
+        KeyHolder holder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < documentNumbers.size(); i++) {
+                ps.setLong(i + 1, documentNumbers.get(i));
+            }
+            return ps;
+        }, holder);
+
+        List<Map<String, Object>> keys = holder.getKeyList();
+        if (keys.size() != documentNumbers.size()) {
+            throw new PersistenceException(KEY_GENERATION_ERROR_MSG.formatted("account"));
+        }
+
+        List<Account> created = new ArrayList<>(documentNumbers.size());
+        for (int i = 0; i < documentNumbers.size(); i++) {
+            Number key = (Number) keys.get(i).values().iterator().next();
+            created.add(Account.builder()
+                    .accountId(key.longValue())
+                    .documentNumber(documentNumbers.get(i)).build());
+        }
+        return created;
+    }
+
+    private boolean isDuplicateEntry(DataIntegrityViolationException ex) {
+        Throwable rootException = ExceptionUtils.getRootCause(ex);
+        return rootException instanceof SQLIntegrityConstraintViolationException sqlEx && sqlEx.getErrorCode() == 1062;
+    }
+
     public Optional<Account> retrieve(long accountId){
         String sql = "SELECT ACCOUNT_ID, DOCUMENT_NUMBER FROM ACCOUNTS WHERE ACCOUNT_ID= ?";
         try {
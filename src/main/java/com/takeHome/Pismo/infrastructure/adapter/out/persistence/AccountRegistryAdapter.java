@@ -0,0 +1,104 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// A bitmap hit is definite; ids can commit out of order, so a miss is confirmed by primary key before it is cached.
+public class AccountRegistryAdapter implements AccountRegistryPort {
+
+    private static final long MAXIMUM_MISSES = 100_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountIdBitmap knownAccounts = new AccountIdBitmap();
+    private final AtomicLong loadedUpTo = new AtomicLong();
+    private final Cache<Long, Boolean> recentMisses;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final long refreshIntervalNanos;
+    private volatile long lastRefreshStartedAt;
+
+    public AccountRegistryAdapter(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    }
+
+    public AccountRegistryAdapter(JdbcTemplate jdbcTemplate, Duration refreshInterval, Duration missTimeToLive) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.recentMisses = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_MISSES)
+                .expireAfterWrite(missTimeToLive)
+                .build();
+        this.lastRefreshStartedAt = System.nanoTime() - refreshIntervalNanos;
+    }
+
+    public void warmUp() {
+        loadAccountsAfter(0L);
+    }
+
+    @Override
+    public boolean isKnown(long accountId) {
+        if (accountId <= 0L) {
+            return false;
+        }
+        if (knownAccounts.contains(accountId)) {
+            return true;
+        }
+        if (accountId > loadedUpTo.get()) {
+            refresh();
+            if (knownAccounts.contains(accountId)) {
+                return true;
+            }
+        }
+        if (recentMisses.getIfPresent(accountId) != null) {
+            return false;
+        }
+        if (exists(accountId)) {
+            knownAccounts.add(accountId);
+            return true;
+        }
+        recentMisses.put(accountId, Boolean.TRUE);
+        return false;
+    }
+
+    @Override
+    public void register(long accountId) {
+        knownAccounts.add(accountId);
+        recentMisses.invalidate(accountId);
+    }
+
+    // Single flight, at most once per refresh interval.
+    private void refresh() {
+        long requestedAt = System.nanoTime();
+        refreshLock.lock();
+        try {
+            if (requestedAt - lastRefreshStartedAt < refreshIntervalNanos) {
+                return;
+            }
+            lastRefreshStartedAt = System.nanoTime();
+            loadAccountsAfter(loadedUpTo.get());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean exists(long accountId) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM ACCOUNTS WHERE ACCOUNT_ID = ?", Integer.class, accountId).isEmpty();
+    }
+
+    private void loadAccountsAfter(long accountId) {
+
+        String sql = "SELECT ACCOUNT_ID FROM ACCOUNTS WHERE ACCOUNT_ID > ? ORDER BY ACCOUNT_ID";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            long loaded = rs.getLong("ACCOUNT_ID");
+            knownAccounts.add(loaded);
+            loadedUpTo.accumulateAndGet(loaded, Math::max);
+        }, accountId);
+    }
+}
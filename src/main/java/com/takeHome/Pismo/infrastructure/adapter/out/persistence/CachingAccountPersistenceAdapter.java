@@ -0,0 +1,84 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// Accounts never change after creation, so only the absence of an account can go stale; misses expire quickly.
+public class CachingAccountPersistenceAdapter implements AccountPersistencePort {
+
+    public static final String CACHE_NAME = "accounts";
+
+    private final AccountPersistencePort delegate;
+    private final Cache<Long, Optional<Account>> accounts;
+
+    public CachingAccountPersistenceAdapter(AccountPersistencePort delegate, long maximumSize, Duration timeToLive,
+                                            Duration negativeTimeToLive, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, timeToLive, negativeTimeToLive, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingAccountPersistenceAdapter(AccountPersistencePort delegate, long maximumSize, Duration timeToLive,
+                                     Duration negativeTimeToLive, MeterRegistry meterRegistry, Ticker ticker) {
+        this.delegate = delegate;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .expireAfter(new AccountExpiry(timeToLive.toNanos(), negativeTimeToLive.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, CACHE_NAME);
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account saved = delegate.save(account);
+        accounts.put(saved.accountId(), Optional.of(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accountsToSave) {
+        List<Account> created = delegate.saveAll(accountsToSave);
+        created.forEach(account -> accounts.put(account.accountId(), Optional.of(account)));
+        return created;
+    }
+
+    @Override
+    public Optional<Account> retrieve(long accountId) {
+        // Not Cache.get(key, loader): the loader runs inside a ConcurrentHashMap bin lock, which would pin a virtual thread for the query.
+        Optional<Account> cached = accounts.getIfPresent(accountId);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<Account> account = delegate.retrieve(accountId);
+        accounts.put(accountId, account);
+        return account;
+    }
+
+    private record AccountExpiry(long timeToLiveNanos, long negativeTimeToLiveNanos) implements Expiry<Long, Optional<Account>> {
+
+        @Override
+        public long expireAfterCreate(Long accountId, Optional<Account> account, long currentTime) {
+            return account.isPresent() ? timeToLiveNanos : negativeTimeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long accountId, Optional<Account> account, long currentTime, long currentDuration) {
+            return expireAfterCreate(accountId, account, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long accountId, Optional<Account> account, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
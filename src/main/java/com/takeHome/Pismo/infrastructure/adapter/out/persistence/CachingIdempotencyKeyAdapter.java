@@ -0,0 +1,46 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Only keys read back from the table are cached: a key written by save may still be rolled back with its transaction.
+public class CachingIdempotencyKeyAdapter implements IdempotencyKeyPort {
+
+    public static final String CACHE_NAME = "idempotency-keys";
+
+    private final IdempotencyKeyPort delegate;
+    private final Cache<String, TransactionResult> results;
+
+    public CachingIdempotencyKeyAdapter(IdempotencyKeyPort delegate, long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<TransactionResult> find(String idempotencyKey) {
+        TransactionResult cached = results.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<TransactionResult> stored = delegate.find(idempotencyKey);
+        stored.ifPresent(result -> results.put(idempotencyKey, result));
+        return stored;
+    }
+
+    @Override
+    public void save(String idempotencyKey, TransactionResult transactionResult) {
+        delegate.save(idempotencyKey, transactionResult);
+    }
+}
@@ -0,0 +1,56 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyConflictException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import static com.takeHome.Pismo.core.Constants.IDEMPOTENCY_KEY_CONFLICT_MSG;
+
+// Keeps a copy of the response rather than a foreign key, so a replay never depends on where the transaction row lives.
+public class IdempotencyKeyPersistenceAdapter implements IdempotencyKeyPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<TransactionResult> transactionResultRowMapper = (rs, rowNum) ->
+            TransactionResult.builder()
+                    .transactionId(rs.getLong("TRANSACTION_ID"))
+                    .accountId(rs.getLong("ACCOUNT_ID"))
+                    .operationTypeId(rs.getInt("OPERATIONTYPE_ID"))
+                    .amount(rs.getBigDecimal("AMOUNT"))
+                    .eventDate(rs.getTimestamp("EVENT_DATE").toLocalDateTime())
+                    .build();
+
+    public IdempotencyKeyPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<TransactionResult> find(String idempotencyKey) {
+
+        String sql = "SELECT TRANSACTION_ID, ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, EVENT_DATE FROM IDEMPOTENCY_KEYS WHERE IDEMPOTENCY_KEY = ?";
+
+        List<TransactionResult> results = jdbcTemplate.query(sql, transactionResultRowMapper, idempotencyKey);
+
+        return results.stream().findFirst();
+    }
+
+    @Override
+    public void save(String idempotencyKey, TransactionResult transactionResult) {
+
+        String sql = "INSERT INTO IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY, TRANSACTION_ID, ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, EVENT_DATE) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+        try {
+            jdbcTemplate.update(sql, idempotencyKey, transactionResult.transactionId(), transactionResult.accountId(),
+                    transactionResult.operationTypeId(), transactionResult.amount(), Timestamp.valueOf(transactionResult.eventDate()));
+        } catch (DuplicateKeyException ex) {
+            throw new IdempotencyKeyConflictException(IDEMPOTENCY_KEY_CONFLICT_MSG.formatted(idempotencyKey));
+        }
+    }
+}
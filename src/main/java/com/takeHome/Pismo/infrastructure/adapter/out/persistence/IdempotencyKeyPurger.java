@@ -0,0 +1,69 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_IDEMPOTENCY_PURGE_BATCH_SIZE_MSG;
+
+// Deletes keys older than the retention period, batchSize rows per DB transaction; a retry after that posts a new transaction.
+public class IdempotencyKeyPurger {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final Clock clock;
+    private final Duration retention;
+    private final int batchSize;
+    private final Counter purgedRows;
+    private final Timer batchTimer;
+
+    public IdempotencyKeyPurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, Clock clock,
+                                Duration retention, int batchSize, MeterRegistry meterRegistry) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(INVALID_IDEMPOTENCY_PURGE_BATCH_SIZE_MSG.formatted(batchSize));
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        // READ COMMITTED takes no gap lock past the newest expired key, so inserts of new keys are never blocked.
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.clock = clock;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.purgedRows = Counter.builder("pismo.idempotency.purge.rows")
+                .description("Expired idempotency keys deleted")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("pismo.idempotency.purge.batch")
+                .description("Time each idempotency key purge batch holds its DB transaction open")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${pismo.idempotency.purge.interval:PT1H}",
+            initialDelayString = "${pismo.idempotency.purge.interval:PT1H}")
+    public long purgeExpiredKeys() {
+
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now(clock).minus(retention));
+        long total = 0L;
+        int deleted;
+        do {
+            Integer batch = batchTimer.record(() -> batchTransaction.execute(status ->
+                    jdbcTemplate.update("DELETE FROM IDEMPOTENCY_KEYS WHERE CREATED_AT < ? ORDER BY CREATED_AT LIMIT ?", cutoff, batchSize)));
+            deleted = Objects.requireNonNullElse(batch, 0);
+            total += deleted;
+            purgedRows.increment(deleted);
+        } while (deleted == batchSize);
+
+        return total;
+    }
+}
@@ -0,0 +1,107 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ARCHIVE_BATCH_SIZE_MSG;
+import static com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionPersistenceAdapter.ARCHIVE_TABLE;
+import static com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionPersistenceAdapter.HOT_TABLE;
+
+// Moves settled rows older than minimumAge to the archive table, batchSize rows per DB transaction.
+public class TransactionArchiver {
+
+    private static final String COLUMNS = "TRANSACTION_ID, ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final Clock clock;
+    private final Duration minimumAge;
+    private final int batchSize;
+    private final Counter archivedRows;
+    private final Timer batchTimer;
+    private final AtomicLong lastRunRows = new AtomicLong();
+
+    public TransactionArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, Clock clock,
+                               Duration minimumAge, int batchSize, MeterRegistry meterRegistry) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(INVALID_ARCHIVE_BATCH_SIZE_MSG.formatted(batchSize));
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        // READ COMMITTED takes no gap locks and releases the locks on rows the scan rejects, so open rows stay writable.
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.clock = clock;
+        this.minimumAge = minimumAge;
+        this.batchSize = batchSize;
+        this.archivedRows = Counter.builder("pismo.archive.rows")
+                .description("Settled transactions moved to the archive table")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("pismo.archive.batch")
+                .description("Time each archive batch holds its DB transaction open")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("pismo.archive.last.run.rows", lastRunRows, AtomicLong::get)
+                .description("Transactions archived by the most recent run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${pismo.transactions.archive.interval:PT1H}",
+            initialDelayString = "${pismo.transactions.archive.interval:PT1H}")
+    public long archiveSettledTransactions() {
+
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(minimumAge);
+        long afterTransactionId = 0L;
+        long total = 0L;
+        List<Long> batch;
+        do {
+            long cursor = afterTransactionId;
+            batch = batchTimer.record(() -> batchTransaction.execute(status -> archiveBatch(cursor, cutoff)));
+            if (!batch.isEmpty()) {
+                afterTransactionId = batch.getLast();
+                total += batch.size();
+                archivedRows.increment(batch.size());
+            }
+        } while (batch.size() == batchSize);
+
+        lastRunRows.set(total);
+        return total;
+    }
+
+    private List<Long> archiveBatch(long afterTransactionId, LocalDateTime cutoff) {
+
+        // Keyset over the primary key of the partitions before the cutoff; rows locked by a live post are left for the next run.
+        List<Long> transactionIds = jdbcTemplate.queryForList("SELECT TRANSACTION_ID FROM " + HOT_TABLE +
+                        " WHERE TRANSACTION_ID > ? AND EVENT_DATE < ? AND BALANCE = 0 ORDER BY TRANSACTION_ID LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class, afterTransactionId, Timestamp.valueOf(cutoff), batchSize);
+
+        if (transactionIds.isEmpty()) {
+            return transactionIds;
+        }
+
+        String where = " WHERE TRANSACTION_ID IN (" + String.join(",", Collections.nCopies(transactionIds.size(), "?")) + ") AND EVENT_DATE < ?";
+        List<Object> args = new ArrayList<>(transactionIds);
+        args.add(Timestamp.valueOf(cutoff));
+
+        jdbcTemplate.update("INSERT INTO " + ARCHIVE_TABLE + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM " + HOT_TABLE + where,
+                args.toArray());
+        jdbcTemplate.update("DELETE FROM " + HOT_TABLE + where, args.toArray());
+
+        return transactionIds;
+    }
+}
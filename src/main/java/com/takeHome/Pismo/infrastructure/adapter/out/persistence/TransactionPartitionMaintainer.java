@@ -0,0 +1,108 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_PARTITION_MONTHS_AHEAD_MSG;
+
+// Upcoming months are only split off pmax while it is empty: reorganizing a populated pmax would copy its rows under a metadata lock.
+public class TransactionPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionMaintainer.class);
+
+    static final String CATCH_ALL_PARTITION = "pmax";
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final Counter skippedSplits;
+
+    public TransactionPartitionMaintainer(JdbcTemplate jdbcTemplate, Clock clock, int monthsAhead, MeterRegistry meterRegistry) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException(INVALID_PARTITION_MONTHS_AHEAD_MSG.formatted(monthsAhead));
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.skippedSplits = Counter.builder("pismo.partitions.split.skipped")
+                .description("Partition splits skipped because the catch-all partition already holds rows")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${pismo.transactions.partitions.check-interval:PT6H}")
+    public int createUpcomingPartitions() {
+        return ensurePartitionsThrough(YearMonth.now(clock).plusMonths(monthsAhead));
+    }
+
+    // Returns the number of monthly partitions added; a table without the expected layout is left alone.
+    public int ensurePartitionsThrough(YearMonth lastMonth) {
+
+        List<String> partitions = partitions();
+        if (partitions.isEmpty() || !CATCH_ALL_PARTITION.equals(partitions.getLast())) {
+            log.warn("TRANSACTIONS has no {} partition; no monthly partitions are created until the schema migrations have run",
+                    CATCH_ALL_PARTITION);
+            return 0;
+        }
+
+        YearMonth latest = latestMonth(partitions, lastMonth);
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = latest.plusMonths(1); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            definitions.add("PARTITION %s VALUES LESS THAN (UNIX_TIMESTAMP('%s-01 00:00:00'))"
+                    .formatted(month.format(PARTITION_NAME), month.plusMonths(1)));
+        }
+        if (definitions.isEmpty()) {
+            return 0;
+        }
+        if (!jdbcTemplate.queryForList("SELECT 1 FROM TRANSACTIONS PARTITION (%s) LIMIT 1".formatted(CATCH_ALL_PARTITION),
+                Integer.class).isEmpty()) {
+            skippedSplits.increment();
+            log.warn("Partition {} of TRANSACTIONS holds rows; not splitting {} off it, as that would copy them under a metadata lock",
+                    CATCH_ALL_PARTITION, latest.plusMonths(1).format(PARTITION_NAME));
+            return 0;
+        }
+        definitions.add("PARTITION %s VALUES LESS THAN (MAXVALUE)".formatted(CATCH_ALL_PARTITION));
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE TRANSACTIONS REORGANIZE PARTITION %s INTO (%s)"
+                    .formatted(CATCH_ALL_PARTITION, String.join(", ", definitions)));
+        } catch (DataAccessException ex) {
+            // Every node runs this job; one that lost the race finds the months already split off by the winner.
+            if (latestMonth(partitions(), lastMonth).isBefore(lastMonth)) {
+                throw ex;
+            }
+            return 0;
+        }
+
+        return definitions.size() - 1;
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'TRANSACTIONS' AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION", String.class);
+    }
+
+    private static YearMonth latestMonth(List<String> partitions, YearMonth lastMonth) {
+        return partitions.stream()
+                .filter(name -> MONTHLY_PARTITION.matcher(name).matches())
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .max(YearMonth::compareTo)
+                .orElse(lastMonth.minusMonths(1));
+    }
+}
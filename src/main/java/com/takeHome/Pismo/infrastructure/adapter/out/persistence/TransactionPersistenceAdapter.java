@@ -1,6 +1,11 @@
 package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
 
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
 import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
 import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
 import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
 import com.takeHome.Pismo.core.exception.PersistenceException;
@@ -13,18 +18,35 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
+import java.math.BigDecimal;
 import java.sql.PreparedStatement;
-import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_EXISTS_EXCEPTION_MSG;
 import static com.takeHome.Pismo.core.Constants.KEY_GENERATION_ERROR_MSG;
 
 public class TransactionPersistenceAdapter implements TransactionPersistencePort {
 
+    private static final int MULTI_ROW_INSERT_SIZE = 500;
+    // Connector/J streams a result set only with this fetch size.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    static final String HOT_TABLE = "TRANSACTIONS";
+    static final String ARCHIVE_TABLE = "TRANSACTIONS_ARCHIVE";
+
     private final JdbcTemplate jdbcTemplate;
     private final TransactionPersistenceMapper transactionPersistenceMapper;
 
@@ -50,11 +72,28 @@ public class TransactionPersistenceAdapter implements TransactionPersistencePort
     }
 
 
+    @Override
+    public void lockAccount(long accountId) {
+
+        // The ACCOUNTS row is the per-account lock; it is held until the surrounding transaction ends.
+        String sql = "SELECT ACCOUNT_ID FROM ACCOUNTS WHERE ACCOUNT_ID = ? FOR UPDATE";
+
+        List<Long> lockedAccounts = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("ACCOUNT_ID"), accountId);
+
+        if (lockedAccounts.isEmpty()) {
+            throw new AccountDoesNotExistException(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(accountId));
+        }
+    }
+
     @Override
     public BalanceBearingTransaction save(BalanceBearingTransaction executableTransaction) {
 
         TransactionEntity transactionEntity = transactionPersistenceMapper.toEntity(executableTransaction);
 
+        // The projection upsert goes first: its ACCOUNT_BALANCES foreign key is the only check that the account exists.
+        applyBalanceDeltas(Map.of(transactionEntity.accountId(),
+                balanceDelta(transactionEntity.operationTypeId(), transactionEntity.balance(), transactionEntity.eventDate())));
+
         String sql = "INSERT INTO TRANSACTIONS(ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE) VALUES(?,?,?,?,?)";
         KeyHolder holder = new GeneratedKeyHolder();
 
@@ -65,15 +104,11 @@ public class TransactionPersistenceAdapter implements TransactionPersistencePort
                 ps.setInt(2, transactionEntity.operationTypeId());
                 ps.setBigDecimal(3, transactionEntity.amount());
                 ps.setBigDecimal(4, transactionEntity.balance());
-                ps.setTimestamp(5, Timestamp.valueOf(transactionEntity.eventDate()));
+                ps.setTimestamp(5, eventTimestamp(transactionEntity.eventDate()));
                 return ps;
             }, holder);
         } catch(DataAccessException ex) {
-            Throwable root = ExceptionUtils.getRootCause(ex);
-            if (root instanceof SQLIntegrityConstraintViolationException sqlEx && sqlEx.getErrorCode() == 1452) {
-                throw new AccountDoesNotExistException(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(transactionEntity.accountId()));
-            }
-            throw ex;
+            throw translateInsertFailure(ex, String.valueOf(transactionEntity.accountId()));
         }
 
         if (holder.getKey() == null) {
@@ -81,14 +116,112 @@ public class TransactionPersistenceAdapter implements TransactionPersistencePort
         }
 
         transactionEntity.updateTransactionId(holder.getKey().longValue());
+
         return transactionPersistenceMapper.toTransaction(transactionEntity);
     }
 
+    @Override
+    public List<BalanceBearingTransaction> saveAll(List<? extends BalanceBearingTransaction> executableTransactions) {
+
+        if (executableTransactions.isEmpty()) {
+            return List.of();
+        }
+
+        List<TransactionEntity> transactionEntities = executableTransactions.stream()
+                .map(transactionPersistenceMapper::toEntity)
+                .toList();
+
+        Map<Long, BalanceDelta> deltas = new LinkedHashMap<>();
+        for (TransactionEntity transactionEntity : transactionEntities) {
+            deltas.merge(transactionEntity.accountId(),
+                    balanceDelta(transactionEntity.operationTypeId(), transactionEntity.balance(), transactionEntity.eventDate()),
+                    BalanceDelta::plus);
+        }
+        applyBalanceDeltas(deltas);
+
+        for (int from = 0; from < transactionEntities.size(); from += MULTI_ROW_INSERT_SIZE) {
+            insertRows(transactionEntities.subList(from, Math.min(from + MULTI_ROW_INSERT_SIZE, transactionEntities.size())));
+        }
+
+        return transactionEntities.stream().map(transactionPersistenceMapper::toTransaction).toList();
+    }
+
+    private void insertRows(List<TransactionEntity> transactionEntities) {
+
+        String sql = "INSERT INTO TRANSACTIONS(ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE) VALUES " +
+                String.join(",", Collections.nCopies(transactionEntities.size(), "(?,?,?,?,?)"));
+        KeyHolder holder = new GeneratedKeyHolder();
+
+        try {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                int index = 1;
+                for (TransactionEntity transactionEntity : transactionEntities) {
+                    ps.setLong(index++, transactionEntity.accountId());
+                    ps.setInt(index++, transactionEntity.operationTypeId());
+                    ps.setBigDecimal(index++, transactionEntity.amount());
+                    ps.setBigDecimal(index++, transactionEntity.balance());
+                    ps.setTimestamp(index++, eventTimestamp(transactionEntity.eventDate()));
+                }
+                return ps;
+            }, holder);
+        } catch(DataAccessException ex) {
+            throw translateInsertFailure(ex, transactionEntities.stream()
+                    .map(transactionEntity -> String.valueOf(transactionEntity.accountId()))
+                    .distinct()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        List<Map<String, Object>> keys = holder.getKeyList();
+        if (keys.size() != transactionEntities.size()) {
+            throw new PersistenceException(KEY_GENERATION_ERROR_MSG.formatted("transaction"));
+        }
+        for (int i = 0; i < transactionEntities.size(); i++) {
+            Number key = (Number) keys.get(i).values().iterator().next();
+            transactionEntities.get(i).updateTransactionId(key.longValue());
+        }
+    }
+
+    private RuntimeException translateInsertFailure(DataAccessException ex, String accountIds) {
+        Throwable root = ExceptionUtils.getRootCause(ex);
+        if (root instanceof SQLException sqlEx && sqlEx.getErrorCode() == 1452) {
+            return new AccountDoesNotExistException(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(accountIds));
+        }
+        return ex;
+    }
+
     @Override
     public List<BalanceBearingTransaction> fetchDebitTransactions(long accountId) {
 
         String sql = "SELECT TRANSACTION_ID,ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE FROM TRANSACTIONS WHERE ACCOUNT_ID = ? " +
-                "AND OPERATIONTYPE_ID != 4 ORDER BY EVENT_DATE";
+                "AND IS_OPEN = 1 AND OPERATIONTYPE_ID != 4 ORDER BY EVENT_DATE, TRANSACTION_ID";
+
+        List<TransactionEntity> transactionEntities =  jdbcTemplate.query(sql, transactionRowMapper, accountId);
+
+        return transactionEntities.stream().map(transactionPersistenceMapper::toTransaction).toList();
+    }
+
+    @Override
+    public List<BalanceBearingTransaction> fetchDebitTransactions(long accountId, TransactionCursor after, int limit) {
+
+        String select = "SELECT TRANSACTION_ID,ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE FROM TRANSACTIONS WHERE ACCOUNT_ID = ? " +
+                "AND IS_OPEN = 1 AND OPERATIONTYPE_ID != 4 ";
+        String page = "ORDER BY EVENT_DATE, TRANSACTION_ID LIMIT ?";
+
+        List<TransactionEntity> transactionEntities = Objects.isNull(after)
+                ? jdbcTemplate.query(select + page, transactionRowMapper, accountId, limit)
+                : jdbcTemplate.query(select + "AND EVENT_DATE >= ? AND (EVENT_DATE > ? OR (EVENT_DATE = ? AND TRANSACTION_ID > ?)) " + page,
+                        transactionRowMapper, accountId, Timestamp.valueOf(after.eventDate()), Timestamp.valueOf(after.eventDate()),
+                        Timestamp.valueOf(after.eventDate()), after.transactionId(), limit);
+
+        return transactionEntities.stream().map(transactionPersistenceMapper::toTransaction).toList();
+    }
+
+    @Override
+    public List<BalanceBearingTransaction> fetchCreditTransactions(long accountId) {
+
+        String sql = "SELECT TRANSACTION_ID,ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE FROM TRANSACTIONS WHERE ACCOUNT_ID = ? " +
+                "AND IS_OPEN = 1 AND OPERATIONTYPE_ID = 4 ORDER BY EVENT_DATE, TRANSACTION_ID";
 
         List<TransactionEntity> transactionEntities =  jdbcTemplate.query(sql, transactionRowMapper, accountId);
 
@@ -96,13 +229,188 @@ public class TransactionPersistenceAdapter implements TransactionPersistencePort
     }
 
 
+    @Override
+    public List<Transaction> fetchTransactions(GetTransactionHistoryQuery query, int limit) {
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = historyPage(HOT_TABLE, query, limit, args);
+        if (readsArchive(query.from(), query.after())) {
+            sql.insert(0, "(").append(") UNION ALL (")
+                    .append(historyPage(ARCHIVE_TABLE, query, limit, args))
+                    .append(") ORDER BY EVENT_DATE, TRANSACTION_ID LIMIT ?");
+            args.add(limit);
+        }
+
+        List<TransactionEntity> transactionEntities = jdbcTemplate.query(sql.toString(), transactionRowMapper, args.toArray());
+
+        return transactionEntities.stream().map(transactionEntity -> transactionPersistenceMapper.toTransaction(transactionEntity).transaction()).toList();
+    }
+
+    @Override
+    public void streamTransactions(ExportTransactionsQuery query, Consumer<Transaction> consumer) {
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder select = selectTransactions(HOT_TABLE, query.accountId(), query.operationType(), query.from(), query.to(), args);
+        if (readsArchive(query.from(), null)) {
+            select.append("UNION ALL ")
+                    .append(selectTransactions(ARCHIVE_TABLE, query.accountId(), query.operationType(), query.from(), query.to(), args));
+        }
+        String sql = select.append("ORDER BY EVENT_DATE, TRANSACTION_ID").toString();
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            TransactionEntity transactionEntity = transactionRowMapper.mapRow(rs, 0);
+            consumer.accept(transactionPersistenceMapper.toTransaction(transactionEntity).transaction());
+        });
+    }
+
+    private boolean readsArchive(LocalDateTime from, TransactionCursor after) {
+
+        LocalDateTime lowerBound = from;
+        if (Objects.nonNull(after) && (Objects.isNull(lowerBound) || after.eventDate().isAfter(lowerBound))) {
+            lowerBound = after.eventDate();
+        }
+        LocalDateTime archivedThrough = archivedThrough();
+        return Objects.nonNull(archivedThrough) && (Objects.isNull(lowerBound) || !lowerBound.isAfter(archivedThrough));
+    }
+
+    private LocalDateTime archivedThrough() {
+        return convertToLocalDate(jdbcTemplate.queryForObject("SELECT MAX(EVENT_DATE) FROM " + ARCHIVE_TABLE, Timestamp.class));
+    }
+
+    private static StringBuilder historyPage(String table, GetTransactionHistoryQuery query, int limit, List<Object> args) {
+
+        StringBuilder sql = selectTransactions(table, query.accountId(), query.operationType(), query.from(), query.to(), args);
+        if (Objects.nonNull(query.after())) {
+            sql.append("AND EVENT_DATE >= ? AND (EVENT_DATE > ? OR (EVENT_DATE = ? AND TRANSACTION_ID > ?)) ");
+            args.add(Timestamp.valueOf(query.after().eventDate()));
+            args.add(Timestamp.valueOf(query.after().eventDate()));
+            args.add(Timestamp.valueOf(query.after().eventDate()));
+            args.add(query.after().transactionId());
+        }
+        sql.append("ORDER BY EVENT_DATE, TRANSACTION_ID LIMIT ?");
+        args.add(limit);
+        return sql;
+    }
+
+    private static StringBuilder selectTransactions(String table, long accountId, OperationType operationType, LocalDateTime from,
+                                                    LocalDateTime to, List<Object> args) {
+
+        StringBuilder sql = new StringBuilder("SELECT TRANSACTION_ID,ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE FROM " + table +
+                " WHERE ACCOUNT_ID = ? ");
+        args.add(accountId);
+        if (Objects.nonNull(operationType)) {
+            sql.append("AND OPERATIONTYPE_ID = ? ");
+            args.add(operationType.getId());
+        }
+        if (Objects.nonNull(from)) {
+            sql.append("AND EVENT_DATE >= ? ");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (Objects.nonNull(to)) {
+            sql.append("AND EVENT_DATE < ? ");
+            args.add(Timestamp.valueOf(to));
+        }
+        return sql;
+    }
+
     @Override
     public void updateTransaction(BalanceBearingTransaction executableTransaction) {
 
         TransactionEntity transactionEntity = transactionPersistenceMapper.toEntity(executableTransaction);
 
-        String sql = "UPDATE TRANSACTIONS SET BALANCE = ? WHERE TRANSACTION_ID = ? ";
+        String sql = "UPDATE TRANSACTIONS SET BALANCE = ? WHERE TRANSACTION_ID = ? AND EVENT_DATE = ?";
+
+        jdbcTemplate.update(sql, transactionEntity.balance(), transactionEntity.transactionId(),
+                eventTimestamp(transactionEntity.eventDate()));
+
+        BigDecimal change = executableTransaction.balance().subtract(executableTransaction.originalBalance());
+        if (change.signum() != 0) {
+            applyBalanceDeltas(Map.of(transactionEntity.accountId(),
+                    balanceDelta(transactionEntity.operationTypeId(), change, null)));
+        }
+    }
+
+    @Override
+    public void updateBalances(Collection<? extends BalanceBearingTransaction> executableTransactions) {
+
+        if (executableTransactions.isEmpty()) {
+            return;
+        }
+
+        List<TransactionEntity> transactionEntities = executableTransactions.stream()
+                .map(transactionPersistenceMapper::toEntity)
+                .toList();
+
+        String sql = "UPDATE TRANSACTIONS SET BALANCE = ? WHERE TRANSACTION_ID = ? AND EVENT_DATE = ? AND BALANCE <> ?";
+
+        jdbcTemplate.batchUpdate(sql, transactionEntities, transactionEntities.size(), (ps, transactionEntity) -> {
+            ps.setBigDecimal(1, transactionEntity.balance());
+            ps.setLong(2, transactionEntity.transactionId());
+            ps.setTimestamp(3, eventTimestamp(transactionEntity.eventDate()));
+            ps.setBigDecimal(4, transactionEntity.balance());
+        });
+
+        Map<Long, BalanceDelta> deltas = new LinkedHashMap<>();
+        for (BalanceBearingTransaction executableTransaction : executableTransactions) {
+            BigDecimal change = executableTransaction.balance().subtract(executableTransaction.originalBalance());
+            if (change.signum() != 0) {
+                Transaction tx = executableTransaction.transaction();
+                deltas.merge(tx.accountId(), balanceDelta(tx.operationTypeId(), change, null), BalanceDelta::plus);
+            }
+        }
+        applyBalanceDeltas(deltas);
+    }
+
+    private void applyBalanceDeltas(Map<Long, BalanceDelta> deltas) {
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO ACCOUNT_BALANCES (ACCOUNT_ID, OPEN_DEBIT_TOTAL, AVAILABLE_CREDIT, LAST_EVENT_DATE) VALUES(?,?,?,?) " +
+                "ON DUPLICATE KEY UPDATE OPEN_DEBIT_TOTAL = OPEN_DEBIT_TOTAL + VALUES(OPEN_DEBIT_TOTAL), " +
+                "AVAILABLE_CREDIT = AVAILABLE_CREDIT + VALUES(AVAILABLE_CREDIT), " +
+                "LAST_EVENT_DATE = COALESCE(GREATEST(LAST_EVENT_DATE, VALUES(LAST_EVENT_DATE)), LAST_EVENT_DATE, VALUES(LAST_EVENT_DATE))";
+
+        List<Map.Entry<Long, BalanceDelta>> entries = List.copyOf(deltas.entrySet());
+
+        try {
+            jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+                BalanceDelta delta = entry.getValue();
+                ps.setLong(1, entry.getKey());
+                ps.setBigDecimal(2, delta.openDebit());
+                ps.setBigDecimal(3, delta.credit());
+                ps.setTimestamp(4, delta.lastEventDate() == null ? null : eventTimestamp(delta.lastEventDate()));
+            });
+        } catch(DataAccessException ex) {
+            throw translateInsertFailure(ex, deltas.keySet().stream().map(String::valueOf).collect(Collectors.joining(", ")));
+        }
+    }
 
-        jdbcTemplate.update(sql, transactionEntity.balance(), transactionEntity.transactionId());
+    private static Timestamp eventTimestamp(LocalDateTime eventDate) {
+        return Timestamp.valueOf(eventDate.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private static BalanceDelta balanceDelta(int operationTypeId, BigDecimal balanceChange, LocalDateTime eventDate) {
+        if (operationTypeId == OperationType.PAYMENT.getId()) {
+            return new BalanceDelta(BigDecimal.ZERO, balanceChange, eventDate);
+        }
+        return new BalanceDelta(balanceChange.negate(), BigDecimal.ZERO, eventDate);
+    }
+
+    private record BalanceDelta(BigDecimal openDebit, BigDecimal credit, LocalDateTime lastEventDate) {
+
+        BalanceDelta plus(BalanceDelta other) {
+            LocalDateTime latest = lastEventDate == null || (other.lastEventDate != null && other.lastEventDate.isAfter(lastEventDate))
+                    ? other.lastEventDate : lastEventDate;
+            return new BalanceDelta(openDebit.add(other.openDebit), credit.add(other.credit), latest);
+        }
     }
 }
@@ -0,0 +1,92 @@
+package com.takeHome.Pismo.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_LANE_INTERRUPTED_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_LANE_COUNT_MSG;
+
+// Each account hashes to one single-threaded lane: work for one account runs in arrival order, other lanes run in parallel.
+public class AccountLaneExecutor implements AutoCloseable {
+
+    private final ExecutorService[] lanes;
+    private final AtomicInteger[] queueDepths;
+    private final Timer[] waitTimers;
+
+    public AccountLaneExecutor(int laneCount, MeterRegistry meterRegistry) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException(INVALID_LANE_COUNT_MSG.formatted(laneCount));
+        }
+        this.lanes = new ExecutorService[laneCount];
+        this.queueDepths = new AtomicInteger[laneCount];
+        this.waitTimers = new Timer[laneCount];
+        for (int lane = 0; lane < laneCount; lane++) {
+            String laneTag = String.valueOf(lane);
+            lanes[lane] = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("account-lane-" + lane).daemon().factory());
+            queueDepths[lane] = new AtomicInteger();
+            Gauge.builder("pismo.account.lane.queue.depth", queueDepths[lane], AtomicInteger::get)
+                    .description("Operations waiting for their account lane")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+            waitTimers[lane] = Timer.builder("pismo.account.lane.wait")
+                    .description("Time an operation waited in its account lane before running")
+                    .tag("lane", laneTag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T execute(long accountId, Supplier<T> work) {
+
+        int lane = laneOf(accountId);
+        long queuedAt = System.nanoTime();
+        queueDepths[lane].incrementAndGet();
+        Future<T> result = lanes[lane].submit(() -> {
+            queueDepths[lane].decrementAndGet();
+            waitTimers[lane].record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            return work.get();
+        });
+
+        try {
+            return result.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            if (result.cancel(false)) {
+                queueDepths[lane].decrementAndGet();
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ACCOUNT_LANE_INTERRUPTED_MSG.formatted(accountId), ex);
+        }
+    }
+
+    public int laneOf(long accountId) {
+        return (int) Math.floorMod(accountId, (long) lanes.length);
+    }
+
+    public int queueDepth(int lane) {
+        return queueDepths[lane].get();
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
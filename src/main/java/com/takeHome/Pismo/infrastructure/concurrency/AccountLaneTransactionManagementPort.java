@@ -0,0 +1,32 @@
+package com.takeHome.Pismo.infrastructure.concurrency;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+
+import java.util.List;
+
+// Single posts queue in their account's lane; the row lock is still taken, since bulk loads and other nodes bypass the lanes.
+public class AccountLaneTransactionManagementPort implements TransactionManagementPort {
+
+    private final TransactionManagementPort delegate;
+    private final AccountLaneExecutor accountLaneExecutor;
+
+    public AccountLaneTransactionManagementPort(TransactionManagementPort delegate, AccountLaneExecutor accountLaneExecutor) {
+        this.delegate = delegate;
+        this.accountLaneExecutor = accountLaneExecutor;
+    }
+
+    @Override
+    public TransactionResult saveTransactionAndDischargeDebitBalances(CreateTransactionCommand createTransactionCommand) {
+        return accountLaneExecutor.execute(createTransactionCommand.accountId(),
+                () -> delegate.saveTransactionAndDischargeDebitBalances(createTransactionCommand));
+    }
+
+    // A bulk load spans many accounts in one database transaction, so it cannot be confined to a lane.
+    @Override
+    public List<BulkTransactionResult> saveTransactions(List<CreateTransactionCommand> createTransactionCommands) {
+        return delegate.saveTransactions(createTransactionCommands);
+    }
+}
@@ -0,0 +1,153 @@
+package com.takeHome.Pismo.infrastructure.concurrency;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.exception.DomainException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.takeHome.Pismo.core.Constants.GROUP_COMMIT_INTERRUPTED_MSG;
+import static com.takeHome.Pismo.core.Constants.GROUP_COMMIT_STOPPED_MSG;
+
+// A writer thread commits up to maxBatchSize queued posts per database transaction, each under its own savepoint.
+public class GroupCommitTransactionManagementPort implements TransactionManagementPort, AutoCloseable {
+
+    private final TransactionManagementPort delegate;
+    private final TransactionTemplate groupTransaction;
+    private final TransactionTemplate postSavepoint;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingPost> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizes;
+    private final Thread writer;
+
+    public GroupCommitTransactionManagementPort(TransactionManagementPort delegate, PlatformTransactionManager transactionManager,
+                                                int maxBatchSize, Duration maxWait, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.groupTransaction = new TransactionTemplate(transactionManager);
+        this.postSavepoint = new TransactionTemplate(transactionManager);
+        this.postSavepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.batchSizes = DistributionSummary.builder("pismo.group.commit.batch.size")
+                .description("Transactions committed together in one group")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("group-commit-writer").daemon().start(this::drain);
+    }
+
+    @Override
+    public TransactionResult saveTransactionAndDischargeDebitBalances(CreateTransactionCommand createTransactionCommand) {
+
+        if (!writer.isAlive()) {
+            throw new IllegalStateException(GROUP_COMMIT_STOPPED_MSG);
+        }
+        PendingPost pendingPost = new PendingPost(createTransactionCommand, new CompletableFuture<>());
+        queue.add(pendingPost);
+        try {
+            return pendingPost.result().get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(GROUP_COMMIT_INTERRUPTED_MSG.formatted(createTransactionCommand.accountId()), ex);
+        }
+    }
+
+    // A bulk load is already a single transaction with batched inserts.
+    @Override
+    public List<BulkTransactionResult> saveTransactions(List<CreateTransactionCommand> createTransactionCommands) {
+        return delegate.saveTransactions(createTransactionCommands);
+    }
+
+    @Override
+    public void close() {
+        writer.interrupt();
+        List<PendingPost> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pendingPost -> pendingPost.result().completeExceptionally(new IllegalStateException(GROUP_COMMIT_STOPPED_MSG)));
+    }
+
+    private void drain() {
+
+        List<PendingPost> group = new ArrayList<>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                group.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (group.size() < maxBatchSize) {
+                    PendingPost next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                commit(group);
+                group.clear();
+            }
+        } catch (InterruptedException ex) {
+            group.forEach(pendingPost -> pendingPost.result().completeExceptionally(new IllegalStateException(GROUP_COMMIT_STOPPED_MSG)));
+        }
+    }
+
+    private void commit(List<PendingPost> group) {
+
+        // Same lock order as the bulk path; the stable sort keeps each account's posts in arrival order.
+        group.sort(Comparator.comparingLong(pendingPost -> pendingPost.command().accountId()));
+        batchSizes.record(group.size());
+
+        List<Outcome> outcomes = new ArrayList<>(group.size());
+        try {
+            groupTransaction.executeWithoutResult(status -> {
+                for (PendingPost pendingPost : group) {
+                    outcomes.add(savePost(pendingPost.command()));
+                }
+            });
+        } catch (RuntimeException | Error ex) {
+            group.forEach(pendingPost -> pendingPost.result().completeExceptionally(ex));
+            return;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (outcome.failure() == null) {
+                group.get(i).result().complete(outcome.result());
+            } else {
+                group.get(i).result().completeExceptionally(outcome.failure());
+            }
+        }
+    }
+
+    // Only domain failures are isolated; anything else may already have rolled back the earlier savepoints.
+    private Outcome savePost(CreateTransactionCommand command) {
+        try {
+            return new Outcome(postSavepoint.execute(status -> delegate.saveTransactionAndDischargeDebitBalances(command)), null);
+        } catch (DomainException | IllegalArgumentException ex) {
+            return new Outcome(null, ex);
+        }
+    }
+
+    private record PendingPost(CreateTransactionCommand command, CompletableFuture<TransactionResult> result) {}
+
+    private record Outcome(TransactionResult result, RuntimeException failure) {}
+}
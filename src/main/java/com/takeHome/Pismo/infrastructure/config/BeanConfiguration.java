@@ -1,25 +1,62 @@
 package com.takeHome.Pismo.infrastructure.config;
 
+import com.takeHome.Pismo.core.domain.model.ConcurrencyMode;
 import com.takeHome.Pismo.core.domain.port.in.AccountManagementPort;
 import com.takeHome.Pismo.core.domain.port.in.BalanceDischargePort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionExportPort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionHistoryPort;
 import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
 import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
+import com.takeHome.Pismo.core.domain.port.out.DischargeMetricsPort;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
 import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
+import com.takeHome.Pismo.core.usecase.AccountGuardedTransactionManagementUseCase;
 import com.takeHome.Pismo.core.usecase.AccountManagementUseCase;
 import com.takeHome.Pismo.core.usecase.BalanceDischargeUseCase;
+import com.takeHome.Pismo.core.usecase.IdempotentTransactionManagementUseCase;
+import com.takeHome.Pismo.core.usecase.TransactionHistoryUseCase;
 import com.takeHome.Pismo.core.usecase.TransactionManagementUseCase;
+import com.takeHome.Pismo.infrastructure.adapter.out.ledger.LedgerEngine;
+import com.takeHome.Pismo.infrastructure.adapter.out.ledger.LedgerJournal;
+import com.takeHome.Pismo.infrastructure.adapter.out.metrics.MicrometerDischargeMetricsAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountBalancePersistenceAdapter;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountPersistenceAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountRegistryAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.CachingAccountPersistenceAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.CachingIdempotencyKeyAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.IdempotencyKeyPersistenceAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.IdempotencyKeyPurger;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionArchiver;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionPartitionMaintainer;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionPersistenceAdapter;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.takeHome.Pismo.infrastructure.concurrency.AccountLaneExecutor;
+import com.takeHome.Pismo.infrastructure.concurrency.AccountLaneTransactionManagementPort;
+import com.takeHome.Pismo.infrastructure.concurrency.GroupCommitTransactionManagementPort;
+import com.takeHome.Pismo.infrastructure.metrics.MeteredPorts;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
 import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
 
 @Configuration
 @Profile("!Test")
+@EnableScheduling
 public class BeanConfiguration {
 
     @Bean
@@ -27,9 +64,27 @@ public class BeanConfiguration {
         return new JdbcTemplate(dataSource);
     }
 
+    @Bean(initMethod = "warmUp")
+    public AccountRegistryPort accountRegistryPort(JdbcTemplate jdbcTemplate,
+                                                   @Value("${pismo.accounts.registry.refresh-interval:PT1S}") Duration refreshInterval,
+                                                   @Value("${pismo.accounts.cache.negative-time-to-live:PT5S}") Duration negativeTimeToLive){
+        return new AccountRegistryAdapter(jdbcTemplate, refreshInterval, negativeTimeToLive);
+    }
+
     @Bean
-    public AccountPersistencePort accountPersistencePort(JdbcTemplate jdbcTemplate){
-        return new AccountPersistenceAdapter(jdbcTemplate);
+    public AccountPersistencePort accountPersistencePort(JdbcTemplate jdbcTemplate, AccountRegistryPort accountRegistryPort,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${pismo.accounts.cache.enabled:true}") boolean cacheEnabled,
+                                                         @Value("${pismo.accounts.cache.maximum-size:100000}") long maximumSize,
+                                                         @Value("${pismo.accounts.cache.time-to-live:PT10M}") Duration timeToLive,
+                                                         @Value("${pismo.accounts.cache.negative-time-to-live:PT5S}") Duration negativeTimeToLive){
+        AccountPersistencePort accountPersistenceAdapter = MeteredPorts.timed(AccountPersistencePort.class,
+                new AccountPersistenceAdapter(jdbcTemplate, accountRegistryPort), meterRegistry);
+        if (!cacheEnabled) {
+            return accountPersistenceAdapter;
+        }
+        return new CachingAccountPersistenceAdapter(accountPersistenceAdapter, maximumSize, timeToLive,
+                negativeTimeToLive, meterRegistry);
     }
 
     @Bean
@@ -38,24 +93,165 @@ public class BeanConfiguration {
     }
 
     @Bean
+    @Profile("!ledger")
     public TransactionPersistencePort transactionPersistencePort(JdbcTemplate jdbcTemplate,
-                                                                 TransactionPersistenceMapper transactionPersistenceMapper){
-        return new TransactionPersistenceAdapter(jdbcTemplate, transactionPersistenceMapper);
+                                                                 TransactionPersistenceMapper transactionPersistenceMapper,
+                                                                 MeterRegistry meterRegistry){
+        return MeteredPorts.timed(TransactionPersistencePort.class,
+                new TransactionPersistenceAdapter(jdbcTemplate, transactionPersistenceMapper), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pismo.transactions.partitions.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+    public TransactionPartitionMaintainer transactionPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                                                         @Value("${pismo.transactions.partitions.months-ahead:3}") int monthsAhead,
+                                                                         MeterRegistry meterRegistry){
+        return new TransactionPartitionMaintainer(jdbcTemplate, Clock.systemDefaultZone(), monthsAhead, meterRegistry);
     }
 
+    // Not with the ledger: it moves TRANSACTIONS rows behind the engine, which must be their only writer.
     @Bean
-    public AccountManagementPort accountManagementPort(AccountPersistencePort accountPersistencePort){
-        return new AccountManagementUseCase(accountPersistencePort);
+    @Profile("!ledger")
+    @ConditionalOnProperty(name = "pismo.transactions.archive.enabled", havingValue = "true", matchIfMissing = true)
+    public TransactionArchiver transactionArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                                   @Value("${pismo.transactions.archive.min-age:P90D}") Duration minimumAge,
+                                                   @Value("${pismo.transactions.archive.batch-size:500}") int batchSize,
+                                                   MeterRegistry meterRegistry){
+        return new TransactionArchiver(jdbcTemplate, transactionManager, Clock.systemDefaultZone(), minimumAge, batchSize, meterRegistry);
     }
 
     @Bean
-    public BalanceDischargePort balanceDischargePort(){
-        return new BalanceDischargeUseCase();
+    @Profile("!ledger")
+    public AccountBalancePersistencePort accountBalancePersistencePort(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry){
+        return MeteredPorts.timed(AccountBalancePersistencePort.class, new AccountBalancePersistenceAdapter(jdbcTemplate), meterRegistry);
+    }
+
+    @Bean(initMethod = "recover", destroyMethod = "close")
+    @Profile("ledger")
+    public LedgerEngine ledgerEngine(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     TransactionPersistenceMapper transactionPersistenceMapper,
+                                     AccountRegistryPort accountRegistryPort,
+                                     @Value("${pismo.ledger.journal.directory:ledger}") String journalDirectory,
+                                     @Value("${pismo.ledger.journal.segment-size:64MB}") DataSize segmentSize,
+                                     MeterRegistry meterRegistry){
+        TransactionPersistenceAdapter storedTransactions = new TransactionPersistenceAdapter(jdbcTemplate, transactionPersistenceMapper);
+        LedgerJournal journal = new LedgerJournal(Path.of(journalDirectory), Math.toIntExact(segmentSize.toBytes()), meterRegistry);
+        return new LedgerEngine(jdbcTemplate, transactionManager, storedTransactions, accountRegistryPort, journal, meterRegistry);
+    }
+
+    @Bean
+    @Profile("ledger")
+    public TransactionPersistencePort ledgerTransactionPersistencePort(LedgerEngine ledgerEngine, MeterRegistry meterRegistry){
+        return MeteredPorts.timed(TransactionPersistencePort.class, ledgerEngine, meterRegistry);
+    }
+
+    @Bean
+    @Profile("ledger")
+    public AccountBalancePersistencePort ledgerAccountBalancePersistencePort(LedgerEngine ledgerEngine, MeterRegistry meterRegistry){
+        return MeteredPorts.timed(AccountBalancePersistencePort.class, ledgerEngine, meterRegistry);
+    }
+
+    @Bean
+    public IdempotencyKeyPort idempotencyKeyPort(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                                 @Value("${pismo.idempotency.cache.maximum-size:100000}") long maximumSize,
+                                                 @Value("${pismo.idempotency.cache.time-to-live:PT1H}") Duration timeToLive){
+        IdempotencyKeyPort idempotencyKeyPersistenceAdapter = MeteredPorts.timed(IdempotencyKeyPort.class,
+                new IdempotencyKeyPersistenceAdapter(jdbcTemplate), meterRegistry);
+        return new CachingIdempotencyKeyAdapter(idempotencyKeyPersistenceAdapter, maximumSize, timeToLive, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pismo.idempotency.purge.enabled", havingValue = "true", matchIfMissing = true)
+    public IdempotencyKeyPurger idempotencyKeyPurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                                     @Value("${pismo.idempotency.purge.retention:P7D}") Duration retention,
+                                                     @Value("${pismo.idempotency.purge.batch-size:1000}") int batchSize,
+                                                     MeterRegistry meterRegistry){
+        return new IdempotencyKeyPurger(jdbcTemplate, transactionManager, Clock.systemDefaultZone(), retention, batchSize, meterRegistry);
+    }
+
+    @Bean
+    public AccountManagementPort accountManagementPort(AccountPersistencePort accountPersistencePort,
+                                                       AccountBalancePersistencePort accountBalancePersistencePort,
+                                                       MeterRegistry meterRegistry){
+        return MeteredPorts.timed(AccountManagementPort.class,
+                new AccountManagementUseCase(accountPersistencePort, accountBalancePersistencePort), meterRegistry);
+    }
+
+    @Bean
+    public TransactionHistoryPort transactionHistoryPort(TransactionPersistencePort transactionPersistencePort,
+                                                         AccountPersistencePort accountPersistencePort,
+                                                         MeterRegistry meterRegistry){
+        return MeteredPorts.timed(TransactionHistoryPort.class,
+                new TransactionHistoryUseCase(transactionPersistencePort, accountPersistencePort), meterRegistry);
+    }
+
+    @Bean
+    public TransactionExportPort transactionExportPort(TransactionPersistencePort transactionPersistencePort,
+                                                       AccountPersistencePort accountPersistencePort,
+                                                       MeterRegistry meterRegistry){
+        return MeteredPorts.timed(TransactionExportPort.class,
+                new TransactionHistoryUseCase(transactionPersistencePort, accountPersistencePort), meterRegistry);
+    }
+
+    @Bean
+    public BalanceDischargePort balanceDischargePort(MeterRegistry meterRegistry){
+        return MeteredPorts.timed(BalanceDischargePort.class, new BalanceDischargeUseCase(), meterRegistry);
+    }
+
+    @Bean
+    public DischargeMetricsPort dischargeMetricsPort(MeterRegistry meterRegistry){
+        return new MicrometerDischargeMetricsAdapter(meterRegistry);
+    }
+
+    @Bean
+    public TransactionManagementUseCase transactionManagementUseCase(TransactionPersistencePort transactionPersistencePort,
+                                                                     AccountBalancePersistencePort accountBalancePersistencePort,
+                                                                     BalanceDischargePort balanceDischargePort,
+                                                                     @Value("${pismo.transactions.concurrency-mode:ACCOUNT_ROW_LOCK}")
+                                                                     ConcurrencyMode concurrencyMode,
+                                                                     DischargeMetricsPort dischargeMetricsPort,
+                                                                     IdempotencyKeyPort idempotencyKeyPort){
+        return new TransactionManagementUseCase(transactionPersistencePort, accountBalancePersistencePort,
+                balanceDischargePort, concurrencyMode, dischargeMetricsPort, idempotencyKeyPort);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "pismo.transactions.account-lanes.enabled", havingValue = "true")
+    public AccountLaneExecutor accountLaneExecutor(@Value("${pismo.transactions.account-lanes.count:8}") int laneCount,
+                                                   MeterRegistry meterRegistry){
+        return new AccountLaneExecutor(laneCount, meterRegistry);
+    }
+
+    // Not with the ledger: its journal already shares fsyncs between commits, and its writes cannot roll back to a savepoint.
+    @Bean(destroyMethod = "close")
+    @Profile("!ledger")
+    @ConditionalOnProperty(name = "pismo.transactions.group-commit.enabled", havingValue = "true")
+    public GroupCommitTransactionManagementPort groupCommitTransactionManagementPort(TransactionManagementUseCase transactionManagementUseCase,
+                                                                                     PlatformTransactionManager transactionManager,
+                                                                                     @Value("${pismo.transactions.group-commit.max-batch-size:64}") int maxBatchSize,
+                                                                                     @Value("${pismo.transactions.group-commit.max-wait:PT0.0005S}") Duration maxWait,
+                                                                                     MeterRegistry meterRegistry){
+        return new GroupCommitTransactionManagementPort(transactionManagementUseCase, transactionManager, maxBatchSize,
+                maxWait, meterRegistry);
     }
 
+    // Outside the transactional use case bean, so replays, the account check and the lane wait never hold a transaction open.
     @Bean
-    public TransactionManagementPort transactionManagementPort(TransactionPersistencePort transactionPersistencePort,
-                                                               BalanceDischargePort balanceDischargePort){
-        return new TransactionManagementUseCase(transactionPersistencePort, balanceDischargePort);
+    @Primary
+    public TransactionManagementPort transactionManagementPort(TransactionManagementUseCase transactionManagementUseCase,
+                                                               AccountRegistryPort accountRegistryPort,
+                                                               IdempotencyKeyPort idempotencyKeyPort,
+                                                               Optional<AccountLaneExecutor> accountLaneExecutor,
+                                                               Optional<GroupCommitTransactionManagementPort> groupCommitTransactionManagementPort,
+                                                               MeterRegistry meterRegistry){
+        TransactionManagementPort committingPort = groupCommitTransactionManagementPort
+                .map(TransactionManagementPort.class::cast)
+                .orElse(transactionManagementUseCase);
+        TransactionManagementPort transactionManagementPort = accountLaneExecutor
+                .<TransactionManagementPort>map(executor -> new AccountLaneTransactionManagementPort(committingPort, executor))
+                .orElse(committingPort);
+        TransactionManagementPort guardedPort = new AccountGuardedTransactionManagementUseCase(transactionManagementPort, accountRegistryPort);
+        return MeteredPorts.timed(TransactionManagementPort.class,
+                new IdempotentTransactionManagementUseCase(guardedPort, idempotencyKeyPort), meterRegistry);
     }
 }
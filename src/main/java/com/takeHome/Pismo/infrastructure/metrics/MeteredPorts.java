@@ -0,0 +1,65 @@
+package com.takeHome.Pismo.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times every call on a port as pismo.port{port, method, exception}. Disable with management.metrics.enable.pismo.port=false.
+public final class MeteredPorts {
+
+    public static final String TIMER_NAME = "pismo.port";
+    private static final String NO_EXCEPTION = "none";
+
+    private MeteredPorts() {
+    }
+
+    public static <T> T timed(Class<T> portType, T port, MeterRegistry meterRegistry) {
+
+        ProxyFactory proxyFactory = new ProxyFactory(port);
+        proxyFactory.setInterfaces(portType);
+        proxyFactory.addAdvice(new PortTimer(portType.getSimpleName(), meterRegistry));
+        return portType.cast(proxyFactory.getProxy());
+    }
+
+    private static final class PortTimer implements MethodInterceptor {
+
+        private final String portName;
+        private final MeterRegistry meterRegistry;
+        private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+        private PortTimer(String portName, MeterRegistry meterRegistry) {
+            this.portName = portName;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                Object result = invocation.proceed();
+                sample.stop(successTimers.computeIfAbsent(invocation.getMethod(), method -> timer(method, NO_EXCEPTION)));
+                return result;
+            } catch (Throwable ex) {
+                sample.stop(timer(invocation.getMethod(), ex.getClass().getSimpleName()));
+                throw ex;
+            }
+        }
+
+        private Timer timer(Method method, String exception) {
+            return Timer.builder(TIMER_NAME)
+                    .description("Time spent in a port method")
+                    .tag("port", portName)
+                    .tag("method", method.getName())
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
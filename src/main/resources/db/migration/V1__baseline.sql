@@ -34,4 +34,4 @@ CREATE TABLE IF NOT EXISTS TRANSACTIONS (
           OR
           (OPERATIONTYPE_ID = 4 AND AMOUNT >= 0)
       )
-);
\ No newline at end of file
+);
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS TRANSACTIONS_ARCHIVE (
+    TRANSACTION_ID BIGINT PRIMARY KEY,
+    ACCOUNT_ID BIGINT NOT NULL,
+    OPERATIONTYPE_ID INT NOT NULL,
+    AMOUNT DECIMAL(12, 2) NOT NULL,
+    BALANCE DECIMAL(12, 2) DEFAULT 0.0,
+    EVENT_DATE TIMESTAMP(6) NOT NULL,
+
+    INDEX idx_transactions_archive_account_event_date (ACCOUNT_ID, EVENT_DATE),
+    INDEX idx_transactions_archive_account_type_event_date (ACCOUNT_ID, OPERATIONTYPE_ID, EVENT_DATE),
+    INDEX idx_transactions_archive_event_date (EVENT_DATE)
+);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS IDEMPOTENCY_KEYS (
+    IDEMPOTENCY_KEY VARCHAR(255) PRIMARY KEY,
+    TRANSACTION_ID BIGINT NOT NULL,
+    ACCOUNT_ID BIGINT NOT NULL,
+    OPERATIONTYPE_ID INT NOT NULL,
+    AMOUNT DECIMAL(12, 2) NOT NULL,
+    EVENT_DATE TIMESTAMP(6) NOT NULL,
+    CREATED_AT TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
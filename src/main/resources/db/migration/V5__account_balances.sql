@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS ACCOUNT_BALANCES (
+    ACCOUNT_ID BIGINT PRIMARY KEY,
+    OPEN_DEBIT_TOTAL DECIMAL(14, 2) NOT NULL DEFAULT 0.0,
+    AVAILABLE_CREDIT DECIMAL(14, 2) NOT NULL DEFAULT 0.0,
+    LAST_EVENT_DATE TIMESTAMP(6) NULL,
+
+    CONSTRAINT fk_account_balances_account
+        FOREIGN KEY (ACCOUNT_ID) REFERENCES ACCOUNTS (ACCOUNT_ID)
+);
+
+-- Accounts with transactions from before this table get their totals once, here; every write keeps them current afterwards.
+INSERT INTO ACCOUNT_BALANCES (ACCOUNT_ID, OPEN_DEBIT_TOTAL, AVAILABLE_CREDIT, LAST_EVENT_DATE)
+SELECT ACCOUNT_ID,
+       -SUM(CASE WHEN OPERATIONTYPE_ID != 4 THEN BALANCE ELSE 0 END),
+       SUM(CASE WHEN OPERATIONTYPE_ID = 4 THEN BALANCE ELSE 0 END),
+       MAX(EVENT_DATE)
+FROM TRANSACTIONS
+GROUP BY ACCOUNT_ID;
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS LEDGER_CHECKPOINT (
+    CHECKPOINT_ID TINYINT PRIMARY KEY,
+    LSN BIGINT NOT NULL
+);
+
+INSERT IGNORE INTO LEDGER_CHECKPOINT (CHECKPOINT_ID, LSN) VALUES (1, 0);
+
+CREATE TABLE IF NOT EXISTS LEDGER_COMMITS (
+    LSN BIGINT PRIMARY KEY
+);
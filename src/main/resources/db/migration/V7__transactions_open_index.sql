@@ -0,0 +1,4 @@
+-- Debits settle towards zero from below and payments from above, so a non-zero balance is exactly an open row.
+ALTER TABLE TRANSACTIONS
+    ADD COLUMN IS_OPEN BOOLEAN AS (BALANCE <> 0) STORED,
+    ADD INDEX idx_transactions_account_open_event_date (ACCOUNT_ID, IS_OPEN, EVENT_DATE);
@@ -0,0 +1 @@
+CREATE INDEX idx_idempotency_keys_created_at ON IDEMPOTENCY_KEYS (CREATED_AT);
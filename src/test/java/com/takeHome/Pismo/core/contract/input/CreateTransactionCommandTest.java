@@ -10,6 +10,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.math.BigDecimal;
 import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
 import static com.takeHome.Pismo.core.Constants.INVALID_AMOUNT_VALUE_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_IDEMPOTENCY_KEY_MSG;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -109,4 +110,24 @@ public class CreateTransactionCommandTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage(String.format(Constants.INVALID_OPERATION_ID_MSG,invalidOperationTypeId));
     }
+
+    @Test
+    void givenIdempotencyKey_whenFromRequestIsInvoked_thenKeyIsStored(){
+        CreateTransactionRequest request = new CreateTransactionRequest(ACCOUNT_ID, OPERATION_TYPE.getId(), AMOUNT);
+
+        CreateTransactionCommand command = CreateTransactionCommand.fromRequest(request, "retry-1");
+
+        assertThat(command.idempotencyKey()).isEqualTo("retry-1");
+        assertThat(CreateTransactionCommand.fromRequest(request).idempotencyKey()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 256})
+    void givenBlankOrOversizedIdempotencyKey_whenCommandIsCreated_thenIllegalArgumentExceptionIsThrown(int length){
+        String idempotencyKey = length == 256 ? "k".repeat(length) : " ".repeat(length);
+
+        assertThatThrownBy(() -> new CreateTransactionCommand(ACCOUNT_ID, OPERATION_TYPE, AMOUNT, idempotencyKey))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_IDEMPOTENCY_KEY_MSG.formatted(CreateTransactionCommand.MAX_IDEMPOTENCY_KEY_LENGTH));
+    }
 }
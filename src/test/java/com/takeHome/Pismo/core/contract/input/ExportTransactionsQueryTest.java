@@ -0,0 +1,42 @@
+package com.takeHome.Pismo.core.contract.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_DATE_RANGE_MSG;
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportTransactionsQueryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void givenFilters_whenBuilt_thenValuesAreStored() {
+        // When
+        ExportTransactionsQuery query = ExportTransactionsQuery.builder()
+                .accountId(1L).operationType(PAYMENT).from(FROM).to(FROM.plusMonths(1)).build();
+
+        // Then
+        assertThat(query).isEqualTo(new ExportTransactionsQuery(1L, PAYMENT, FROM, FROM.plusMonths(1)));
+    }
+
+    @Test
+    void givenZeroAccountId_whenBuilt_thenExceptionIsThrown() {
+
+        assertThatThrownBy(() -> ExportTransactionsQuery.builder().accountId(0L).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_ACCOUNT_ID_MSG.formatted(0L));
+    }
+
+    @Test
+    void givenFromAfterTo_whenBuilt_thenExceptionIsThrown() {
+
+        assertThatThrownBy(() -> ExportTransactionsQuery.builder().accountId(1L).from(FROM.plusDays(1)).to(FROM).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_DATE_RANGE_MSG.formatted(FROM.plusDays(1), FROM));
+    }
+}
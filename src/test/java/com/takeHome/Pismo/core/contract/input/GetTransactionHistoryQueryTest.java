@@ -0,0 +1,56 @@
+package com.takeHome.Pismo.core.contract.input;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_DATE_RANGE_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_PAGE_LIMIT_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GetTransactionHistoryQueryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void givenOnlyAccountId_whenBuilt_thenDefaultLimitAndNoFiltersApply() {
+        // When
+        GetTransactionHistoryQuery query = GetTransactionHistoryQuery.builder().accountId(1L).build();
+
+        // Then
+        assertThat(query.limit()).isEqualTo(GetTransactionHistoryQuery.DEFAULT_LIMIT);
+        assertThat(query.operationType()).isNull();
+        assertThat(query.from()).isNull();
+        assertThat(query.to()).isNull();
+        assertThat(query.after()).isNull();
+    }
+
+    @Test
+    void givenZeroAccountId_whenBuilt_thenExceptionIsThrown() {
+
+        assertThatThrownBy(() -> GetTransactionHistoryQuery.builder().accountId(0L).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_ACCOUNT_ID_MSG.formatted(0L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, GetTransactionHistoryQuery.MAX_LIMIT + 1})
+    void givenOutOfRangeLimit_whenBuilt_thenExceptionIsThrown(int limit) {
+
+        assertThatThrownBy(() -> GetTransactionHistoryQuery.builder().accountId(1L).limit(limit).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_PAGE_LIMIT_MSG.formatted(limit, GetTransactionHistoryQuery.MAX_LIMIT));
+    }
+
+    @Test
+    void givenFromNotBeforeTo_whenBuilt_thenExceptionIsThrown() {
+
+        assertThatThrownBy(() -> GetTransactionHistoryQuery.builder().accountId(1L).from(FROM).to(FROM).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_DATE_RANGE_MSG.formatted(FROM, FROM));
+    }
+}
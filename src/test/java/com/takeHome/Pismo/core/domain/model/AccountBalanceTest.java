@@ -0,0 +1,49 @@
+package com.takeHome.Pismo.core.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountBalanceTest {
+
+    private static final long ACCOUNT_ID = 1L;
+
+    @Test
+    void givenMissingTotals_whenBuilt_thenTotalsDefaultToZero() {
+        // When
+        AccountBalance accountBalance = AccountBalance.builder().accountId(ACCOUNT_ID).build();
+
+        // Then
+        assertThat(accountBalance.openDebitTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(accountBalance.availableCredit()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(accountBalance.lastEventDate()).isNull();
+        assertThat(accountBalance.hasOpenDebits()).isFalse();
+        assertThat(accountBalance.hasAvailableCredit()).isFalse();
+    }
+
+    @Test
+    void givenPositiveTotals_whenBuilt_thenOpenDebitsAndCreditAreReported() {
+        // When
+        AccountBalance accountBalance = AccountBalance.builder()
+                .accountId(ACCOUNT_ID)
+                .openDebitTotal(BigDecimal.TEN)
+                .availableCredit(BigDecimal.ONE)
+                .build();
+
+        // Then
+        assertThat(accountBalance.hasOpenDebits()).isTrue();
+        assertThat(accountBalance.hasAvailableCredit()).isTrue();
+    }
+
+    @Test
+    void givenInvalidAccountId_whenBuilt_thenIllegalArgumentExceptionThrown() {
+        // When - Then
+        assertThatThrownBy(() -> AccountBalance.builder().accountId(0L).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_ACCOUNT_ID_MSG.formatted(0L));
+    }
+}
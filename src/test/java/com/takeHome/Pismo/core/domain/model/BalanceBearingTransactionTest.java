@@ -108,4 +108,26 @@ public class BalanceBearingTransactionTest {
 
         assertThat(executableTransaction.isPayment()).isFalse();
     }
+
+    @Test
+    void givenAppliedPayment_whenBalanceChanges_thenTransactionIsDirtyAndKeepsOriginalBalance() {
+        Transaction transaction = Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .build();
+
+        ExecutableTransaction executableTransaction = ExecutableTransaction.from(transaction);
+
+        assertThat(executableTransaction.isDirty()).isFalse();
+
+        executableTransaction.applyPayment(BigDecimal.ONE);
+
+        assertThat(executableTransaction.isDirty()).isTrue();
+        assertThat(executableTransaction.originalBalance()).isEqualByComparingTo(AMOUNT.negate());
+
+        executableTransaction.applyPayment(BigDecimal.ONE.negate());
+
+        assertThat(executableTransaction.isDirty()).isFalse();
+    }
 }
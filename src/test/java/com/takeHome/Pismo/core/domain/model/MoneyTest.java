@@ -0,0 +1,72 @@
+package com.takeHome.Pismo.core.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MoneyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "10, 1000",
+            "10.5, 1050",
+            "-0.01, -1",
+            "0.005, 1",
+            "-0.005, -1",
+            "0.004, 0",
+            "123456789.99, 12345678999"
+    })
+    void givenBigDecimal_whenConverted_thenRoundedHalfUpToMinorUnits(String amount, long minorUnits) {
+        Money money = Money.of(new BigDecimal(amount));
+
+        assertThat(money.minorUnits()).isEqualTo(minorUnits);
+        assertThat(money.toBigDecimal())
+                .isEqualTo(new BigDecimal(amount).setScale(Money.SCALE, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    void givenMoney_whenArithmeticApplied_thenMatchesMinorUnits() {
+        Money ten = Money.of(BigDecimal.TEN);
+        Money four = Money.of(BigDecimal.valueOf(4));
+
+        assertThat(ten.plus(four).toBigDecimal()).isEqualByComparingTo("14");
+        assertThat(four.minus(ten).toBigDecimal()).isEqualByComparingTo("-6");
+        assertThat(ten.negate().signum()).isEqualTo(-1);
+        assertThat(ten.min(four)).isSameAs(four);
+        assertThat(ten.minus(ten)).isSameAs(Money.ZERO);
+        assertThat(ten.compareTo(four)).isPositive();
+    }
+
+    @Test
+    void givenOverflowingSum_whenAdded_thenArithmeticExceptionThrown() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1L)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void givenRandomAmounts_whenArithmeticApplied_thenEquivalentToBigDecimal() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal left = BigDecimal.valueOf(random.nextLong(-10_000_000L, 10_000_000L), 2);
+            BigDecimal right = BigDecimal.valueOf(random.nextLong(-10_000_000L, 10_000_000L), 2);
+            Money leftMoney = Money.of(left);
+            Money rightMoney = Money.of(right);
+
+            assertThat(leftMoney.plus(rightMoney).toBigDecimal()).isEqualTo(left.add(right));
+            assertThat(leftMoney.minus(rightMoney).toBigDecimal()).isEqualTo(left.subtract(right));
+            assertThat(leftMoney.min(rightMoney).toBigDecimal()).isEqualTo(left.min(right));
+            assertThat(leftMoney.negate().toBigDecimal()).isEqualTo(left.negate());
+            assertThat(leftMoney.compareTo(rightMoney)).isEqualTo(left.compareTo(right));
+        }
+    }
+}
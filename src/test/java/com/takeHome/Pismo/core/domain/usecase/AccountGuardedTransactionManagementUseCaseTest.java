@@ -0,0 +1,113 @@
+package com.takeHome.Pismo.core.domain.usecase;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import com.takeHome.Pismo.core.usecase.AccountGuardedTransactionManagementUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_EXISTS_EXCEPTION_MSG;
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountGuardedTransactionManagementUseCaseTest {
+
+    private static final long KNOWN_ACCOUNT_ID = 1L;
+    private static final long UNKNOWN_ACCOUNT_ID = 99L;
+
+    @Mock
+    private TransactionManagementPort delegate;
+
+    @Mock
+    private AccountRegistryPort accountRegistryPort;
+
+    private AccountGuardedTransactionManagementUseCase guardedUseCase;
+
+    @BeforeEach
+    void setup() {
+        guardedUseCase = new AccountGuardedTransactionManagementUseCase(delegate, accountRegistryPort);
+    }
+
+    @Test
+    void givenUnknownAccount_whenTransactionPosted_thenRejectedWithoutReachingUseCase() {
+        // Given
+        when(accountRegistryPort.isKnown(UNKNOWN_ACCOUNT_ID)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> guardedUseCase.saveTransactionAndDischargeDebitBalances(
+                new CreateTransactionCommand(UNKNOWN_ACCOUNT_ID, CASH_PURCHASE, BigDecimal.TEN)))
+                .isInstanceOf(AccountDoesNotExistException.class)
+                .hasMessage(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(UNKNOWN_ACCOUNT_ID));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void givenKnownAccount_whenTransactionPosted_thenDelegated() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(KNOWN_ACCOUNT_ID, PAYMENT, BigDecimal.TEN);
+        TransactionResult saved = TransactionResult.builder().transactionId(5L).accountId(KNOWN_ACCOUNT_ID).build();
+        when(accountRegistryPort.isKnown(KNOWN_ACCOUNT_ID)).thenReturn(true);
+        when(delegate.saveTransactionAndDischargeDebitBalances(command)).thenReturn(saved);
+
+        // When
+        TransactionResult result = guardedUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        assertThat(result).isSameAs(saved);
+    }
+
+    @Test
+    void givenBulkWithUnknownAccount_whenSaved_thenOnlyKnownLinesAreDelegatedAndOrderIsKept() {
+        // Given
+        CreateTransactionCommand first = new CreateTransactionCommand(KNOWN_ACCOUNT_ID, CASH_PURCHASE, BigDecimal.TEN);
+        CreateTransactionCommand unknown = new CreateTransactionCommand(UNKNOWN_ACCOUNT_ID, CASH_PURCHASE, BigDecimal.TEN);
+        CreateTransactionCommand last = new CreateTransactionCommand(KNOWN_ACCOUNT_ID, PAYMENT, BigDecimal.ONE);
+        BulkTransactionResult firstSaved = BulkTransactionResult.accepted(TransactionResult.builder().transactionId(1L).build());
+        BulkTransactionResult lastSaved = BulkTransactionResult.accepted(TransactionResult.builder().transactionId(2L).build());
+        when(accountRegistryPort.isKnown(KNOWN_ACCOUNT_ID)).thenReturn(true);
+        when(accountRegistryPort.isKnown(UNKNOWN_ACCOUNT_ID)).thenReturn(false);
+        when(delegate.saveTransactions(List.of(first, last))).thenReturn(List.of(firstSaved, lastSaved));
+
+        // When
+        List<BulkTransactionResult> results = guardedUseCase.saveTransactions(List.of(first, unknown, last));
+
+        // Then
+        verify(delegate).saveTransactions(List.of(first, last));
+        assertThat(results).hasSize(3);
+        assertThat(results.getFirst()).isSameAs(firstSaved);
+        assertThat(results.get(1).isAccepted()).isFalse();
+        assertThat(results.get(1).error()).isEqualTo(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(UNKNOWN_ACCOUNT_ID));
+        assertThat(results.getLast()).isSameAs(lastSaved);
+    }
+
+    @Test
+    void givenBulkWithOnlyUnknownAccounts_whenSaved_thenUseCaseIsNotCalled() {
+        // Given
+        when(accountRegistryPort.isKnown(UNKNOWN_ACCOUNT_ID)).thenReturn(false);
+
+        // When
+        List<BulkTransactionResult> results = guardedUseCase.saveTransactions(
+                List.of(new CreateTransactionCommand(UNKNOWN_ACCOUNT_ID, CASH_PURCHASE, BigDecimal.TEN)));
+
+        // Then
+        assertThat(results).hasSize(1);
+        assertThat(results.getFirst().isAccepted()).isFalse();
+        verifyNoInteractions(delegate);
+    }
+}
@@ -2,8 +2,12 @@ package com.takeHome.Pismo.core.domain.usecase;
 
 import com.takeHome.Pismo.core.contract.input.CreateAccountCommand;
 import com.takeHome.Pismo.core.contract.input.GetAccountByAccountIdQuery;
+import com.takeHome.Pismo.core.contract.output.AccountBalanceResult;
 import com.takeHome.Pismo.core.contract.output.AccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkAccountResult;
 import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
 import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
 import com.takeHome.Pismo.core.exception.AccountNotFoundException;
 import com.takeHome.Pismo.core.exception.DuplicateDocumentNumberException;
@@ -15,6 +19,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_FOUND_EXCEPTION_MSG;
@@ -36,11 +43,14 @@ class AccountManagementUseCaseTest {
     @Mock
     private AccountPersistencePort accountPersistencePort;
 
+    @Mock
+    private AccountBalancePersistencePort accountBalancePersistencePort;
+
     private AccountManagementUseCase accountManagementUseCase;
 
     @BeforeEach
     void setup(){
-        accountManagementUseCase = new AccountManagementUseCase(accountPersistencePort);
+        accountManagementUseCase = new AccountManagementUseCase(accountPersistencePort, accountBalancePersistencePort);
     }
 
     @Test
@@ -132,5 +142,76 @@ class AccountManagementUseCaseTest {
 
         verify(accountPersistencePort).retrieve(missingAccountId);
     }
-}
 
+    @Test
+    void givenExistingAccountId_whenRetrieveAccountBalanceCalled_thenBalanceResultIsReturned() {
+        // Given
+        GetAccountByAccountIdQuery query = new GetAccountByAccountIdQuery(ACCOUNT_ID);
+        LocalDateTime lastEventDate = LocalDateTime.now();
+
+        AccountBalance accountBalance = AccountBalance.builder()
+                .accountId(ACCOUNT_ID)
+                .openDebitTotal(BigDecimal.valueOf(45.50))
+                .availableCredit(BigDecimal.ZERO)
+                .lastEventDate(lastEventDate)
+                .build();
+
+        when(accountBalancePersistencePort.retrieve(ACCOUNT_ID)).thenReturn(Optional.of(accountBalance));
+
+        // When
+        AccountBalanceResult result = accountManagementUseCase.retrieveAccountBalance(query);
+
+        // Then
+        verify(accountBalancePersistencePort).retrieve(ACCOUNT_ID);
+        verifyNoInteractions(accountPersistencePort);
+        assertThat(result.accountId()).isEqualTo(ACCOUNT_ID);
+        assertThat(result.openDebitTotal()).isEqualByComparingTo(BigDecimal.valueOf(45.50));
+        assertThat(result.availableCredit()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.lastEventDate()).isEqualTo(lastEventDate);
+    }
+
+    @Test
+    void givenNonExistingAccountId_whenRetrieveAccountBalanceCalled_thenAccountNotFoundExceptionThrown() {
+        // Given
+        long missingAccountId = 999L;
+        GetAccountByAccountIdQuery query = new GetAccountByAccountIdQuery(missingAccountId);
+
+        when(accountBalancePersistencePort.retrieve(missingAccountId)).thenReturn(Optional.empty());
+
+        // When- Then
+        assertThatThrownBy(() -> accountManagementUseCase.retrieveAccountBalance(query))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessageContaining(ACCOUNT_NOT_FOUND_EXCEPTION_MSG.formatted(missingAccountId));
+    }
+
+    @Test
+    void givenNewExistingAndRepeatedDocumentNumbers_whenSaveAccountsCalled_thenDuplicatesAreReportedPerItem() {
+        // Given
+        long takenDocumentNumber = 98765432100L;
+        List<CreateAccountCommand> commands = List.of(
+                new CreateAccountCommand(DOCUMENT_NUMBER),
+                new CreateAccountCommand(takenDocumentNumber),
+                new CreateAccountCommand(DOCUMENT_NUMBER));
+
+        when(accountPersistencePort.saveAll(any())).thenReturn(List.of(
+                Account.builder().accountId(ACCOUNT_ID).documentNumber(DOCUMENT_NUMBER).build()));
+
+        // When
+        List<BulkAccountResult> results = accountManagementUseCase.saveAccounts(commands);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Account>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountPersistencePort).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Account::documentNumber)
+                .containsExactly(DOCUMENT_NUMBER, takenDocumentNumber, DOCUMENT_NUMBER);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.getFirst().isAccepted()).isTrue();
+        assertThat(results.getFirst().account().accountId()).isEqualTo(ACCOUNT_ID);
+        assertThat(results.get(1).isAccepted()).isFalse();
+        assertThat(results.get(1).error()).isEqualTo(DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG.formatted(takenDocumentNumber));
+        assertThat(results.getLast().isAccepted()).isFalse();
+        assertThat(results.getLast().error()).isEqualTo(DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG.formatted(DOCUMENT_NUMBER));
+    }
+}
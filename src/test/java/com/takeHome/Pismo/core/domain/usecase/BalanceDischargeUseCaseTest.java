@@ -1,8 +1,10 @@
 package com.takeHome.Pismo.core.domain.usecase;
 
+import com.takeHome.Pismo.core.domain.model.CreditApplicationResult;
 import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
 import com.takeHome.Pismo.core.domain.model.OperationType;
 import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionDischargeResult;
 import com.takeHome.Pismo.core.usecase.BalanceDischargeUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +14,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 
 public class BalanceDischargeUseCaseTest {
@@ -165,4 +169,217 @@ public class BalanceDischargeUseCaseTest {
 
         assertThat(payment.balance()).isEqualByComparingTo(BigDecimal.TEN.setScale(2, RoundingMode.HALF_UP));
     }
+
+    @Test
+    void givenSettledAndUnreachedDebits_whenDischarged_thenOnlyModifiedDebitsAreReported() {
+        ExecutableTransaction settledDebit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .eventDate(LocalDateTime.now().minusDays(2))
+                .build(), BigDecimal.ZERO);
+        ExecutableTransaction reachedDebit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .eventDate(LocalDateTime.now().minusDays(1))
+                .build());
+        ExecutableTransaction unreachedDebit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .eventDate(LocalDateTime.now())
+                .build());
+
+        ExecutableTransaction payment = ExecutableTransaction
+                .from(Transaction.builder()
+                        .accountId(ACCOUNT_ID)
+                        .amount(BigDecimal.valueOf(4))
+                        .operationTypeId(OperationType.PAYMENT.getId())
+                        .build());
+
+        TransactionDischargeResult result = balanceDischargeUseCase.discharge(payment, List.of(settledDebit, reachedDebit, unreachedDebit));
+
+        assertThat(result.updatedDebits()).hasSize(1);
+        assertThat(result.updatedDebits().getFirst()).isSameAs(reachedDebit);
+        assertThat(reachedDebit.isDirty()).isTrue();
+        assertThat(reachedDebit.originalBalance()).isEqualByComparingTo(AMOUNT.negate());
+        assertThat(settledDebit.isDirty()).isFalse();
+        assertThat(unreachedDebit.isDirty()).isFalse();
+        assertThat(result.payment().isDirty()).isTrue();
+    }
+
+    @Test
+    void givenOpenCreditsExceedingDebit_whenCreditsApplied_thenOldestCreditsAreConsumedFirst() {
+        ExecutableTransaction laterCredit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(BigDecimal.valueOf(8))
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .eventDate(LocalDateTime.now().minusDays(1))
+                .build());
+        ExecutableTransaction olderCredit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(BigDecimal.valueOf(6))
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .eventDate(LocalDateTime.now().minusDays(2))
+                .build());
+        ExecutableTransaction untouchedCredit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(BigDecimal.valueOf(5))
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .eventDate(LocalDateTime.now())
+                .build());
+
+        ExecutableTransaction debit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .eventDate(LocalDateTime.now())
+                .build());
+
+        CreditApplicationResult result = balanceDischargeUseCase.applyCredits(debit, List.of(laterCredit, olderCredit, untouchedCredit));
+
+        assertThat(debit.isSettled()).isTrue();
+        assertThat(olderCredit.balance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(laterCredit.balance()).isEqualByComparingTo(BigDecimal.valueOf(4));
+        assertThat(untouchedCredit.isDirty()).isFalse();
+        assertThat(result.debit()).isSameAs(debit);
+        assertThat(result.updatedCredits()).hasSize(2);
+        assertThat(result.updatedCredits().getFirst()).isSameAs(olderCredit);
+        assertThat(result.updatedCredits().getLast()).isSameAs(laterCredit);
+    }
+
+    @Test
+    void givenCreditSmallerThanDebit_whenCreditsApplied_thenDebitIsReduced() {
+        ExecutableTransaction credit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(BigDecimal.valueOf(4))
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .build());
+
+        ExecutableTransaction debit = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .build());
+
+        CreditApplicationResult result = balanceDischargeUseCase.applyCredits(debit, List.of(credit));
+
+        assertThat(debit.balance()).isEqualByComparingTo(BigDecimal.valueOf(-6));
+        assertThat(credit.isSettled()).isTrue();
+        assertThat(result.updatedCredits()).hasSize(1);
+    }
+
+    @Test
+    void givenPaymentInsteadOfDebit_whenCreditsApplied_thenIllegalArgumentExceptionThrown() {
+        ExecutableTransaction payment = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .build());
+
+        assertThatThrownBy(() -> balanceDischargeUseCase.applyCredits(payment, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenRandomBalances_whenDischarged_thenEquivalentToBigDecimalReference() {
+        Random random = new Random(7L);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        for (int round = 0; round < 500; round++) {
+            BigDecimal paymentAmount = BigDecimal.valueOf(random.nextLong(1, 100_000), 2);
+            List<BigDecimal> reference = new ArrayList<>();
+            List<ExecutableTransaction> debits = new ArrayList<>();
+            int debitCount = random.nextInt(1, 20);
+            for (int i = 0; i < debitCount; i++) {
+                BigDecimal debitAmount = BigDecimal.valueOf(random.nextLong(1, 10_000), 2);
+                reference.add(debitAmount.negate());
+                debits.add(ExecutableTransaction.from(Transaction.builder()
+                        .transactionId(i + 1L)
+                        .accountId(ACCOUNT_ID)
+                        .amount(debitAmount)
+                        .operationTypeId(OPERATION_TYPE.getId())
+                        .eventDate(start.plusMinutes(i))
+                        .build()));
+            }
+            ExecutableTransaction payment = ExecutableTransaction.from(Transaction.builder()
+                    .accountId(ACCOUNT_ID)
+                    .amount(paymentAmount)
+                    .operationTypeId(OperationType.PAYMENT.getId())
+                    .build());
+
+            BigDecimal referencePayment = paymentAmount.setScale(2, RoundingMode.HALF_UP);
+            for (int i = 0; i < reference.size() && referencePayment.compareTo(BigDecimal.ZERO) > 0; i++) {
+                BigDecimal amountToApply = referencePayment.min(reference.get(i).negate());
+                reference.set(i, reference.get(i).add(amountToApply).setScale(2, RoundingMode.HALF_UP));
+                referencePayment = referencePayment.add(amountToApply.negate()).setScale(2, RoundingMode.HALF_UP);
+            }
+
+            balanceDischargeUseCase.discharge(payment, debits);
+
+            assertThat(payment.balance()).isEqualTo(referencePayment);
+            for (int i = 0; i < reference.size(); i++) {
+                assertThat(debits.get(i).balance()).isEqualTo(reference.get(i));
+            }
+        }
+    }
+
+    @Test
+    void givenPresortedDebits_whenPaymentExhausted_thenLaterDebitsAreNotTouched() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<ExecutableTransaction> debits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            debits.add(ExecutableTransaction.from(Transaction.builder()
+                    .transactionId(i + 1L)
+                    .accountId(ACCOUNT_ID)
+                    .amount(AMOUNT)
+                    .operationTypeId(OPERATION_TYPE.getId())
+                    .eventDate(start.plusMinutes(i))
+                    .build()));
+        }
+        ExecutableTransaction payment = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(BigDecimal.valueOf(15))
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .build());
+
+        TransactionDischargeResult result = balanceDischargeUseCase.dischargePresorted(payment, debits);
+
+        assertThat(debits.get(0).isSettled()).isTrue();
+        assertThat(debits.get(1).balance()).isEqualByComparingTo(BigDecimal.valueOf(-5));
+        assertThat(debits.get(2).isDirty()).isFalse();
+        assertThat(payment.isSettled()).isTrue();
+        assertThat(result.updatedDebits()).hasSize(2);
+        assertThat(result.updatedDebits().getFirst()).isSameAs(debits.get(0));
+        assertThat(result.updatedDebits().getLast()).isSameAs(debits.get(1));
+    }
+
+    @Test
+    void givenUnsortedDebits_whenDischargedPresorted_thenAssertionFails() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ExecutableTransaction later = ExecutableTransaction.from(Transaction.builder()
+                .transactionId(1L)
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .eventDate(start.plusDays(1))
+                .build());
+        ExecutableTransaction earlier = ExecutableTransaction.from(Transaction.builder()
+                .transactionId(2L)
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OPERATION_TYPE.getId())
+                .eventDate(start)
+                .build());
+        ExecutableTransaction payment = ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .amount(AMOUNT)
+                .operationTypeId(OperationType.PAYMENT.getId())
+                .build());
+
+        assertThatThrownBy(() -> balanceDischargeUseCase.dischargePresorted(payment, List.of(later, earlier)))
+                .isInstanceOf(AssertionError.class);
+        assertThat(later.isDirty()).isFalse();
+    }
 }
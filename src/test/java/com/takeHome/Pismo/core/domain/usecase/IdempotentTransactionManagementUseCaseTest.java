@@ -0,0 +1,117 @@
+package com.takeHome.Pismo.core.domain.usecase;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyConflictException;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyMismatchException;
+import com.takeHome.Pismo.core.usecase.IdempotentTransactionManagementUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.takeHome.Pismo.core.Constants.IDEMPOTENCY_KEY_CONFLICT_MSG;
+import static com.takeHome.Pismo.core.Constants.IDEMPOTENCY_KEY_MISMATCH_MSG;
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentTransactionManagementUseCaseTest {
+
+    private static final long ACCOUNT_ID = 1L;
+    private static final String IDEMPOTENCY_KEY = "retry-1";
+
+    @Mock
+    private TransactionManagementPort delegate;
+
+    @Mock
+    private IdempotencyKeyPort idempotencyKeyPort;
+
+    private IdempotentTransactionManagementUseCase idempotentUseCase;
+
+    @BeforeEach
+    void setup() {
+        idempotentUseCase = new IdempotentTransactionManagementUseCase(delegate, idempotencyKeyPort);
+    }
+
+    @Test
+    void givenCommandWithoutKey_whenPosted_thenDelegatedWithoutLookup() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, CASH_PURCHASE, BigDecimal.TEN);
+        TransactionResult saved = storedResult();
+        when(delegate.saveTransactionAndDischargeDebitBalances(command)).thenReturn(saved);
+
+        // When
+        TransactionResult result = idempotentUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        assertThat(result).isSameAs(saved);
+        verifyNoInteractions(idempotencyKeyPort);
+    }
+
+    @Test
+    void givenStoredKey_whenPostedAgain_thenStoredResultIsReplayedWithoutPosting() {
+        // Given
+        TransactionResult stored = storedResult();
+        when(idempotencyKeyPort.find(IDEMPOTENCY_KEY)).thenReturn(Optional.of(stored));
+
+        // When
+        TransactionResult result = idempotentUseCase.saveTransactionAndDischargeDebitBalances(keyedCommand(BigDecimal.TEN));
+
+        // Then
+        assertThat(result).isSameAs(stored);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void givenConcurrentAttemptCommittedFirst_whenKeyConflicts_thenWinnersResultIsReplayed() {
+        // Given
+        CreateTransactionCommand command = keyedCommand(BigDecimal.TEN);
+        TransactionResult stored = storedResult();
+        when(idempotencyKeyPort.find(IDEMPOTENCY_KEY)).thenReturn(Optional.empty(), Optional.of(stored));
+        when(delegate.saveTransactionAndDischargeDebitBalances(command))
+                .thenThrow(new IdempotencyKeyConflictException(IDEMPOTENCY_KEY_CONFLICT_MSG.formatted(IDEMPOTENCY_KEY)));
+
+        // When
+        TransactionResult result = idempotentUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        assertThat(result).isSameAs(stored);
+    }
+
+    @Test
+    void givenStoredKeyForAnotherAmount_whenPostedAgain_thenMismatchIsRejected() {
+        // Given
+        when(idempotencyKeyPort.find(IDEMPOTENCY_KEY)).thenReturn(Optional.of(storedResult()));
+
+        // When / Then
+        assertThatThrownBy(() -> idempotentUseCase.saveTransactionAndDischargeDebitBalances(keyedCommand(BigDecimal.ONE)))
+                .isInstanceOf(IdempotencyKeyMismatchException.class)
+                .hasMessage(IDEMPOTENCY_KEY_MISMATCH_MSG.formatted(IDEMPOTENCY_KEY));
+        verifyNoInteractions(delegate);
+    }
+
+    private static CreateTransactionCommand keyedCommand(BigDecimal amount) {
+        return new CreateTransactionCommand(ACCOUNT_ID, CASH_PURCHASE, amount, IDEMPOTENCY_KEY);
+    }
+
+    private static TransactionResult storedResult() {
+        return TransactionResult.builder()
+                .transactionId(7L)
+                .accountId(ACCOUNT_ID)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .amount(new BigDecimal("-10.00"))
+                .eventDate(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+    }
+}
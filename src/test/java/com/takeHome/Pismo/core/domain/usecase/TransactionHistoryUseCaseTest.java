@@ -0,0 +1,163 @@
+package com.takeHome.Pismo.core.domain.usecase;
+
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.contract.output.TransactionExport;
+import com.takeHome.Pismo.core.contract.output.TransactionHistoryResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
+import com.takeHome.Pismo.core.exception.AccountNotFoundException;
+import com.takeHome.Pismo.core.usecase.TransactionHistoryUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_FOUND_EXCEPTION_MSG;
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionHistoryUseCaseTest {
+
+    private static final long ACCOUNT_ID = 1L;
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private TransactionPersistencePort transactionPersistencePort;
+
+    @Mock
+    private AccountPersistencePort accountPersistencePort;
+
+    private TransactionHistoryUseCase transactionHistoryUseCase;
+
+    @BeforeEach
+    void setup(){
+        transactionHistoryUseCase = new TransactionHistoryUseCase(transactionPersistencePort, accountPersistencePort);
+    }
+
+    @Test
+    void givenMoreRowsThanLimit_whenRetrieveTransactionsCalled_thenPageIsTrimmedAndCursorPointsAtLastRow() {
+        // Given
+        GetTransactionHistoryQuery query = GetTransactionHistoryQuery.builder().accountId(ACCOUNT_ID).limit(2).build();
+
+        when(accountPersistencePort.retrieve(ACCOUNT_ID)).thenReturn(Optional.of(new Account(ACCOUNT_ID, 123L)));
+        when(transactionPersistencePort.fetchTransactions(query, 3)).thenReturn(List.of(
+                transaction(1L, EVENT_DATE),
+                transaction(2L, EVENT_DATE),
+                transaction(3L, EVENT_DATE.plusMinutes(1))));
+
+        // When
+        TransactionHistoryResult result = transactionHistoryUseCase.retrieveTransactions(query);
+
+        // Then
+        assertThat(result.transactions()).extracting(TransactionResult::transactionId).containsExactly(1L, 2L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(new TransactionCursor(EVENT_DATE, 2L));
+    }
+
+    @Test
+    void givenRowsWithinLimit_whenRetrieveTransactionsCalled_thenLastPageHasNoCursor() {
+        // Given
+        GetTransactionHistoryQuery query = GetTransactionHistoryQuery.builder()
+                .accountId(ACCOUNT_ID)
+                .operationType(PAYMENT)
+                .after(new TransactionCursor(EVENT_DATE, 5L))
+                .limit(2)
+                .build();
+
+        when(accountPersistencePort.retrieve(ACCOUNT_ID)).thenReturn(Optional.of(new Account(ACCOUNT_ID, 123L)));
+        when(transactionPersistencePort.fetchTransactions(query, 3)).thenReturn(List.of(transaction(6L, EVENT_DATE)));
+
+        // When
+        TransactionHistoryResult result = transactionHistoryUseCase.retrieveTransactions(query);
+
+        // Then
+        assertThat(result.transactions()).singleElement()
+                .satisfies(tx -> {
+                    assertThat(tx.transactionId()).isEqualTo(6L);
+                    assertThat(tx.accountId()).isEqualTo(ACCOUNT_ID);
+                    assertThat(tx.amount()).isEqualByComparingTo("-10.00");
+                    assertThat(tx.eventDate()).isEqualTo(EVENT_DATE);
+                });
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(transactionPersistencePort).fetchTransactions(query, 3);
+    }
+
+    @Test
+    void givenUnknownAccount_whenRetrieveTransactionsCalled_thenAccountNotFoundExceptionThrown() {
+        // Given
+        GetTransactionHistoryQuery query = GetTransactionHistoryQuery.builder().accountId(ACCOUNT_ID).build();
+
+        when(accountPersistencePort.retrieve(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        // When-Then
+        assertThatThrownBy(() -> transactionHistoryUseCase.retrieveTransactions(query))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage(ACCOUNT_NOT_FOUND_EXCEPTION_MSG.formatted(ACCOUNT_ID));
+
+        verifyNoInteractions(transactionPersistencePort);
+    }
+
+    @Test
+    void givenExistingAccount_whenExportRun_thenEveryStreamedRowIsHandedOverInOrder() {
+        // Given
+        ExportTransactionsQuery query = ExportTransactionsQuery.builder().accountId(ACCOUNT_ID).operationType(CASH_PURCHASE).build();
+
+        when(accountPersistencePort.retrieve(ACCOUNT_ID)).thenReturn(Optional.of(new Account(ACCOUNT_ID, 123L)));
+        doAnswer(invocation -> {
+            Consumer<Transaction> consumer = invocation.getArgument(1);
+            consumer.accept(transaction(1L, EVENT_DATE));
+            consumer.accept(transaction(2L, EVENT_DATE.plusMinutes(1)));
+            return null;
+        }).when(transactionPersistencePort).streamTransactions(eq(query), any());
+
+        // When
+        TransactionExport export = transactionHistoryUseCase.exportTransactions(query);
+        List<TransactionResult> exported = new ArrayList<>();
+        export.forEach(exported::add);
+
+        // Then
+        assertThat(exported).extracting(TransactionResult::transactionId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void givenUnknownAccount_whenExportRequested_thenAccountNotFoundExceptionThrownBeforeStreaming() {
+        // Given
+        ExportTransactionsQuery query = ExportTransactionsQuery.builder().accountId(ACCOUNT_ID).build();
+
+        when(accountPersistencePort.retrieve(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        // When-Then
+        assertThatThrownBy(() -> transactionHistoryUseCase.exportTransactions(query))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage(ACCOUNT_NOT_FOUND_EXCEPTION_MSG.formatted(ACCOUNT_ID));
+
+        verifyNoInteractions(transactionPersistencePort);
+    }
+
+    private static Transaction transaction(long transactionId, LocalDateTime eventDate) {
+        return new Transaction(transactionId, ACCOUNT_ID, CASH_PURCHASE.getId(), BigDecimal.valueOf(-10), eventDate);
+    }
+}
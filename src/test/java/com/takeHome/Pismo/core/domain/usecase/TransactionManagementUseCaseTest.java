@@ -1,14 +1,23 @@
 package com.takeHome.Pismo.core.domain.usecase;
 
 import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
 import com.takeHome.Pismo.core.contract.output.TransactionResult;
 import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ConcurrencyMode;
+import com.takeHome.Pismo.core.domain.model.CreditApplicationResult;
 import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
 import com.takeHome.Pismo.core.domain.model.OperationType;
 import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
 import com.takeHome.Pismo.core.domain.model.TransactionDischargeResult;
 import com.takeHome.Pismo.core.domain.port.in.BalanceDischargePort;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.DischargeMetricsPort;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
 import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import com.takeHome.Pismo.core.usecase.BalanceDischargeUseCase;
 import com.takeHome.Pismo.core.usecase.TransactionManagementUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,20 +25,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_EXISTS_EXCEPTION_MSG;
 import static com.takeHome.Pismo.core.Constants.INVALID_AMOUNT_VALUE_MSG;
 import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
 import static com.takeHome.Pismo.core.domain.model.OperationType.INSTALLMENT_PURCHASE;
 import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
 import static com.takeHome.Pismo.core.domain.model.OperationType.WITHDRAWAL;
+import static com.takeHome.Pismo.core.usecase.TransactionManagementUseCase.OPEN_DEBIT_PAGE_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -47,6 +65,9 @@ class TransactionManagementUseCaseTest {
     @Mock
     private TransactionPersistencePort transactionPersistencePort;
 
+    @Mock
+    private AccountBalancePersistencePort accountBalancePersistencePort;
+
     @Mock
     private BalanceDischargePort balanceDischargePort;
 
@@ -54,7 +75,8 @@ class TransactionManagementUseCaseTest {
 
     @BeforeEach
     void setup() {
-        transactionManagementUseCase = new TransactionManagementUseCase(transactionPersistencePort, balanceDischargePort);
+        transactionManagementUseCase = new TransactionManagementUseCase(transactionPersistencePort, accountBalancePersistencePort,
+                balanceDischargePort, ConcurrencyMode.ACCOUNT_ROW_LOCK);
     }
 
     @Test
@@ -70,7 +92,8 @@ class TransactionManagementUseCaseTest {
         List<BalanceBearingTransaction> newList = new ArrayList<>();
 
         when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedTransaction);
-        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID)).thenReturn(newList);
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(newList);
 
         // When
         TransactionResult result = transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(command);
@@ -85,11 +108,12 @@ class TransactionManagementUseCaseTest {
         assertThat(captured.transaction().operationTypeId()).isEqualTo(PAYMENT.getId());
         assertThat(captured.transaction().amount()).isEqualByComparingTo(AMOUNT);
         assertThat(captured.transaction().eventDate()).isNotNull();
-        verify(transactionPersistencePort).fetchDebitTransactions(ACCOUNT_ID);
+        verify(transactionPersistencePort).fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE);
 
-        verify(balanceDischargePort, never()).discharge(savedTransaction, newList);
+        verify(balanceDischargePort, never()).dischargePresorted(savedTransaction, newList);
 
         verify(transactionPersistencePort, never()).updateTransaction(savedTransaction);
+        verify(transactionPersistencePort, never()).updateBalances(any());
 
         //verify result
         assertThat(result.transactionId()).isEqualTo(savedTransaction.transaction().transactionId());
@@ -123,8 +147,9 @@ class TransactionManagementUseCaseTest {
         assertThat(captured.transaction().operationTypeId()).isEqualTo(operationType.getId());
         assertThat(captured.transaction().amount()).isEqualByComparingTo(AMOUNT.negate());
         assertThat(captured.transaction().eventDate()).isNotNull();
-        verify(transactionPersistencePort, never()).fetchDebitTransactions(ACCOUNT_ID);
+        verify(transactionPersistencePort, never()).fetchDebitTransactions(anyLong(), any(), anyInt());
         verify(transactionPersistencePort, never()).updateTransaction(savedTransaction);
+        verify(transactionPersistencePort, never()).updateBalances(any());
 
         verifyNoInteractions(balanceDischargePort);
 
@@ -150,7 +175,7 @@ class TransactionManagementUseCaseTest {
                 .isSameAs(persistenceException);
 
         verify(transactionPersistencePort).save(any(BalanceBearingTransaction.class));
-        verify(transactionPersistencePort, never()).fetchDebitTransactions(ACCOUNT_ID);
+        verify(transactionPersistencePort, never()).fetchDebitTransactions(anyLong(), any(), anyInt());
         verify(transactionPersistencePort, never()).updateTransaction(any(BalanceBearingTransaction.class));
         verifyNoInteractions(balanceDischargePort);
 
@@ -205,7 +230,7 @@ class TransactionManagementUseCaseTest {
         assertThat(result.amount()).isEqualByComparingTo(AMOUNT.negate());
         assertThat(result.eventDate()).isEqualTo(eventDate);
         verify(transactionPersistencePort).save(any(BalanceBearingTransaction.class));
-        verify(transactionPersistencePort, never()).fetchDebitTransactions(ACCOUNT_ID);
+        verify(transactionPersistencePort, never()).fetchDebitTransactions(anyLong(), any(), anyInt());
         verify(transactionPersistencePort, never()).updateTransaction(any(BalanceBearingTransaction.class));
         verifyNoInteractions(balanceDischargePort);
     }
@@ -230,16 +255,16 @@ class TransactionManagementUseCaseTest {
         BalanceBearingTransaction withdrawalTx = debitTx(3L, WITHDRAWAL, value3);
         BalanceBearingTransaction savedPaymentTx = paymentTx(value4);
 
-        BalanceBearingTransaction dischargedPaymentTx = fromTransaction(savedPaymentTx, BigDecimal.ZERO);
-        BalanceBearingTransaction dischargedPurchaseTx1 = fromTransaction(purchaseTx1, BigDecimal.ZERO);
-        BalanceBearingTransaction dischargedPurchaseTx2 = fromTransaction(purchaseTx2, BigDecimal.valueOf(13.5).negate());
-        BalanceBearingTransaction dischargedWithdrawalTx = fromTransaction(withdrawalTx, value3.negate());
+        BalanceBearingTransaction dischargedPaymentTx = discharged(savedPaymentTx, BigDecimal.ZERO);
+        BalanceBearingTransaction dischargedPurchaseTx1 = discharged(purchaseTx1, BigDecimal.ZERO);
+        BalanceBearingTransaction dischargedPurchaseTx2 = discharged(purchaseTx2, BigDecimal.valueOf(13.5).negate());
 
-        TransactionDischargeResult transactionDischargeResult = new TransactionDischargeResult(dischargedPaymentTx, List.of( dischargedPurchaseTx1, dischargedPurchaseTx2, dischargedWithdrawalTx));
+        TransactionDischargeResult transactionDischargeResult = new TransactionDischargeResult(dischargedPaymentTx, List.of( dischargedPurchaseTx1, dischargedPurchaseTx2));
 
         when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPaymentTx);
-        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID)).thenReturn(List.of( purchaseTx1, purchaseTx2, withdrawalTx));
-        when(balanceDischargePort.discharge(savedPaymentTx, List.of( purchaseTx1, purchaseTx2, withdrawalTx)))
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(List.of( purchaseTx1, purchaseTx2, withdrawalTx));
+        when(balanceDischargePort.dischargePresorted(savedPaymentTx, List.of( purchaseTx1, purchaseTx2, withdrawalTx)))
                 .thenReturn(transactionDischargeResult);
 
         // When
@@ -283,16 +308,18 @@ class TransactionManagementUseCaseTest {
 
         assertThat(captured.getLast().balance()).isEqualByComparingTo(BigDecimal.valueOf(60));
 
-        verify(transactionPersistencePort).fetchDebitTransactions(ACCOUNT_ID);
-        verify(balanceDischargePort).discharge(savedPaymentTx, List.of( purchaseTx1, purchaseTx2, withdrawalTx));
+        verify(transactionPersistencePort).fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE);
+        verify(balanceDischargePort).dischargePresorted(savedPaymentTx, List.of( purchaseTx1, purchaseTx2, withdrawalTx));
 
-        ArgumentCaptor<BalanceBearingTransaction> updateCaptor = ArgumentCaptor.forClass(BalanceBearingTransaction.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BalanceBearingTransaction>> updateCaptor = ArgumentCaptor.forClass(Collection.class);
 
-        verify(transactionPersistencePort, times(4)).updateTransaction(updateCaptor.capture());
+        verify(transactionPersistencePort).updateBalances(updateCaptor.capture());
+        verify(transactionPersistencePort, never()).updateTransaction(any(BalanceBearingTransaction.class));
 
-        List<BalanceBearingTransaction> updated = updateCaptor.getAllValues();
+        List<BalanceBearingTransaction> updated = new ArrayList<>(updateCaptor.getValue());
 
-        assertThat(updated).hasSize(4);
+        assertThat(updated).hasSize(3);
         assertThat(updated)
                 .allSatisfy(txn -> assertThat(txn.transaction().accountId()).isEqualTo(ACCOUNT_ID));
         updated.forEach(txn ->
@@ -302,19 +329,377 @@ class TransactionManagementUseCaseTest {
                 .isEqualByComparingTo(purchaseTx1.transaction().amount());
         assertThat(updated.get(1).transaction().amount())
                 .isEqualByComparingTo(purchaseTx2.transaction().amount());
-        assertThat(updated.get(2).transaction().amount())
-                .isEqualByComparingTo(withdrawalTx.transaction().amount());
         assertThat(updated.getLast().transaction().amount())
                 .isEqualByComparingTo(savedPaymentTx.transaction().amount());
 
         assertThat(updated.getFirst().balance()).isEqualByComparingTo(dischargedPurchaseTx1.balance());
         assertThat(updated.get(1).balance()).isEqualByComparingTo(dischargedPurchaseTx2.balance());
-        assertThat(updated.get(2).balance()).isEqualByComparingTo(dischargedWithdrawalTx.balance());
         assertThat(updated.getLast().balance()).isEqualByComparingTo(dischargedPaymentTx.balance());
     }
 
-    private BalanceBearingTransaction fromTransaction(BalanceBearingTransaction savedPaymentTx, BigDecimal amount) {
-        return ExecutableTransaction.from(savedPaymentTx.transaction(), amount);
+    @Test
+    void givenDischargeLeavesPaymentUntouched_whenSaved_thenOnlyModifiedDebitsAreWritten() {
+        // Given
+        BigDecimal paymentValue = BigDecimal.valueOf(60);
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, paymentValue);
+
+        BalanceBearingTransaction openDebit = debitTx(1L, CASH_PURCHASE, BigDecimal.TEN);
+        BalanceBearingTransaction savedPaymentTx = paymentTx(paymentValue);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPaymentTx);
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(List.of(openDebit));
+        when(balanceDischargePort.dischargePresorted(savedPaymentTx, List.of(openDebit)))
+                .thenReturn(new TransactionDischargeResult(savedPaymentTx, List.of()));
+
+        // When
+        transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        verify(transactionPersistencePort).updateBalances(List.of());
+        verify(transactionPersistencePort, never()).updateTransaction(any(BalanceBearingTransaction.class));
+    }
+
+    @Test
+    void givenAccountWithoutOpenDebits_whenPaymentSaved_thenDebitsAreNotFetchedNorDischarged() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, AMOUNT);
+        BalanceBearingTransaction savedPaymentTx = paymentTx(AMOUNT);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPaymentTx);
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(false);
+
+        // When
+        TransactionResult result = transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        verify(accountBalancePersistencePort).hasOpenDebits(ACCOUNT_ID);
+        verify(transactionPersistencePort, never()).fetchDebitTransactions(anyLong(), any(), anyInt());
+        verify(transactionPersistencePort, never()).updateBalances(any());
+        verifyNoInteractions(balanceDischargePort);
+        assertThat(result.transactionId()).isEqualTo(savedPaymentTx.transaction().transactionId());
+    }
+
+    @Test
+    void givenAccountRowLockMode_whenPaymentSaved_thenAccountIsLockedBeforeInsert() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, AMOUNT);
+        BalanceBearingTransaction savedPaymentTx = paymentTx(AMOUNT);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPaymentTx);
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(List.of());
+
+        // When
+        transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        InOrder inOrder = inOrder(transactionPersistencePort);
+        inOrder.verify(transactionPersistencePort).lockAccount(ACCOUNT_ID);
+        inOrder.verify(transactionPersistencePort).save(any(BalanceBearingTransaction.class));
+        inOrder.verify(transactionPersistencePort).fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE);
+    }
+
+    @Test
+    void givenAccountRowLockMode_whenPurchaseSaved_thenAccountIsLockedBeforeInsert() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, CASH_PURCHASE, AMOUNT);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(debitTx(1L, CASH_PURCHASE, AMOUNT));
+
+        // When
+        transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        InOrder inOrder = inOrder(transactionPersistencePort);
+        inOrder.verify(transactionPersistencePort).lockAccount(ACCOUNT_ID);
+        inOrder.verify(transactionPersistencePort).save(any(BalanceBearingTransaction.class));
+    }
+
+    @Test
+    void givenAccountWithAvailableCredit_whenPurchaseSaved_thenOpenCreditsAreApplied() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, CASH_PURCHASE, AMOUNT);
+
+        BalanceBearingTransaction savedPurchaseTx = debitTx(1L, CASH_PURCHASE, AMOUNT);
+        BalanceBearingTransaction openCredit = paymentTx(BigDecimal.valueOf(4));
+
+        BalanceBearingTransaction appliedPurchaseTx = discharged(savedPurchaseTx, BigDecimal.valueOf(-6));
+        BalanceBearingTransaction appliedCredit = discharged(openCredit, BigDecimal.ZERO);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPurchaseTx);
+        when(accountBalancePersistencePort.hasAvailableCredit(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchCreditTransactions(ACCOUNT_ID)).thenReturn(List.of(openCredit));
+        when(balanceDischargePort.applyCreditsPresorted(savedPurchaseTx, List.of(openCredit)))
+                .thenReturn(new CreditApplicationResult(appliedPurchaseTx, List.of(appliedCredit)));
+
+        // When
+        transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        verify(accountBalancePersistencePort, never()).hasOpenDebits(ACCOUNT_ID);
+        verify(transactionPersistencePort, never()).fetchDebitTransactions(anyLong(), any(), anyInt());
+        verify(balanceDischargePort, never()).dischargePresorted(any(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BalanceBearingTransaction>> updateCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(transactionPersistencePort).updateBalances(updateCaptor.capture());
+
+        List<BalanceBearingTransaction> updated = new ArrayList<>(updateCaptor.getValue());
+        assertThat(updated).hasSize(2);
+        assertThat(updated.getFirst()).isSameAs(appliedCredit);
+        assertThat(updated.getLast()).isSameAs(appliedPurchaseTx);
+    }
+
+    @Test
+    void givenAccountWithoutAvailableCredit_whenPurchaseSaved_thenCreditsAreNotFetched() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, WITHDRAWAL, AMOUNT);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(debitTx(1L, WITHDRAWAL, AMOUNT));
+        when(accountBalancePersistencePort.hasAvailableCredit(ACCOUNT_ID)).thenReturn(false);
+
+        // When
+        transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        verify(transactionPersistencePort, never()).fetchCreditTransactions(ACCOUNT_ID);
+        verify(transactionPersistencePort, never()).updateBalances(any());
+        verifyNoInteractions(balanceDischargePort);
+    }
+
+    @Test
+    void givenNoConcurrencyMode_whenPaymentSaved_thenAccountIsNotLocked() {
+        // Given
+        TransactionManagementUseCase unlockedUseCase =
+                new TransactionManagementUseCase(transactionPersistencePort, accountBalancePersistencePort,
+                        balanceDischargePort, ConcurrencyMode.NONE);
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, AMOUNT);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(paymentTx(AMOUNT));
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(List.of());
+
+        // When
+        unlockedUseCase.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        verify(transactionPersistencePort, never()).lockAccount(ACCOUNT_ID);
+    }
+
+    @Test
+    void givenCommandsForSeveralAccounts_whenSavedInBulk_thenEachAccountIsLockedAndInsertedOnceInAccountOrder() {
+        // Given
+        long otherAccountId = 2L;
+        List<CreateTransactionCommand> commands = List.of(
+                new CreateTransactionCommand(otherAccountId, CASH_PURCHASE, AMOUNT),
+                new CreateTransactionCommand(ACCOUNT_ID, WITHDRAWAL, AMOUNT),
+                new CreateTransactionCommand(otherAccountId, PAYMENT, AMOUNT));
+
+        BalanceBearingTransaction savedWithdrawal = debitTx(11L, WITHDRAWAL, AMOUNT);
+        BalanceBearingTransaction savedPurchase = ExecutableTransaction.from(new Transaction(12L, otherAccountId, CASH_PURCHASE.getId(), AMOUNT, LocalDateTime.now()));
+        BalanceBearingTransaction savedPayment = ExecutableTransaction.from(new Transaction(13L, otherAccountId, PAYMENT.getId(), AMOUNT, LocalDateTime.now()));
+
+        when(transactionPersistencePort.saveAll(any()))
+                .thenReturn(List.of(savedWithdrawal))
+                .thenReturn(List.of(savedPurchase, savedPayment));
+
+        // When
+        List<BulkTransactionResult> results = transactionManagementUseCase.saveTransactions(commands);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceBearingTransaction>> saveAllCaptor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(transactionPersistencePort);
+        inOrder.verify(transactionPersistencePort).lockAccount(ACCOUNT_ID);
+        inOrder.verify(transactionPersistencePort).saveAll(saveAllCaptor.capture());
+        inOrder.verify(transactionPersistencePort).lockAccount(otherAccountId);
+        inOrder.verify(transactionPersistencePort).saveAll(saveAllCaptor.capture());
+
+        assertThat(saveAllCaptor.getAllValues().getFirst()).hasSize(1);
+        assertThat(saveAllCaptor.getAllValues().getLast()).hasSize(2);
+        assertThat(saveAllCaptor.getAllValues().getLast().getFirst().transaction().amount()).isEqualByComparingTo(AMOUNT.negate());
+        verify(transactionPersistencePort, never()).save(any(BalanceBearingTransaction.class));
+
+        assertThat(results).hasSize(3);
+        assertThat(results).allSatisfy(result -> assertThat(result.isAccepted()).isTrue());
+        assertThat(results.getFirst().transaction().transactionId()).isEqualTo(12L);
+        assertThat(results.get(1).transaction().transactionId()).isEqualTo(11L);
+        assertThat(results.getLast().transaction().transactionId()).isEqualTo(13L);
+    }
+
+    @Test
+    void givenUnknownAccountInBulk_whenSaved_thenOnlyThatAccountsLinesAreRejected() {
+        // Given
+        long unknownAccountId = 99L;
+        List<CreateTransactionCommand> commands = List.of(
+                new CreateTransactionCommand(unknownAccountId, CASH_PURCHASE, AMOUNT),
+                new CreateTransactionCommand(ACCOUNT_ID, CASH_PURCHASE, AMOUNT));
+
+        doThrow(new AccountDoesNotExistException(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(unknownAccountId)))
+                .when(transactionPersistencePort).lockAccount(unknownAccountId);
+        doNothing().when(transactionPersistencePort).lockAccount(ACCOUNT_ID);
+        when(transactionPersistencePort.saveAll(any())).thenReturn(List.of(debitTx(11L, CASH_PURCHASE, AMOUNT)));
+
+        // When
+        List<BulkTransactionResult> results = transactionManagementUseCase.saveTransactions(commands);
+
+        // Then
+        verify(transactionPersistencePort).saveAll(any());
+        assertThat(results.getFirst().isAccepted()).isFalse();
+        assertThat(results.getFirst().error()).isEqualTo(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(unknownAccountId));
+        assertThat(results.getLast().isAccepted()).isTrue();
+    }
+
+    @Test
+    void givenBulkLeavesOpenDebitsAndCredits_whenSaved_thenCreditsAreNettedAgainstDebitsOnce() {
+        // Given
+        List<CreateTransactionCommand> commands = List.of(
+                new CreateTransactionCommand(ACCOUNT_ID, CASH_PURCHASE, AMOUNT),
+                new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, AMOUNT));
+
+        BalanceBearingTransaction firstDebit = debitTx(1L, CASH_PURCHASE, BigDecimal.valueOf(6));
+        BalanceBearingTransaction secondDebit = debitTx(2L, CASH_PURCHASE, BigDecimal.valueOf(6));
+        BalanceBearingTransaction firstCredit = paymentTx(BigDecimal.valueOf(4));
+        BalanceBearingTransaction secondCredit = paymentTx(BigDecimal.valueOf(5));
+
+        when(transactionPersistencePort.saveAll(any())).thenReturn(List.of(debitTx(1L, CASH_PURCHASE, AMOUNT), paymentTx(AMOUNT)));
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(accountBalancePersistencePort.hasAvailableCredit(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchCreditTransactions(ACCOUNT_ID)).thenReturn(List.of(firstCredit, secondCredit));
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID)).thenReturn(List.of(firstDebit, secondDebit));
+        when(balanceDischargePort.dischargePresorted(any(), any())).thenAnswer(invocation ->
+                new BalanceDischargeUseCase().dischargePresorted(invocation.getArgument(0), invocation.getArgument(1)));
+
+        // When
+        transactionManagementUseCase.saveTransactions(commands);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BalanceBearingTransaction>> updateCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(transactionPersistencePort).updateBalances(updateCaptor.capture());
+
+        assertThat(updateCaptor.getValue()).containsExactlyInAnyOrder(firstDebit, secondDebit, firstCredit, secondCredit);
+        assertThat(firstDebit.isSettled()).isTrue();
+        assertThat(secondDebit.balance()).isEqualByComparingTo(BigDecimal.valueOf(-3));
+        assertThat(firstCredit.isSettled()).isTrue();
+        assertThat(secondCredit.isSettled()).isTrue();
+    }
+
+    @Test
+    void givenPaymentLargerThanFirstPage_whenSaved_thenNextPageIsFetchedAfterLastDebit() {
+        // Given
+        List<BalanceBearingTransaction> firstPage = debitPage(1L, OPEN_DEBIT_PAGE_SIZE);
+        List<BalanceBearingTransaction> secondPage = debitPage(OPEN_DEBIT_PAGE_SIZE + 1L, 2);
+        BigDecimal paymentValue = AMOUNT.multiply(BigDecimal.valueOf(OPEN_DEBIT_PAGE_SIZE + 1L));
+        BalanceBearingTransaction savedPaymentTx = paymentTx(paymentValue);
+        TransactionCursor lastOfFirstPage = TransactionCursor.after(firstPage.getLast().transaction());
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPaymentTx);
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(firstPage);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, lastOfFirstPage, OPEN_DEBIT_PAGE_SIZE)).thenReturn(secondPage);
+        when(balanceDischargePort.dischargePresorted(any(), any())).thenAnswer(invocation ->
+                new BalanceDischargeUseCase().dischargePresorted(invocation.getArgument(0), invocation.getArgument(1)));
+
+        // When
+        transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, paymentValue));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BalanceBearingTransaction>> updateCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(transactionPersistencePort).updateBalances(updateCaptor.capture());
+
+        assertThat(updateCaptor.getValue()).hasSize(OPEN_DEBIT_PAGE_SIZE + 2);
+        assertThat(firstPage).allSatisfy(debit -> assertThat(debit.isSettled()).isTrue());
+        assertThat(secondPage.getFirst().isSettled()).isTrue();
+        assertThat(secondPage.getLast().isDirty()).isFalse();
+        assertThat(savedPaymentTx.isSettled()).isTrue();
+    }
+
+    @Test
+    void givenPaymentExhaustedWithinFirstPage_whenSaved_thenNoFurtherPageIsFetched() {
+        // Given
+        List<BalanceBearingTransaction> firstPage = debitPage(1L, OPEN_DEBIT_PAGE_SIZE);
+        BalanceBearingTransaction savedPaymentTx = paymentTx(AMOUNT);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPaymentTx);
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(firstPage);
+        when(balanceDischargePort.dischargePresorted(any(), any())).thenAnswer(invocation ->
+                new BalanceDischargeUseCase().dischargePresorted(invocation.getArgument(0), invocation.getArgument(1)));
+
+        // When
+        transactionManagementUseCase.saveTransactionAndDischargeDebitBalances(new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, AMOUNT));
+
+        // Then
+        verify(transactionPersistencePort).fetchDebitTransactions(anyLong(), any(), anyInt());
+        verify(transactionPersistencePort).updateBalances(List.of(firstPage.getFirst(), savedPaymentTx));
+    }
+
+    @Test
+    void givenPaymentSpanningTwoPages_whenSaved_thenDebitsScannedAndTouchedAreRecorded() {
+        // Given
+        DischargeMetricsPort dischargeMetricsPort = mock(DischargeMetricsPort.class);
+        TransactionManagementUseCase meteredUseCase = new TransactionManagementUseCase(transactionPersistencePort,
+                accountBalancePersistencePort, balanceDischargePort, ConcurrencyMode.ACCOUNT_ROW_LOCK, dischargeMetricsPort,
+                IdempotencyKeyPort.NONE);
+        List<BalanceBearingTransaction> firstPage = debitPage(1L, OPEN_DEBIT_PAGE_SIZE);
+        List<BalanceBearingTransaction> secondPage = debitPage(OPEN_DEBIT_PAGE_SIZE + 1L, 2);
+        BigDecimal paymentValue = AMOUNT.multiply(BigDecimal.valueOf(OPEN_DEBIT_PAGE_SIZE + 1L));
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(paymentTx(paymentValue));
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(firstPage);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, TransactionCursor.after(firstPage.getLast().transaction()),
+                OPEN_DEBIT_PAGE_SIZE)).thenReturn(secondPage);
+        when(balanceDischargePort.dischargePresorted(any(), any())).thenAnswer(invocation ->
+                new BalanceDischargeUseCase().dischargePresorted(invocation.getArgument(0), invocation.getArgument(1)));
+
+        // When
+        meteredUseCase.saveTransactionAndDischargeDebitBalances(new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, paymentValue));
+
+        // Then
+        verify(dischargeMetricsPort).recordPaymentDischarge(OPEN_DEBIT_PAGE_SIZE + 2, OPEN_DEBIT_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void givenIdempotencyKey_whenPaymentSaved_thenKeyIsStoredAfterInsertAndBeforeDischarge() {
+        // Given
+        IdempotencyKeyPort idempotencyKeyPort = mock(IdempotencyKeyPort.class);
+        TransactionManagementUseCase keyedUseCase = new TransactionManagementUseCase(transactionPersistencePort,
+                accountBalancePersistencePort, balanceDischargePort, ConcurrencyMode.ACCOUNT_ROW_LOCK, DischargeMetricsPort.NONE,
+                idempotencyKeyPort);
+        BalanceBearingTransaction savedPaymentTx = paymentTx(AMOUNT);
+
+        when(transactionPersistencePort.save(any(BalanceBearingTransaction.class))).thenReturn(savedPaymentTx);
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+        when(transactionPersistencePort.fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE)).thenReturn(List.of());
+
+        // When
+        TransactionResult result = keyedUseCase.saveTransactionAndDischargeDebitBalances(
+                new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, AMOUNT, "retry-1"));
+
+        // Then
+        InOrder inOrder = inOrder(transactionPersistencePort, idempotencyKeyPort);
+        inOrder.verify(transactionPersistencePort).save(any(BalanceBearingTransaction.class));
+        inOrder.verify(idempotencyKeyPort).save("retry-1", result);
+        inOrder.verify(transactionPersistencePort).fetchDebitTransactions(ACCOUNT_ID, null, OPEN_DEBIT_PAGE_SIZE);
+    }
+
+    private List<BalanceBearingTransaction> debitPage(long firstId, int size) {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<BalanceBearingTransaction> page = new ArrayList<>();
+        for (long id = firstId; id < firstId + size; id++) {
+            page.add(ExecutableTransaction.from(new Transaction(id, ACCOUNT_ID, CASH_PURCHASE.getId(), AMOUNT, start.plusMinutes(id))));
+        }
+        return page;
+    }
+
+    private BalanceBearingTransaction discharged(BalanceBearingTransaction transaction, BigDecimal newBalance) {
+        BalanceBearingTransaction copy = ExecutableTransaction.from(transaction.transaction(), transaction.balance());
+        copy.applyPayment(newBalance.subtract(transaction.balance()));
+        return copy;
     }
 
     private BalanceBearingTransaction debitTx(long id, OperationType type, BigDecimal amount) {
@@ -0,0 +1,26 @@
+package com.takeHome.Pismo.core.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static com.takeHome.Pismo.core.Constants.IDEMPOTENCY_KEY_CONFLICT_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyKeyConflictExceptionTest {
+
+    @Test
+    void givenMessage_whenConstructingIdempotencyKeyConflictException_thenMessageIsStoredAndTypeIsCorrect() {
+        // Given
+        String message = IDEMPOTENCY_KEY_CONFLICT_MSG.formatted("retry-1");
+
+        // When
+        IdempotencyKeyConflictException ex = new IdempotencyKeyConflictException(message);
+
+        // Then
+        assertThat(ex)
+                .isInstanceOf(IdempotencyKeyConflictException.class)
+                .isInstanceOf(DomainException.class)
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(ex.getMessage()).isEqualTo(message);
+    }
+}
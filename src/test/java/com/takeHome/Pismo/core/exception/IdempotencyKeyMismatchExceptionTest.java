@@ -0,0 +1,26 @@
+package com.takeHome.Pismo.core.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static com.takeHome.Pismo.core.Constants.IDEMPOTENCY_KEY_MISMATCH_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyKeyMismatchExceptionTest {
+
+    @Test
+    void givenMessage_whenConstructingIdempotencyKeyMismatchException_thenMessageIsStoredAndTypeIsCorrect() {
+        // Given
+        String message = IDEMPOTENCY_KEY_MISMATCH_MSG.formatted("retry-1");
+
+        // When
+        IdempotencyKeyMismatchException ex = new IdempotencyKeyMismatchException(message);
+
+        // Then
+        assertThat(ex)
+                .isInstanceOf(IdempotencyKeyMismatchException.class)
+                .isInstanceOf(DomainException.class)
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(ex.getMessage()).isEqualTo(message);
+    }
+}
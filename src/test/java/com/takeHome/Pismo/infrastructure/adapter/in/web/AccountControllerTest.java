@@ -1,25 +1,44 @@
 package com.takeHome.Pismo.infrastructure.adapter.in.web;
 
 import com.takeHome.Pismo.core.contract.input.CreateAccountCommand;
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
 import com.takeHome.Pismo.core.contract.input.GetAccountByAccountIdQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.contract.output.AccountBalanceResult;
 import com.takeHome.Pismo.core.contract.output.AccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkAccountResult;
+import com.takeHome.Pismo.core.contract.output.TransactionHistoryResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
 import com.takeHome.Pismo.core.domain.port.in.AccountManagementPort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionExportPort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionHistoryPort;
 import com.takeHome.Pismo.core.exception.AccountNotFoundException;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.advice.GlobalExceptionHandler;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.stream.Stream;
+import static com.takeHome.Pismo.core.Constants.DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG;
 import static com.takeHome.Pismo.core.Constants.INVALID_ACCOUNT_ID_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_CURSOR_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_EXPORT_FORMAT_MSG;
+import static com.takeHome.Pismo.core.Constants.INVALID_DOCUMENT_NUMBER_MSG;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -27,10 +46,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -42,15 +65,22 @@ public class AccountControllerTest {
     @Mock
     AccountManagementPort accountManagementPort;
 
+    @Mock
+    TransactionHistoryPort transactionHistoryPort;
+
+    @Mock
+    TransactionExportPort transactionExportPort;
+
     @Autowired
     private MockMvc mockMvc;
 
-    @InjectMocks
     AccountsController accountsController;
 
     @BeforeEach
     void setup(){
         openMocks(this);
+        accountsController = new AccountsController(accountManagementPort, transactionHistoryPort, transactionExportPort,
+                Jackson2ObjectMapperBuilder.json().build(), Validation.buildDefaultValidatorFactory().getValidator());
         GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
 
         mockMvc = MockMvcBuilders.standaloneSetup(accountsController)
@@ -172,4 +202,210 @@ public class AccountControllerTest {
 
         verifyNoInteractions(accountManagementPort);
     }
+
+    @Test
+    void givenAccountId_whenBalanceRequested_thenReturnBalance() throws Exception {
+        //Given
+        AccountBalanceResult balanceResult = AccountBalanceResult.builder()
+                .accountId(ACCOUNT_ID)
+                .openDebitTotal(BigDecimal.valueOf(120.75))
+                .availableCredit(BigDecimal.valueOf(4.25))
+                .build();
+
+        when(accountManagementPort.retrieveAccountBalance(any(GetAccountByAccountIdQuery.class))).thenReturn(balanceResult);
+
+        //When-then
+        mockMvc.perform(get("/accounts/{account_id}/balance", ACCOUNT_ID)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.account_id").value(ACCOUNT_ID))
+                .andExpect(jsonPath("$.open_debit_total").value(120.75))
+                .andExpect(jsonPath("$.available_credit").value(4.25));
+
+        ArgumentCaptor<GetAccountByAccountIdQuery> captor = ArgumentCaptor.forClass(GetAccountByAccountIdQuery.class);
+        verify(accountManagementPort).retrieveAccountBalance(captor.capture());
+        assertThat(captor.getValue().accountId()).isEqualTo(ACCOUNT_ID);
+    }
+
+    @Test
+    void givenUnknownAccountId_whenBalanceRequested_thenReturnNotFound() throws Exception {
+        //Given
+        when(accountManagementPort.retrieveAccountBalance(any(GetAccountByAccountIdQuery.class))).thenThrow(AccountNotFoundException.class);
+
+        //When-then
+        mockMvc.perform(get("/accounts/{account_id}/balance", ACCOUNT_ID)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Account not found"));
+    }
+
+    @Test
+    void givenNdjsonBodyWithInvalidAndDuplicateLines_whenBulkCreateRequested_thenEveryLineIsReported() throws Exception {
+        //Given
+        String body = """
+                {"document_number": 12345678900}
+                {"document_number": -5}
+                {"document_number": 12345678900}
+                """;
+
+        when(accountManagementPort.saveAccounts(any())).thenReturn(List.of(
+                BulkAccountResult.accepted(AccountResult.builder().accountId(ACCOUNT_ID).documentNumber(DOCUMENT_NUMBER).build()),
+                BulkAccountResult.rejected(DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG.formatted(DOCUMENT_NUMBER))));
+
+        //When
+        MvcResult mvcResult = mockMvc.perform(post("/accounts/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string("""
+                        {"line":1,"status":"CREATED","account_id":%d,"document_number":%d}
+                        {"line":2,"status":"REJECTED","error":"%s"}
+                        {"line":3,"status":"REJECTED","error":"%s"}
+                        """.formatted(ACCOUNT_ID, DOCUMENT_NUMBER, INVALID_DOCUMENT_NUMBER_MSG.formatted(-5),
+                        DUPLICATE_DOCUMENT_NUMBER_EXCEPTION_MSG.formatted(DOCUMENT_NUMBER))));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateAccountCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountManagementPort).saveAccounts(captor.capture());
+        assertThat(captor.getValue()).extracting(CreateAccountCommand::documentNumber).containsExactly(DOCUMENT_NUMBER, DOCUMENT_NUMBER);
+    }
+
+    @Test
+    void givenJsonArrayBody_whenBulkCreateRequested_thenAccountsAreCreated() throws Exception {
+        //Given
+        when(accountManagementPort.saveAccounts(any())).thenReturn(List.of(
+                BulkAccountResult.accepted(AccountResult.builder().accountId(ACCOUNT_ID).documentNumber(DOCUMENT_NUMBER).build())));
+
+        //When
+        MvcResult mvcResult = mockMvc.perform(post("/accounts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"document_number\": 12345678900}]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"line":1,"status":"CREATED","account_id":%d,"document_number":%d}
+                        """.formatted(ACCOUNT_ID, DOCUMENT_NUMBER)));
+    }
+
+    @Test
+    void givenFilters_whenTransactionsRequested_thenPageAndNextCursorReturned() throws Exception {
+        //Given
+        LocalDateTime eventDate = LocalDateTime.of(2025, 1, 1, 10, 0);
+        TransactionCursor after = new TransactionCursor(eventDate.minusDays(1), 7L);
+        TransactionCursor next = new TransactionCursor(eventDate, 8L);
+        TransactionResult transactionResult = TransactionResult.builder()
+                .transactionId(8L).accountId(ACCOUNT_ID).operationTypeId(OperationType.PAYMENT.getId())
+                .amount(BigDecimal.valueOf(25)).eventDate(eventDate).build();
+
+        when(transactionHistoryPort.retrieveTransactions(any(GetTransactionHistoryQuery.class)))
+                .thenReturn(new TransactionHistoryResult(List.of(transactionResult), next));
+
+        //When-then
+        mockMvc.perform(get("/accounts/{account_id}/transactions", ACCOUNT_ID)
+                        .param("after", TransactionCursorCodec.encode(after))
+                        .param("limit", "1")
+                        .param("operation_type_id", "4")
+                        .param("from", "2024-12-01T00:00:00")
+                        .param("to", "2025-02-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions[0].transaction_id").value(8L))
+                .andExpect(jsonPath("$.transactions[0].operationType_Id").value(4))
+                .andExpect(jsonPath("$.next_cursor").value(TransactionCursorCodec.encode(next)));
+
+        ArgumentCaptor<GetTransactionHistoryQuery> captor = ArgumentCaptor.forClass(GetTransactionHistoryQuery.class);
+        verify(transactionHistoryPort).retrieveTransactions(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(new GetTransactionHistoryQuery(ACCOUNT_ID, OperationType.PAYMENT,
+                LocalDateTime.of(2024, 12, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0), after, 1));
+    }
+
+    @Test
+    void givenMalformedCursor_whenTransactionsRequested_thenReturnBadRequest() throws Exception {
+
+        //When-then
+        mockMvc.perform(get("/accounts/{account_id}/transactions", ACCOUNT_ID)
+                        .param("after", "garbage!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid request"))
+                .andExpect(jsonPath("$.detail").value(INVALID_CURSOR_MSG.formatted("garbage!")));
+
+        verifyNoInteractions(transactionHistoryPort);
+    }
+
+    @Test
+    void givenMalformedDate_whenTransactionsRequested_thenReturnBadRequest() throws Exception {
+
+        //When-then
+        mockMvc.perform(get("/accounts/{account_id}/transactions", ACCOUNT_ID)
+                        .param("from", "yesterday"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid request"));
+
+        verifyNoInteractions(transactionHistoryPort);
+    }
+
+    @Test
+    void givenCsvFormat_whenExportRequested_thenRowsAreStreamedAsCsvAttachment() throws Exception {
+        //Given
+        TransactionResult transactionResult = TransactionResult.builder()
+                .transactionId(8L).accountId(ACCOUNT_ID).operationTypeId(OperationType.CASH_PURCHASE.getId())
+                .amount(new BigDecimal("-25.00")).eventDate(LocalDateTime.of(2025, 1, 1, 10, 0)).build();
+
+        when(transactionExportPort.exportTransactions(any(ExportTransactionsQuery.class)))
+                .thenReturn(consumer -> consumer.accept(transactionResult));
+
+        //When
+        MvcResult mvcResult = mockMvc.perform(get("/accounts/{account_id}/transactions/export", ACCOUNT_ID)
+                        .param("format", "csv")
+                        .param("from", "2025-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"account-1-transactions.csv\""))
+                .andExpect(content().string("""
+                        transaction_id,account_id,operation_type_id,amount,event_date
+                        8,1,1,-25.00,2025-01-01T10:00:00
+                        """));
+
+        ArgumentCaptor<ExportTransactionsQuery> captor = ArgumentCaptor.forClass(ExportTransactionsQuery.class);
+        verify(transactionExportPort).exportTransactions(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(new ExportTransactionsQuery(ACCOUNT_ID, null, LocalDateTime.of(2025, 1, 1, 0, 0), null));
+    }
+
+    @Test
+    void givenUnknownAccount_whenExportRequested_thenReturnNotFoundBeforeStreaming() throws Exception {
+        //Given
+        when(transactionExportPort.exportTransactions(any(ExportTransactionsQuery.class))).thenThrow(AccountNotFoundException.class);
+
+        //When-then
+        mockMvc.perform(get("/accounts/{account_id}/transactions/export", ACCOUNT_ID))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Account not found"));
+    }
+
+    @Test
+    void givenUnknownFormat_whenExportRequested_thenReturnBadRequest() throws Exception {
+
+        //When-then
+        mockMvc.perform(get("/accounts/{account_id}/transactions/export", ACCOUNT_ID)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(INVALID_EXPORT_FORMAT_MSG.formatted("xml")));
+
+        verifyNoInteractions(transactionExportPort);
+    }
 }
@@ -0,0 +1,48 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkRequestReaderTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    record ConstrainedRequest(@JsonProperty("account_id") @Positive long accountId, @NotNull String reference) {
+    }
+
+    @Test
+    void givenLineViolatingConstraints_whenRead_thenItIsRejectedWithEveryViolationAndTheRestAreParsed() throws IOException {
+        // Given
+        String body = """
+                {"account_id": 1, "reference": "a"}
+                {"account_id": -1}
+                {"account_id": 2, "reference": "b", "ignored": true}
+                """;
+
+        // When
+        List<BulkRequestLine<Long>> lines;
+        try (BulkRequestReader<ConstrainedRequest, Long> reader = new BulkRequestReader<>(Jackson2ObjectMapperBuilder.json().build(),
+                validator, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ConstrainedRequest.class,
+                ConstrainedRequest::accountId)) {
+            lines = reader.nextChunk(10);
+        }
+
+        // Then
+        assertThat(lines).extracting(BulkRequestLine::isParsed).containsExactly(true, false, true);
+        assertThat(lines.get(1).line()).isEqualTo(2);
+        assertThat(lines.get(1).error()).isEqualTo("accountId must be greater than 0, reference must not be null");
+        assertThat(lines.get(2).command()).isEqualTo(2L);
+    }
+}
@@ -2,28 +2,39 @@ package com.takeHome.Pismo.infrastructure.adapter.in.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
 import com.takeHome.Pismo.core.contract.output.TransactionResult;
 import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyMismatchException;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.advice.GlobalExceptionHandler;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.CreateTransactionRequest;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.math.BigDecimal;
+import java.util.List;
+import static com.takeHome.Pismo.core.Constants.IDEMPOTENCY_KEY_MISMATCH_MSG;
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class TransactionControllerTest {
@@ -36,12 +47,13 @@ public class TransactionControllerTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @InjectMocks
     TransactionsController transactionsController;
 
     @BeforeEach
     void setup(){
         openMocks(this);
+        transactionsController = new TransactionsController(transactionManagementPort, Jackson2ObjectMapperBuilder.json().build(),
+                Validation.buildDefaultValidatorFactory().getValidator());
         GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
 
         mockMvc = MockMvcBuilders.standaloneSetup(transactionsController)
@@ -107,6 +119,42 @@ public class TransactionControllerTest {
         verifyNoInteractions(transactionManagementPort);
     }
 
+    @Test
+    void givenIdempotencyKeyHeader_whenTransactionRequested_thenKeyIsPassedWithTheCommand() throws Exception {
+        // Given
+        CreateTransactionRequest request = new CreateTransactionRequest(1L, 1, BigDecimal.TEN);
+        TransactionResult storedTransaction = TransactionResult.builder().transactionId(500L).accountId(1L).amount(BigDecimal.TEN).build();
+        when(transactionManagementPort.saveTransactionAndDischargeDebitBalances(any(CreateTransactionCommand.class))).thenReturn(storedTransaction);
+
+        // When - Then
+        mockMvc.perform(post("/transactions")
+                        .header(TransactionsController.IDEMPOTENCY_KEY_HEADER, "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.transaction_id").value(500L));
+
+        ArgumentCaptor<CreateTransactionCommand> argumentCaptor = ArgumentCaptor.forClass(CreateTransactionCommand.class);
+        verify(transactionManagementPort).saveTransactionAndDischargeDebitBalances(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().idempotencyKey()).isEqualTo("retry-1");
+    }
+
+    @Test
+    void givenIdempotencyKeyReusedForAnotherTransaction_whenTransactionRequested_thenReturnUnprocessableEntity() throws Exception {
+        // Given
+        CreateTransactionRequest request = new CreateTransactionRequest(1L, 1, BigDecimal.TEN);
+        when(transactionManagementPort.saveTransactionAndDischargeDebitBalances(any(CreateTransactionCommand.class)))
+                .thenThrow(new IdempotencyKeyMismatchException(IDEMPOTENCY_KEY_MISMATCH_MSG.formatted("retry-1")));
+
+        // When - Then
+        mockMvc.perform(post("/transactions")
+                        .header(TransactionsController.IDEMPOTENCY_KEY_HEADER, "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.detail").value(IDEMPOTENCY_KEY_MISMATCH_MSG.formatted("retry-1")));
+    }
+
     @Test
     void givenMalformedJson_whenTransactionRequested_thenReturnBadRequest() throws Exception {
         String brokenJson = "{\"account_id\": 1, \"amount\": \"INVALID_NUMBER\" }";
@@ -116,5 +164,137 @@ public class TransactionControllerTest {
                         .content(brokenJson))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @Test
+    void givenNdjsonBodyWithInvalidLine_whenBulkRequested_thenValidLinesAreSavedAndEveryLineIsReported() throws Exception {
+        //given
+        String body = """
+                {"account_id": 1, "operation_type_id": 1, "amount": 50.00}
+                {"account_id": 1, "operation_type_id": 9, "amount": 10.00}
+                {"account_id": 2, "operation_type_id": 4, "amount": 20.00}
+                """;
+
+        when(transactionManagementPort.saveTransactions(any())).thenReturn(List.of(
+                BulkTransactionResult.accepted(TransactionResult.builder().transactionId(10L).accountId(1L).build()),
+                BulkTransactionResult.rejected("Account Id 2 does not exist")));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(post("/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string("""
+                        {"line":1,"status":"CREATED","transaction_id":10,"account_id":1}
+                        {"line":2,"status":"REJECTED","error":"Invalid operation type id - 9"}
+                        {"line":3,"status":"REJECTED","error":"Account Id 2 does not exist"}
+                        """));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateTransactionCommand>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(transactionManagementPort).saveTransactions(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue()).hasSize(2);
+        assertThat(argumentCaptor.getValue().getFirst().operationType()).isEqualTo(CASH_PURCHASE);
+        assertThat(argumentCaptor.getValue().getLast().accountId()).isEqualTo(2L);
+    }
+
+    @Test
+    void givenJsonArrayBody_whenBulkRequested_thenAllElementsAreSaved() throws Exception {
+        //given
+        String body = """
+                [{"account_id": 1, "operation_type_id": 2, "amount": 50.00},
+                 {"account_id": 1, "operation_type_id": 4, "amount": 20.00}]
+                """;
+
+        when(transactionManagementPort.saveTransactions(any())).thenReturn(List.of(
+                BulkTransactionResult.accepted(TransactionResult.builder().transactionId(10L).accountId(1L).build()),
+                BulkTransactionResult.accepted(TransactionResult.builder().transactionId(11L).accountId(1L).build())));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(post("/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"line":1,"status":"CREATED","transaction_id":10,"account_id":1}
+                        {"line":2,"status":"CREATED","transaction_id":11,"account_id":1}
+                        """));
+    }
+
+    @Test
+    void givenTruncatedBody_whenBulkRequested_thenLinesBeforeTheBreakAreSavedAndTheBreakIsReported() throws Exception {
+        //given
+        String body = """
+                {"account_id": 1, "operation_type_id": 1, "amount": 50.00}
+                {"account_id": 1, "operation_typ
+                """;
+
+        when(transactionManagementPort.saveTransactions(any())).thenReturn(List.of(
+                BulkTransactionResult.accepted(TransactionResult.builder().transactionId(10L).accountId(1L).build())));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(post("/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("line").asInt()).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines[1]).get("status").asText()).isEqualTo("REJECTED");
+    }
+
+    @Test
+    void givenLineWithUnknownProperty_whenBulkRequested_thenItIsBoundLikeASingleItemRequest() throws Exception {
+        //given
+        when(transactionManagementPort.saveTransactions(any())).thenReturn(List.of(
+                BulkTransactionResult.accepted(TransactionResult.builder().transactionId(10L).accountId(1L).build())));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(post("/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"account_id\": 1, \"operation_type_id\": 1, \"amount\": 5, \"channel\": \"pos\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"line":1,"status":"CREATED","transaction_id":10,"account_id":1}
+                        """));
+    }
+
+    @Test
+    void givenOnlyInvalidLines_whenBulkRequested_thenPortIsNotCalled() throws Exception {
+        // When
+        MvcResult mvcResult = mockMvc.perform(post("/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"account_id\": 0, \"operation_type_id\": 1, \"amount\": 5}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"line":1,"status":"REJECTED","error":"Invalid Account Id - 0"}
+                        """));
+
+        verifyNoInteractions(transactionManagementPort);
+    }
+}
@@ -0,0 +1,50 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_CURSOR_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorCodecTest {
+
+    @Test
+    void givenCursor_whenEncodedAndDecoded_thenRoundTrips() {
+        // Given
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_000_000), 42L);
+
+        // When
+        String encoded = TransactionCursorCodec.encode(cursor);
+
+        // Then
+        assertThat(encoded).doesNotContain("|", "=", "+", "/");
+        assertThat(TransactionCursorCodec.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void givenNull_whenEncodedOrDecoded_thenNullReturned() {
+
+        assertThat(TransactionCursorCodec.encode(null)).isNull();
+        assertThat(TransactionCursorCodec.decode(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "2025-01-01T10:00|x", "2025-01-01T10:00", "yesterday|1"})
+    void givenMalformedCursor_whenDecoded_thenExceptionIsThrown(String plain) {
+        // Given
+        String encoded = plain.startsWith("not") ? plain
+                : Base64.getUrlEncoder().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+
+        // When-Then
+        assertThatThrownBy(() -> TransactionCursorCodec.decode(encoded))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_CURSOR_MSG.formatted(encoded));
+    }
+}
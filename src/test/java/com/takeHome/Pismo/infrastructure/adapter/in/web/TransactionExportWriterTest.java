@@ -0,0 +1,88 @@
+package com.takeHome.Pismo.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.TransactionResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_EXPORT_FORMAT_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionExportWriterTest {
+
+    // Configured like the application's mapper, which the writer must follow.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final TransactionResponse PURCHASE = TransactionResponse.builder()
+            .transactionId(10L).accountId(1L).operationTypeId(1).amount(new BigDecimal("-100.50"))
+            .eventDate(LocalDateTime.of(2025, 1, 1, 12, 0, 30)).build();
+    private static final TransactionResponse PAYMENT = TransactionResponse.builder()
+            .transactionId(11L).accountId(1L).operationTypeId(4).amount(new BigDecimal("60.00"))
+            .eventDate(LocalDateTime.of(2025, 1, 2, 8, 15)).build();
+
+    @Test
+    void givenTransactions_whenWrittenAsNdjson_thenOneJsonObjectPerLine() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        TransactionExportWriter writer = TransactionExportWriter.open(ExportFormat.NDJSON, objectMapper, out);
+        writer.write(PURCHASE);
+        writer.write(PAYMENT);
+        writer.flush();
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                {"transaction_id":10,"account_id":1,"operationType_Id":1,"amount":-100.50,"event_date":"2025-01-01T12:00:30"}
+                {"transaction_id":11,"account_id":1,"operationType_Id":4,"amount":60.00,"event_date":"2025-01-02T08:15:00"}
+                """);
+    }
+
+    @Test
+    void givenTransactions_whenWrittenAsCsv_thenHeaderFollowedByOneRowPerTransaction() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        TransactionExportWriter writer = TransactionExportWriter.open(ExportFormat.CSV, objectMapper, out);
+        writer.write(PURCHASE);
+        writer.write(PAYMENT);
+        writer.flush();
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                transaction_id,account_id,operation_type_id,amount,event_date
+                10,1,1,-100.50,2025-01-01T12:00:30
+                11,1,4,60.00,2025-01-02T08:15:00
+                """);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"csv", "CSV", " Csv "})
+    void givenFormatInAnyCase_whenParsed_thenCsvReturned(String format) {
+
+        assertThat(ExportFormat.fromParameter(format)).isEqualTo(ExportFormat.CSV);
+    }
+
+    @Test
+    void givenUnknownFormat_whenParsed_thenExceptionIsThrown() {
+
+        assertThatThrownBy(() -> ExportFormat.fromParameter("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_EXPORT_FORMAT_MSG.formatted("xml"));
+    }
+}
@@ -1,8 +1,10 @@
 package com.takeHome.Pismo.infrastructure.adapter.in.web;
 
 import com.takeHome.Pismo.core.contract.output.AccountResult;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
 import com.takeHome.Pismo.core.contract.output.TransactionResult;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.AccountResponse;
+import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.BulkTransactionLineResponse;
 import com.takeHome.Pismo.infrastructure.adapter.in.web.dto.TransactionResponse;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
@@ -61,5 +63,25 @@ class WebResponseMapperTest {
         assertThat(accountResponse1).isEqualTo(accountResponse2);
         assertThat(accountResponse1).isNotSameAs(accountResponse2);
     }
-}
 
+    @Test
+    void givenAcceptedAndRejectedBulkResults_whenMappedToLineResponses_thenStatusAndFieldsAreMapped() {
+        // Given
+        TransactionResult transactionResult = TransactionResult.builder().transactionId(7L).accountId(3L).build();
+
+        // When
+        BulkTransactionLineResponse created = WebResponseMapper.toBulkTransactionLineResponse(1, BulkTransactionResult.accepted(transactionResult));
+        BulkTransactionLineResponse rejected = WebResponseMapper.toBulkTransactionLineResponse(2, BulkTransactionResult.rejected("boom"));
+
+        // Then
+        assertThat(created.line()).isEqualTo(1);
+        assertThat(created.status()).isEqualTo(BulkTransactionLineResponse.CREATED);
+        assertThat(created.transactionId()).isEqualTo(7L);
+        assertThat(created.accountId()).isEqualTo(3L);
+        assertThat(created.error()).isNull();
+        assertThat(rejected.line()).isEqualTo(2);
+        assertThat(rejected.status()).isEqualTo(BulkTransactionLineResponse.REJECTED);
+        assertThat(rejected.transactionId()).isNull();
+        assertThat(rejected.error()).isEqualTo("boom");
+    }
+}
@@ -0,0 +1,154 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.Money;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountPersistenceAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountRegistryAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TestcontainersConfiguration;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionPersistenceAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Checkpoints commit on their own connection, so these tests run outside the usual rolled-back test transaction.
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class LedgerEngineIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path journalDirectory;
+
+    @TempDir
+    Path replacementJournalDirectory;
+
+    private AccountRegistryAdapter accountRegistryAdapter;
+
+    private long accountId;
+
+    @BeforeEach
+    void setup(){
+        accountId = new AccountPersistenceAdapter(jdbcTemplate).save(Account.builder().documentNumber(System.nanoTime()).build())
+                .accountId();
+        accountRegistryAdapter = new AccountRegistryAdapter(jdbcTemplate);
+        accountRegistryAdapter.warmUp();
+    }
+
+    @Test
+    void givenCommittedPostings_whenCheckpointed_thenRowsBalancesAndLsnReachMySql(){
+        LedgerEngine ledgerEngine = engine(journalDirectory);
+        BalanceBearingTransaction debit = ledgerEngine.save(transaction(CASH_PURCHASE, "50.00"));
+        BalanceBearingTransaction payment = ledgerEngine.save(transaction(PAYMENT, "20.00"));
+        debit.applyPayment(Money.of(new BigDecimal("20.00")));
+        payment.applyPayment(Money.of(new BigDecimal("-20.00")));
+        ledgerEngine.updateBalances(List.of(debit, payment));
+
+        int stored = ledgerEngine.checkpoint();
+        ledgerEngine.close();
+
+        assertThat(stored).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT BALANCE FROM TRANSACTIONS WHERE TRANSACTION_ID = ?", BigDecimal.class,
+                debit.transaction().transactionId())).isEqualByComparingTo("-30.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT BALANCE FROM TRANSACTIONS WHERE TRANSACTION_ID = ?", BigDecimal.class,
+                payment.transaction().transactionId())).isEqualByComparingTo("0.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT OPEN_DEBIT_TOTAL FROM ACCOUNT_BALANCES WHERE ACCOUNT_ID = ?", BigDecimal.class,
+                accountId)).isEqualByComparingTo("30.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT LSN FROM LEDGER_CHECKPOINT WHERE CHECKPOINT_ID = 1", Long.class)).isPositive();
+    }
+
+    @Test
+    void givenCheckpointedState_whenRecoveredWithAnEmptyJournal_thenOpenRowsComeFromMySqlAndLsnsMoveOn(){
+        LedgerEngine ledgerEngine = engine(journalDirectory);
+        BalanceBearingTransaction debit = ledgerEngine.save(transaction(CASH_PURCHASE, "50.00"));
+        ledgerEngine.close();
+        long checkpointLsn = jdbcTemplate.queryForObject("SELECT LSN FROM LEDGER_CHECKPOINT WHERE CHECKPOINT_ID = 1", Long.class);
+
+        LedgerJournal replacementJournal = new LedgerJournal(replacementJournalDirectory, 1 << 16, new SimpleMeterRegistry());
+        LedgerEngine recovered = new LedgerEngine(jdbcTemplate, transactionManager, storedTransactions(), accountRegistryAdapter,
+                replacementJournal, new SimpleMeterRegistry());
+        recovered.recover();
+        BalanceBearingTransaction next = recovered.save(transaction(CASH_PURCHASE, "5.00"));
+
+        assertThat(recovered.fetchDebitTransactions(accountId)).extracting(tx -> tx.transaction().transactionId())
+                .containsExactly(debit.transaction().transactionId(), next.transaction().transactionId());
+        assertThat(next.transaction().transactionId()).isGreaterThan(debit.transaction().transactionId());
+        assertThat(replacementJournal.lastLsn()).isEqualTo(checkpointLsn + 1);
+        recovered.close();
+    }
+
+    @Test
+    void givenDbTransactionFailingAfterJournaling_whenRecovered_thenItsPostingIsNeitherAppliedNorReplayed(){
+        LedgerEngine ledgerEngine = engine(journalDirectory);
+
+        // Registered after the ledger's own synchronization, so the journal record is written before the commit fails.
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ledgerEngine.save(transaction(PAYMENT, "20.00"));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    throw new IllegalStateException("commit failed");
+                }
+            });
+        })).isInstanceOf(IllegalStateException.class);
+        boolean creditAfterRollback = ledgerEngine.hasAvailableCredit(accountId);
+        ledgerEngine.close();
+        LedgerEngine recovered = engine(journalDirectory);
+
+        assertThat(creditAfterRollback).isFalse();
+        assertThat(recovered.hasAvailableCredit(accountId)).isFalse();
+        assertThat(recovered.fetchCreditTransactions(accountId)).isEmpty();
+        recovered.close();
+    }
+
+    private LedgerEngine engine(Path directory){
+        LedgerEngine ledgerEngine = new LedgerEngine(jdbcTemplate, transactionManager, storedTransactions(), accountRegistryAdapter,
+                new LedgerJournal(directory, 1 << 16, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        ledgerEngine.recover();
+        return ledgerEngine;
+    }
+
+    private TransactionPersistenceAdapter storedTransactions(){
+        return new TransactionPersistenceAdapter(jdbcTemplate, new JdbcTransactionPersistenceMapper());
+    }
+
+    private BalanceBearingTransaction transaction(OperationType operationType, String amount){
+        return ExecutableTransaction.from(Transaction.builder()
+                .accountId(accountId)
+                .operationTypeId(operationType.getId())
+                .amount(new BigDecimal(amount))
+                .eventDate(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,333 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.Money;
+import com.takeHome.Pismo.core.domain.model.OperationType;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
+import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_EXISTS_EXCEPTION_MSG;
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerEngineTest {
+
+    private static final long ACCOUNT_ID = 7L;
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    TransactionPersistencePort storedTransactions;
+
+    @Mock
+    AccountRegistryPort accountRegistryPort;
+
+    // What LEDGER_COMMITS holds, as far as recovery and outcome checks are concerned.
+    private final List<Long> committedLsns = new ArrayList<>();
+
+    private LedgerJournal journal;
+
+    private LedgerEngine ledgerEngine;
+
+    @BeforeEach
+    void setup() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenReturn(List.of(0L));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(10L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenAnswer(invocation -> List.copyOf(committedLsns));
+        when(accountRegistryPort.isKnown(anyLong())).thenAnswer(invocation -> invocation.<Long>getArgument(0) == ACCOUNT_ID);
+        ledgerEngine = recoveredEngine();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    void givenStoredRowsUpToId10_whenTransactionSaved_thenItIsNumberedAfterThemAndOpenInMemory() {
+        // Given
+        // When
+        BalanceBearingTransaction saved = ledgerEngine.save(transaction(CASH_PURCHASE, "50.00", 0));
+
+        // Then
+        assertThat(saved.transaction().transactionId()).isEqualTo(11L);
+        assertThat(saved.balance()).isEqualByComparingTo("-50.00");
+        assertThat(ledgerEngine.fetchDebitTransactions(ACCOUNT_ID)).extracting(tx -> tx.transaction().transactionId()).containsExactly(11L);
+        assertThat(ledgerEngine.hasOpenDebits(ACCOUNT_ID)).isTrue();
+        assertThat(ledgerEngine.hasAvailableCredit(ACCOUNT_ID)).isFalse();
+        assertThat(journal.lastLsn()).isEqualTo(1L);
+    }
+
+    @Test
+    void givenOpenDebits_whenPagedByCursor_thenPagesFollowEventOrder() {
+        // Given
+        ledgerEngine.saveAll(List.of(transaction(CASH_PURCHASE, "10.00", 2), transaction(CASH_PURCHASE, "20.00", 1),
+                transaction(CASH_PURCHASE, "30.00", 3)));
+
+        // When
+        List<BalanceBearingTransaction> first = ledgerEngine.fetchDebitTransactions(ACCOUNT_ID, null, 2);
+        List<BalanceBearingTransaction> second = ledgerEngine.fetchDebitTransactions(ACCOUNT_ID,
+                TransactionCursor.after(first.getLast().transaction()), 2);
+
+        // Then
+        assertThat(first).extracting(tx -> tx.transaction().transactionId()).containsExactly(12L, 11L);
+        assertThat(second).extracting(tx -> tx.transaction().transactionId()).containsExactly(13L);
+    }
+
+    @Test
+    void givenSpringTransaction_whenRolledBack_thenStagedWritesAreDropped() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledgerEngine.save(transaction(PAYMENT, "40.00", 0));
+
+            // When
+            boolean creditVisibleInside = ledgerEngine.hasAvailableCredit(ACCOUNT_ID);
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            assertThat(creditVisibleInside).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(ledgerEngine.hasAvailableCredit(ACCOUNT_ID)).isFalse();
+        assertThat(ledgerEngine.fetchCreditTransactions(ACCOUNT_ID)).isEmpty();
+        assertThat(journal.lastLsn()).isZero();
+    }
+
+    @Test
+    void givenSpringTransaction_whenCommitted_thenAllItsWritesShareOneJournalRecord() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledgerEngine.lockAccount(ACCOUNT_ID);
+            ledgerEngine.save(transaction(CASH_PURCHASE, "30.00", 0));
+            BalanceBearingTransaction payment = ledgerEngine.save(transaction(PAYMENT, "30.00", 1));
+            BalanceBearingTransaction debit = ledgerEngine.fetchDebitTransactions(ACCOUNT_ID).getFirst();
+            debit.applyPayment(Money.of(new BigDecimal("30.00")));
+            payment.applyPayment(Money.of(new BigDecimal("-30.00")));
+            ledgerEngine.updateBalances(List.of(debit, payment));
+
+            // When
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(journal.lastLsn()).isEqualTo(1L);
+        assertThat(ledgerEngine.fetchDebitTransactions(ACCOUNT_ID)).isEmpty();
+        assertThat(ledgerEngine.fetchCreditTransactions(ACCOUNT_ID)).isEmpty();
+        AccountBalance balance = ledgerEngine.retrieve(ACCOUNT_ID).orElseThrow();
+        assertThat(balance.openDebitTotal()).isEqualByComparingTo("0");
+        assertThat(balance.availableCredit()).isEqualByComparingTo("0");
+        assertThat(balance.lastEventDate()).isEqualTo(EVENT_DATE.plusSeconds(1));
+    }
+
+    @Test
+    void givenJournaledWritesNotCheckpointed_whenEngineRecovered_thenTheyAreReplayed() {
+        // Given
+        ledgerEngine.save(transaction(CASH_PURCHASE, "50.00", 0));
+        ledgerEngine.save(transaction(PAYMENT, "20.00", 1));
+        journal.close();
+        committedLsns.addAll(List.of(1L, 2L));
+
+        // When
+        LedgerEngine recovered = recoveredEngine();
+
+        // Then
+        assertThat(recovered.fetchDebitTransactions(ACCOUNT_ID)).extracting(BalanceBearingTransaction::balance)
+                .containsExactly(new BigDecimal("-50.00"));
+        assertThat(recovered.hasAvailableCredit(ACCOUNT_ID)).isTrue();
+        assertThat(recovered.save(transaction(CASH_PURCHASE, "1.00", 2)).transaction().transactionId()).isEqualTo(13L);
+    }
+
+    @Test
+    void givenJournaledRecordWhoseDbTransactionNeverCommitted_whenEngineRecovered_thenItIsSkippedButItsIdsAreNotReused() {
+        // Given
+        ledgerEngine.save(transaction(CASH_PURCHASE, "50.00", 0));
+        ledgerEngine.save(transaction(PAYMENT, "20.00", 1));
+        journal.close();
+        committedLsns.add(1L);
+
+        // When
+        LedgerEngine recovered = recoveredEngine();
+
+        // Then
+        assertThat(recovered.fetchDebitTransactions(ACCOUNT_ID)).hasSize(1);
+        assertThat(recovered.hasAvailableCredit(ACCOUNT_ID)).isFalse();
+        assertThat(recovered.save(transaction(CASH_PURCHASE, "1.00", 2)).transaction().transactionId()).isEqualTo(13L);
+    }
+
+    @Test
+    void givenSpringTransaction_whenDbCommitFailsAfterJournaling_thenItsWritesAreNeitherAppliedNorCheckpointed() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledgerEngine.save(transaction(PAYMENT, "40.00", 0));
+
+            // When
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(jdbcTemplate).update("INSERT INTO LEDGER_COMMITS (LSN) VALUES (?)", 1L);
+        assertThat(journal.lastLsn()).isEqualTo(1L);
+        assertThat(ledgerEngine.hasAvailableCredit(ACCOUNT_ID)).isFalse();
+        assertThat(ledgerEngine.fetchCreditTransactions(ACCOUNT_ID)).isEmpty();
+        assertThat(ledgerEngine.checkpoint()).isZero();
+    }
+
+    @Test
+    void givenSpringTransactionWithUnknownOutcome_whenItsLsnWasRecorded_thenItsWritesAreApplied() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledgerEngine.save(transaction(PAYMENT, "40.00", 0));
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            committedLsns.add(1L);
+
+            // When
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_UNKNOWN);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(ledgerEngine.hasAvailableCredit(ACCOUNT_ID)).isTrue();
+    }
+
+    @Test
+    void givenRecordInFlight_whenCheckpointed_thenTheCheckpointStopsBelowIt() {
+        // Given
+        ledgerEngine.save(transaction(CASH_PURCHASE, "50.00", 0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledgerEngine.save(transaction(PAYMENT, "20.00", 1));
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+            // When
+            int storedWhileInFlight = ledgerEngine.checkpoint();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+            // Then
+            assertThat(storedWhileInFlight).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(ledgerEngine.checkpoint()).isEqualTo(1);
+        verify(jdbcTemplate).update("UPDATE LEDGER_CHECKPOINT SET LSN = ? WHERE CHECKPOINT_ID = 1", 1L);
+        verify(jdbcTemplate).update("UPDATE LEDGER_CHECKPOINT SET LSN = ? WHERE CHECKPOINT_ID = 1", 2L);
+        verify(jdbcTemplate).update("DELETE FROM LEDGER_COMMITS WHERE LSN <= ?", 2L);
+    }
+
+    @Test
+    void givenPendingRows_whenCheckpointed_thenTheyAreStoredWithTheirLsnAndNotStoredAgain() {
+        // Given
+        ledgerEngine.save(transaction(CASH_PURCHASE, "50.00", 0));
+        ledgerEngine.save(transaction(PAYMENT, "20.00", 1));
+
+        // When
+        int stored = ledgerEngine.checkpoint();
+        int storedAgain = ledgerEngine.checkpoint();
+
+        // Then
+        assertThat(stored).isEqualTo(2);
+        assertThat(storedAgain).isZero();
+        verify(jdbcTemplate).update("UPDATE LEDGER_CHECKPOINT SET LSN = ? WHERE CHECKPOINT_ID = 1", 2L);
+    }
+
+    @Test
+    void givenRowsNotCheckpointed_whenHistoryFetched_thenTheyAreMergedIntoTheStoredPage() {
+        // Given
+        Transaction storedRow = Transaction.builder().transactionId(3L).accountId(ACCOUNT_ID).operationTypeId(CASH_PURCHASE.getId())
+                .amount(new BigDecimal("-5.00")).eventDate(EVENT_DATE.plusSeconds(1)).build();
+        when(storedTransactions.fetchTransactions(any(), anyInt())).thenReturn(List.of(storedRow));
+        ledgerEngine.save(transaction(CASH_PURCHASE, "50.00", 0));
+        ledgerEngine.save(transaction(PAYMENT, "20.00", 2));
+
+        // When
+        List<Transaction> page = ledgerEngine.fetchTransactions(GetTransactionHistoryQuery.builder().accountId(ACCOUNT_ID).limit(2).build(), 2);
+
+        // Then
+        assertThat(page).extracting(Transaction::transactionId).containsExactly(11L, 3L);
+    }
+
+    @Test
+    void givenUnknownAccount_whenTransactionSaved_thenAccountDoesNotExistExceptionIsThrown() {
+        // Given
+        BalanceBearingTransaction transaction = ExecutableTransaction.from(Transaction.builder().accountId(99L)
+                .operationTypeId(CASH_PURCHASE.getId()).amount(BigDecimal.TEN).eventDate(EVENT_DATE).build());
+
+        // When
+        // Then
+        assertThatThrownBy(() -> ledgerEngine.save(transaction))
+                .isInstanceOf(AccountDoesNotExistException.class)
+                .hasMessage(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(99L));
+        assertThat(ledgerEngine.retrieve(99L)).isEmpty();
+    }
+
+    private LedgerEngine recoveredEngine() {
+        journal = new LedgerJournal(directory, 1 << 16, new SimpleMeterRegistry());
+        LedgerEngine engine = new LedgerEngine(jdbcTemplate, transactionManager, storedTransactions, accountRegistryPort, journal,
+                new SimpleMeterRegistry());
+        engine.recover();
+        return engine;
+    }
+
+    private static BalanceBearingTransaction transaction(OperationType operationType, String amount, int secondsAfter) {
+        return ExecutableTransaction.from(Transaction.builder()
+                .accountId(ACCOUNT_ID)
+                .operationTypeId(operationType.getId())
+                .amount(new BigDecimal(amount))
+                .eventDate(EVENT_DATE.plusSeconds(secondsAfter))
+                .build());
+    }
+}
@@ -0,0 +1,154 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.ledger;
+
+import com.takeHome.Pismo.core.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_LEDGER_SEGMENT_SIZE_MSG;
+import static com.takeHome.Pismo.core.Constants.LEDGER_RECORD_TOO_LARGE_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerJournalTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenDurableRecords_whenJournalReopened_thenTheyAreReplayedInOrder() {
+        // Given
+        LedgerEntry debit = entry(1L, 1, -5000L, -5000L);
+        LedgerEntry payment = entry(2L, 4, 2000L, 0L);
+        try (LedgerJournal journal = journal()) {
+            journal.awaitDurable(journal.append(List.of(debit)));
+            journal.awaitDurable(journal.append(List.of(payment, debit.withBalance(Money.ofMinor(-3000L)))));
+        }
+
+        // When
+        List<Long> lsns = new ArrayList<>();
+        List<LedgerEntry> replayed = new ArrayList<>();
+        try (LedgerJournal journal = journal()) {
+            journal.replay(0L, (entries, lsn) -> {
+                lsns.add(lsn);
+                replayed.addAll(entries);
+            });
+
+            // Then
+            assertThat(journal.lastLsn()).isEqualTo(2L);
+        }
+        assertThat(lsns).containsExactly(1L, 2L);
+        assertThat(replayed).containsExactly(debit, payment, debit.withBalance(Money.ofMinor(-3000L)));
+    }
+
+    @Test
+    void givenRecordsAcrossSegments_whenTruncatedThroughCheckpoint_thenOnlyLaterRecordsRemain() throws IOException {
+        // Given
+        try (LedgerJournal journal = journal()) {
+            for (long i = 1; i <= 40; i++) {
+                journal.append(List.of(entry(i, 1, -100L, -100L)));
+            }
+
+            // When
+            journal.truncateThrough(20L);
+            List<Long> replayed = new ArrayList<>();
+            journal.replay(20L, (entries, lsn) -> replayed.add(lsn));
+
+            // Then
+            assertThat(replayed).containsExactlyElementsOf(LongStream.rangeClosed(21L, 40L).boxed().toList());
+            try (Stream<Path> segments = Files.list(directory)) {
+                assertThat(segments.count()).isEqualTo(2L);
+            }
+        }
+    }
+
+    @Test
+    void givenTornRecordAtTail_whenJournalReopened_thenItIsDiscardedAndOverwritten() throws IOException {
+        // Given
+        try (LedgerJournal journal = journal()) {
+            journal.awaitDurable(journal.append(List.of(entry(1L, 1, -100L, -100L))));
+        }
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory)) {
+            segment = segments.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 60, 1, 2, 3}), 64);
+        }
+
+        // When
+        List<LedgerEntry> replayed = new ArrayList<>();
+        try (LedgerJournal journal = journal()) {
+            long lsn = journal.append(List.of(entry(2L, 4, 100L, 100L)));
+            journal.replay(0L, (entries, recordLsn) -> replayed.addAll(entries));
+
+            // Then
+            assertThat(lsn).isEqualTo(2L);
+        }
+        assertThat(replayed).extracting(LedgerEntry::transactionId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void givenCheckpointAheadOfJournal_whenContinuedAfterIt_thenNewRecordsFollowTheCheckpoint() {
+        // Given
+        try (LedgerJournal journal = journal()) {
+
+            // When
+            journal.continueAfter(41L);
+            long lsn = journal.append(List.of(entry(1L, 1, -100L, -100L)));
+
+            // Then
+            assertThat(lsn).isEqualTo(42L);
+        }
+    }
+
+    @Test
+    void givenRecordLargerThanSegment_whenAppended_thenIllegalArgumentExceptionIsThrown() {
+        // Given
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (long i = 1; i <= 40; i++) {
+            entries.add(entry(i, 1, -100L, -100L));
+        }
+
+        // When
+        // Then
+        try (LedgerJournal journal = journal()) {
+            assertThatThrownBy(() -> journal.append(entries))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(LEDGER_RECORD_TOO_LARGE_MSG.formatted(40, SEGMENT_SIZE));
+        }
+    }
+
+    @Test
+    void givenTooSmallSegmentSize_whenJournalCreated_thenIllegalArgumentExceptionIsThrown() {
+        // Given
+        // When
+        // Then
+        assertThatThrownBy(() -> new LedgerJournal(directory, 16, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_LEDGER_SEGMENT_SIZE_MSG.formatted(16, 64));
+    }
+
+    private LedgerJournal journal() {
+        return new LedgerJournal(directory, SEGMENT_SIZE, new SimpleMeterRegistry());
+    }
+
+    private static LedgerEntry entry(long transactionId, int operationTypeId, long amount, long balance) {
+        return new LedgerEntry(transactionId, 7L, operationTypeId, Money.ofMinor(amount), Money.ofMinor(balance),
+                LocalDateTime.of(2026, 3, 1, 10, 0).plusNanos(transactionId * 1_000L));
+    }
+}
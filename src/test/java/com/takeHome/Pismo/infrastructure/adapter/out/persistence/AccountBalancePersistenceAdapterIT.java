@@ -0,0 +1,118 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+public class AccountBalancePersistenceAdapterIT {
+
+    private static final long DOCUMENT_NUMBER = 12345678900L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AccountPersistenceAdapter accountPersistenceAdapter;
+
+    private TransactionPersistenceAdapter transactionPersistenceAdapter;
+
+    private AccountBalancePersistenceAdapter accountBalancePersistenceAdapter;
+
+    @BeforeEach
+    void setUp() {
+        accountPersistenceAdapter = new AccountPersistenceAdapter(jdbcTemplate);
+        transactionPersistenceAdapter = new TransactionPersistenceAdapter(jdbcTemplate, new JdbcTransactionPersistenceMapper());
+        accountBalancePersistenceAdapter = new AccountBalancePersistenceAdapter(jdbcTemplate);
+    }
+
+    @Test
+    void givenAccountWithoutTransactions_whenRetrieveBalance_thenZeroBalanceIsReturned() {
+        Account account = accountPersistenceAdapter.save(Account.builder().documentNumber(DOCUMENT_NUMBER).build());
+
+        Optional<AccountBalance> balance = accountBalancePersistenceAdapter.retrieve(account.accountId());
+
+        assertThat(balance).isPresent();
+        assertThat(balance.get().openDebitTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balance.get().availableCredit()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balance.get().lastEventDate()).isNull();
+    }
+
+    @Test
+    void givenUnknownAccount_whenRetrieveBalance_thenEmptyIsReturned() {
+        assertThat(accountBalancePersistenceAdapter.retrieve(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void givenSavedAndDischargedTransactions_whenRetrieveBalance_thenProjectionMatchesTransactions() {
+        Account account = accountPersistenceAdapter.save(Account.builder().documentNumber(DOCUMENT_NUMBER).build());
+        long accountId = account.accountId();
+        LocalDateTime paymentDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        BalanceBearingTransaction purchase = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(50))
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(paymentDate.minusMinutes(1)).build()));
+        BalanceBearingTransaction payment = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(70))
+                .operationTypeId(PAYMENT.getId())
+                .eventDate(paymentDate).build()));
+
+        purchase.applyPayment(BigDecimal.valueOf(50));
+        payment.applyPayment(BigDecimal.valueOf(-50));
+        transactionPersistenceAdapter.updateBalances(List.of(purchase, payment));
+
+        Optional<AccountBalance> balance = accountBalancePersistenceAdapter.retrieve(accountId);
+
+        assertThat(balance).isPresent();
+        assertThat(balance.get().openDebitTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balance.get().availableCredit()).isEqualByComparingTo(BigDecimal.valueOf(20));
+        assertThat(balance.get().lastEventDate()).isEqualTo(paymentDate);
+
+        BigDecimal storedCredit = jdbcTemplate.queryForObject(
+                "SELECT SUM(BALANCE) FROM TRANSACTIONS WHERE ACCOUNT_ID = ? AND OPERATIONTYPE_ID = 4", BigDecimal.class, accountId);
+        assertThat(balance.get().availableCredit()).isEqualByComparingTo(storedCredit);
+    }
+
+    @Test
+    void givenOpenAndSettledDebits_whenHasOpenDebits_thenProjectionIsConsulted() {
+        Account account = accountPersistenceAdapter.save(Account.builder().documentNumber(DOCUMENT_NUMBER).build());
+        long accountId = account.accountId();
+
+        assertThat(accountBalancePersistenceAdapter.hasOpenDebits(accountId)).isFalse();
+
+        BalanceBearingTransaction purchase = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(30))
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(LocalDateTime.now()).build()));
+
+        assertThat(accountBalancePersistenceAdapter.hasOpenDebits(accountId)).isTrue();
+
+        purchase.applyPayment(BigDecimal.valueOf(30));
+        transactionPersistenceAdapter.updateBalances(List.of(purchase));
+
+        assertThat(accountBalancePersistenceAdapter.hasOpenDebits(accountId)).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountIdBitmapTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 63L, 64L, 65_535L, 65_536L, 65_537L, Long.MAX_VALUE})
+    void givenAddedId_whenChecked_thenOnlyThatIdIsContained(long accountId) {
+        AccountIdBitmap bitmap = new AccountIdBitmap();
+
+        bitmap.add(accountId);
+
+        assertThat(bitmap.contains(accountId)).isTrue();
+        assertThat(bitmap.contains(accountId - 1)).isFalse();
+        if (accountId < Long.MAX_VALUE) {
+            assertThat(bitmap.contains(accountId + 1)).isFalse();
+        }
+    }
+
+    @Test
+    void givenNonPositiveIds_whenAdded_thenNeverContained() {
+        AccountIdBitmap bitmap = new AccountIdBitmap();
+
+        bitmap.add(0L);
+        bitmap.add(-1L);
+
+        assertThat(bitmap.contains(0L)).isFalse();
+        assertThat(bitmap.contains(-1L)).isFalse();
+    }
+
+    @Test
+    void givenConcurrentAddsToSameWords_whenFinished_thenNoBitIsLost() throws InterruptedException {
+        AccountIdBitmap bitmap = new AccountIdBitmap();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread;
+            executor.submit(() -> LongStream.rangeClosed(1, 200_000)
+                    .filter(id -> id % 8 == offset)
+                    .forEach(bitmap::add));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(LongStream.rangeClosed(1, 200_000).allMatch(bitmap::contains)).isTrue();
+    }
+}
@@ -8,8 +8,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -19,9 +20,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @JdbcTest
 @Import(TestcontainersConfiguration.class)
-@TestPropertySource(properties = {
-        "spring.sql.init.mode=always"
-})
 public class AccountPersistenceAdapterIT {
 
     private static final long DOCUMENT_NUMBER = 12345678900L;
@@ -99,4 +97,27 @@ public class AccountPersistenceAdapterIT {
         assertThatThrownBy(result::get).isInstanceOf(NoSuchElementException.class);
     }
 
+    @Test
+    void givenNewTakenAndRepeatedDocumentNumbers_whenSaveAll_thenOnlyNewNumbersAreInsertedOnce() {
+        // Given
+        accountPersistenceAdapter.save(Account.builder().documentNumber(DOCUMENT_NUMBER).build());
+
+        List<Account> accounts = new ArrayList<>();
+        accounts.add(Account.builder().documentNumber(DOCUMENT_NUMBER).build());
+        for (long i = 1; i <= 600; i++) {
+            accounts.add(Account.builder().documentNumber(DOCUMENT_NUMBER + i).build());
+        }
+        accounts.add(Account.builder().documentNumber(DOCUMENT_NUMBER + 1).build());
+
+        // When
+        List<Account> created = accountPersistenceAdapter.saveAll(accounts);
+
+        // Then
+        assertThat(created).hasSize(600);
+        assertThat(created).extracting(Account::documentNumber).doesNotContain(DOCUMENT_NUMBER).doesNotHaveDuplicates();
+        assertThat(created).extracting(Account::accountId).doesNotContainNull().doesNotHaveDuplicates();
+
+        Account last = created.getLast();
+        assertThat(accountPersistenceAdapter.retrieve(last.accountId())).contains(last);
+    }
 }
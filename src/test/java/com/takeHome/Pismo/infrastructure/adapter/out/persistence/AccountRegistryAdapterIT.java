@@ -0,0 +1,64 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.domain.model.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+public class AccountRegistryAdapterIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AccountRegistryAdapter accountRegistryAdapter;
+
+    @BeforeEach
+    void setUp() {
+        accountRegistryAdapter = new AccountRegistryAdapter(jdbcTemplate);
+    }
+
+    @Test
+    void givenExistingAccount_whenRegistryWarmedUp_thenAccountIsKnown() {
+        Account account = new AccountPersistenceAdapter(jdbcTemplate).save(Account.builder().documentNumber(11111111111L).build());
+
+        accountRegistryAdapter.warmUp();
+
+        assertThat(accountRegistryAdapter.isKnown(account.accountId())).isTrue();
+    }
+
+    @Test
+    void givenAccountCreatedByAnotherWriterAfterWarmUp_whenChecked_thenRegistryCatchesUp() {
+        accountRegistryAdapter.warmUp();
+
+        Account account = new AccountPersistenceAdapter(jdbcTemplate).save(Account.builder().documentNumber(22222222222L).build());
+
+        assertThat(accountRegistryAdapter.isKnown(account.accountId())).isTrue();
+    }
+
+    @Test
+    void givenAccountSavedThroughRegistry_whenChecked_thenKnownWithoutReload() {
+        accountRegistryAdapter.warmUp();
+
+        Account account = new AccountPersistenceAdapter(jdbcTemplate, accountRegistryAdapter)
+                .save(Account.builder().documentNumber(33333333333L).build());
+        jdbcTemplate.update("DELETE FROM ACCOUNTS WHERE ACCOUNT_ID = ?", account.accountId());
+
+        assertThat(accountRegistryAdapter.isKnown(account.accountId())).isTrue();
+    }
+
+    @Test
+    void givenUnknownAccount_whenChecked_thenNotKnown() {
+        Account account = new AccountPersistenceAdapter(jdbcTemplate).save(Account.builder().documentNumber(44444444444L).build());
+        accountRegistryAdapter.warmUp();
+
+        assertThat(accountRegistryAdapter.isKnown(account.accountId() + 1_000L)).isFalse();
+        assertThat(accountRegistryAdapter.isKnown(-1L)).isFalse();
+    }
+}
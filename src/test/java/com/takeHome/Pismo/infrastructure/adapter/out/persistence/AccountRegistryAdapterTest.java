@@ -0,0 +1,117 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountRegistryAdapterTest {
+
+    private static final String EXISTS_SQL = "SELECT 1 FROM ACCOUNTS WHERE ACCOUNT_ID = ?";
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenIdBelowWatermarkCommittedOutOfOrder_whenChecked_thenItIsConfirmedByPrimaryKeyAndKept() throws Exception {
+        // Given
+        AccountRegistryAdapter registry = new AccountRegistryAdapter(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(5));
+        loadAccounts(7L, 9L);
+        registry.warmUp();
+        when(jdbcTemplate.queryForList(EXISTS_SQL, Integer.class, 8L)).thenReturn(List.of(1));
+
+        // When
+        boolean first = registry.isKnown(8L);
+        boolean second = registry.isKnown(8L);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(jdbcTemplate, times(1)).queryForList(EXISTS_SQL, Integer.class, 8L);
+    }
+
+    @Test
+    void givenBogusIdAboveWatermark_whenCheckedRepeatedly_thenTailIsRescannedOnceAndMissIsCached() throws Exception {
+        // Given
+        AccountRegistryAdapter registry = new AccountRegistryAdapter(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(5));
+        loadAccounts(1L);
+        registry.warmUp();
+        when(jdbcTemplate.queryForList(eq(EXISTS_SQL), eq(Integer.class), any(Object[].class))).thenReturn(List.of());
+
+        // When
+        boolean first = registry.isKnown(1_000_000L);
+        boolean second = registry.isKnown(1_000_000L);
+        boolean other = registry.isKnown(2_000_000L);
+
+        // Then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(other).isFalse();
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(0L));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(1L));
+        verify(jdbcTemplate, times(1)).queryForList(EXISTS_SQL, Integer.class, 1_000_000L);
+        verify(jdbcTemplate, times(1)).queryForList(EXISTS_SQL, Integer.class, 2_000_000L);
+    }
+
+    @Test
+    void givenCachedMiss_whenAccountIsRegistered_thenItIsKnown() throws Exception {
+        // Given
+        AccountRegistryAdapter registry = new AccountRegistryAdapter(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(5));
+        loadAccounts(5L);
+        registry.warmUp();
+        when(jdbcTemplate.queryForList(EXISTS_SQL, Integer.class, 3L)).thenReturn(List.of());
+        registry.isKnown(3L);
+
+        // When
+        registry.register(3L);
+
+        // Then
+        assertThat(registry.isKnown(3L)).isTrue();
+    }
+
+    @Test
+    void givenNonPositiveId_whenChecked_thenNotKnownWithoutQuery() {
+        // Given
+        AccountRegistryAdapter registry = new AccountRegistryAdapter(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(5));
+
+        // When
+        boolean known = registry.isKnown(-1L);
+
+        // Then
+        assertThat(known).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // The first range load returns the given ids; later ones find nothing new.
+    private void loadAccounts(long... accountIds) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            if (invocation.<Long>getArgument(2) == 0L) {
+                for (long accountId : accountIds) {
+                    when(resultSet.getLong("ACCOUNT_ID")).thenReturn(accountId);
+                    handler.processRow(resultSet);
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+}
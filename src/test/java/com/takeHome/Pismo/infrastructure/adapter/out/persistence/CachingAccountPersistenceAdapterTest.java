@@ -0,0 +1,144 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.takeHome.Pismo.infrastructure.adapter.out.persistence.CachingAccountPersistenceAdapter.CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAccountPersistenceAdapterTest {
+
+    private static final long ACCOUNT_ID = 1L;
+    private static final long DOCUMENT_NUMBER = 12345678900L;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TIME_TO_LIVE = Duration.ofSeconds(5);
+
+    @Mock
+    private AccountPersistencePort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingAccountPersistenceAdapter cachingAdapter;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingAdapter = new CachingAccountPersistenceAdapter(delegate, 100, TIME_TO_LIVE, NEGATIVE_TIME_TO_LIVE,
+                meterRegistry, nanos::get);
+    }
+
+    @Test
+    void givenCachedAccount_whenRetrievedAgain_thenDatabaseIsReadOnce() {
+        // Given
+        Account account = new Account(ACCOUNT_ID, DOCUMENT_NUMBER);
+        when(delegate.retrieve(ACCOUNT_ID)).thenReturn(Optional.of(account));
+
+        // When
+        Optional<Account> first = cachingAdapter.retrieve(ACCOUNT_ID);
+        Optional<Account> second = cachingAdapter.retrieve(ACCOUNT_ID);
+
+        // Then
+        assertThat(first).contains(account);
+        assertThat(second).contains(account);
+        verify(delegate, times(1)).retrieve(ACCOUNT_ID);
+    }
+
+    @Test
+    void givenUnknownAccount_whenNegativeTtlElapses_thenLookupIsRepeated() {
+        // Given
+        when(delegate.retrieve(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        // When
+        assertThat(cachingAdapter.retrieve(ACCOUNT_ID)).isEmpty();
+        assertThat(cachingAdapter.retrieve(ACCOUNT_ID)).isEmpty();
+        nanos.addAndGet(NEGATIVE_TIME_TO_LIVE.plusMillis(1).toNanos());
+        assertThat(cachingAdapter.retrieve(ACCOUNT_ID)).isEmpty();
+
+        // Then
+        verify(delegate, times(2)).retrieve(ACCOUNT_ID);
+    }
+
+    @Test
+    void givenCachedAccount_whenTtlElapses_thenAccountIsReloaded() {
+        // Given
+        Account account = new Account(ACCOUNT_ID, DOCUMENT_NUMBER);
+        when(delegate.retrieve(ACCOUNT_ID)).thenReturn(Optional.of(account));
+        cachingAdapter.retrieve(ACCOUNT_ID);
+
+        // When
+        nanos.addAndGet(NEGATIVE_TIME_TO_LIVE.plusMillis(1).toNanos());
+        cachingAdapter.retrieve(ACCOUNT_ID);
+        nanos.addAndGet(TIME_TO_LIVE.toNanos());
+        cachingAdapter.retrieve(ACCOUNT_ID);
+
+        // Then
+        verify(delegate, times(2)).retrieve(ACCOUNT_ID);
+    }
+
+    @Test
+    void givenCachedMiss_whenAccountIsCreated_thenNewAccountIsServedWithoutDatabaseRead() {
+        // Given
+        Account account = new Account(ACCOUNT_ID, DOCUMENT_NUMBER);
+        when(delegate.retrieve(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(delegate.save(Account.builder().documentNumber(DOCUMENT_NUMBER).build())).thenReturn(account);
+        cachingAdapter.retrieve(ACCOUNT_ID);
+
+        // When
+        cachingAdapter.save(Account.builder().documentNumber(DOCUMENT_NUMBER).build());
+
+        // Then
+        assertThat(cachingAdapter.retrieve(ACCOUNT_ID)).contains(account);
+        verify(delegate, times(1)).retrieve(ACCOUNT_ID);
+    }
+
+    @Test
+    void givenAccountsCreatedInBulk_whenRetrieved_thenServedFromCache() {
+        // Given
+        Account account = new Account(ACCOUNT_ID, DOCUMENT_NUMBER);
+        List<Account> accounts = List.of(Account.builder().documentNumber(DOCUMENT_NUMBER).build());
+        when(delegate.saveAll(accounts)).thenReturn(List.of(account));
+
+        // When
+        List<Account> created = cachingAdapter.saveAll(accounts);
+
+        // Then
+        assertThat(created).containsExactly(account);
+        assertThat(cachingAdapter.retrieve(ACCOUNT_ID)).contains(account);
+        verify(delegate, times(0)).retrieve(ACCOUNT_ID);
+    }
+
+    @Test
+    void givenLookups_whenServed_thenHitsAndMissesAreExportedAsMetrics() {
+        // Given
+        when(delegate.retrieve(ACCOUNT_ID)).thenReturn(Optional.of(new Account(ACCOUNT_ID, DOCUMENT_NUMBER)));
+
+        // When
+        cachingAdapter.retrieve(ACCOUNT_ID);
+        cachingAdapter.retrieve(ACCOUNT_ID);
+        cachingAdapter.retrieve(ACCOUNT_ID);
+
+        // Then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", CACHE_NAME).functionCounter()).isNotNull();
+    }
+}
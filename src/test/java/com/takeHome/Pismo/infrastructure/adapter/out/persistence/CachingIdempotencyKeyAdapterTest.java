@@ -0,0 +1,78 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingIdempotencyKeyAdapterTest {
+
+    private static final String IDEMPOTENCY_KEY = "retry-1";
+
+    @Mock
+    private IdempotencyKeyPort delegate;
+
+    private CachingIdempotencyKeyAdapter cachingAdapter;
+
+    @BeforeEach
+    void setup() {
+        cachingAdapter = new CachingIdempotencyKeyAdapter(delegate, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenStoredKey_whenFoundTwice_thenTableIsReadOnce() {
+        // Given
+        TransactionResult stored = TransactionResult.builder().transactionId(7L).accountId(1L).build();
+        when(delegate.find(IDEMPOTENCY_KEY)).thenReturn(Optional.of(stored));
+
+        // When
+        Optional<TransactionResult> first = cachingAdapter.find(IDEMPOTENCY_KEY);
+        Optional<TransactionResult> second = cachingAdapter.find(IDEMPOTENCY_KEY);
+
+        // Then
+        assertThat(first).contains(stored);
+        assertThat(second).contains(stored);
+        verify(delegate, times(1)).find(IDEMPOTENCY_KEY);
+    }
+
+    @Test
+    void givenUnknownKey_whenFoundTwice_thenTableIsReadEachTime() {
+        // Given
+        when(delegate.find(IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+
+        // When
+        cachingAdapter.find(IDEMPOTENCY_KEY);
+        cachingAdapter.find(IDEMPOTENCY_KEY);
+
+        // Then
+        verify(delegate, times(2)).find(IDEMPOTENCY_KEY);
+    }
+
+    @Test
+    void givenSavedKey_whenFound_thenTableIsReadBecauseTheSaveMayRollBack() {
+        // Given
+        TransactionResult saved = TransactionResult.builder().transactionId(7L).accountId(1L).build();
+        when(delegate.find(IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+
+        // When
+        cachingAdapter.save(IDEMPOTENCY_KEY, saved);
+        Optional<TransactionResult> found = cachingAdapter.find(IDEMPOTENCY_KEY);
+
+        // Then
+        assertThat(found).isEmpty();
+        verify(delegate).save(IDEMPOTENCY_KEY, saved);
+    }
+}
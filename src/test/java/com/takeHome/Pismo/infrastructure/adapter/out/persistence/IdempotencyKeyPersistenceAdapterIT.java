@@ -0,0 +1,101 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.exception.IdempotencyKeyConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+public class IdempotencyKeyPersistenceAdapterIT {
+
+    private static final String IDEMPOTENCY_KEY = "retry-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyKeyPersistenceAdapter idempotencyKeyPersistenceAdapter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyPersistenceAdapter = new IdempotencyKeyPersistenceAdapter(jdbcTemplate);
+    }
+
+    @Test
+    void givenSavedKey_whenFound_thenStoredResultIsReturned() {
+        TransactionResult result = TransactionResult.builder()
+                .transactionId(7L)
+                .accountId(1L)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .amount(new BigDecimal("-10.00"))
+                .eventDate(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000))
+                .build();
+
+        idempotencyKeyPersistenceAdapter.save(IDEMPOTENCY_KEY, result);
+
+        assertThat(idempotencyKeyPersistenceAdapter.find(IDEMPOTENCY_KEY)).contains(result);
+    }
+
+    @Test
+    void givenUnknownKey_whenFound_thenEmptyIsReturned() {
+        assertThat(idempotencyKeyPersistenceAdapter.find("unknown")).isEmpty();
+    }
+
+    @Test
+    void givenSavedKey_whenSavedAgain_thenConflictIsReported() {
+        TransactionResult result = TransactionResult.builder()
+                .transactionId(7L)
+                .accountId(1L)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .amount(new BigDecimal("-10.00"))
+                .eventDate(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        idempotencyKeyPersistenceAdapter.save(IDEMPOTENCY_KEY, result);
+
+        assertThatThrownBy(() -> idempotencyKeyPersistenceAdapter.save(IDEMPOTENCY_KEY, result))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+    }
+
+    @Test
+    void givenExpiredAndRecentKeys_whenPurged_thenOnlyExpiredKeysAreDeleted() {
+        TransactionResult result = TransactionResult.builder()
+                .transactionId(7L)
+                .accountId(1L)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .amount(new BigDecimal("-10.00"))
+                .eventDate(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        for (String key : List.of("expired-1", "expired-2", "expired-3", IDEMPOTENCY_KEY)) {
+            idempotencyKeyPersistenceAdapter.save(key, result);
+        }
+        jdbcTemplate.update("UPDATE IDEMPOTENCY_KEYS SET CREATED_AT = ? WHERE IDEMPOTENCY_KEY LIKE 'expired-%'",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(8)));
+        IdempotencyKeyPurger purger = new IdempotencyKeyPurger(jdbcTemplate, transactionManager, Clock.systemDefaultZone(),
+                Duration.ofDays(7), 2, new SimpleMeterRegistry());
+
+        long purged = purger.purgeExpiredKeys();
+
+        assertThat(purged).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT IDEMPOTENCY_KEY FROM IDEMPOTENCY_KEYS", String.class)).containsExactly(IDEMPOTENCY_KEY);
+    }
+}
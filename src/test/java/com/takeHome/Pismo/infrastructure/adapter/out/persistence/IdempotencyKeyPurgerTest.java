@@ -0,0 +1,82 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_IDEMPOTENCY_PURGE_BATCH_SIZE_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyPurgerTest {
+
+    private static final String PURGE_SQL = "DELETE FROM IDEMPOTENCY_KEYS WHERE CREATED_AT < ? ORDER BY CREATED_AT LIMIT ?";
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-11-15T10:00:00Z"), ZoneOffset.UTC);
+    private static final Timestamp CUTOFF = Timestamp.valueOf(LocalDateTime.of(2026, 11, 8, 10, 0));
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void givenMoreExpiredKeysThanBatchSize_whenPurged_thenKeysAreDeletedBatchByBatch() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IdempotencyKeyPurger purger = new IdempotencyKeyPurger(jdbcTemplate, transactionManager, CLOCK, Duration.ofDays(7), 2, meterRegistry);
+        when(jdbcTemplate.update(PURGE_SQL, CUTOFF, 2)).thenReturn(2, 2, 1);
+
+        // When
+        long purged = purger.purgeExpiredKeys();
+
+        // Then
+        assertThat(purged).isEqualTo(5);
+        verify(jdbcTemplate, times(3)).update(PURGE_SQL, CUTOFF, 2);
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(meterRegistry.get("pismo.idempotency.purge.rows").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("pismo.idempotency.purge.batch").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void givenNoExpiredKeys_whenPurged_thenSingleEmptyBatchRuns() {
+        // Given
+        IdempotencyKeyPurger purger = new IdempotencyKeyPurger(jdbcTemplate, transactionManager, CLOCK, Duration.ofDays(7), 1000,
+                new SimpleMeterRegistry());
+        when(jdbcTemplate.update(PURGE_SQL, CUTOFF, 1000)).thenReturn(0);
+
+        // When
+        long purged = purger.purgeExpiredKeys();
+
+        // Then
+        assertThat(purged).isZero();
+        verify(jdbcTemplate, times(1)).update(PURGE_SQL, CUTOFF, 1000);
+    }
+
+    @Test
+    void givenNonPositiveBatchSize_whenPurgerCreated_thenIllegalArgumentExceptionIsThrown() {
+        // Given
+        // When
+        // Then
+        assertThatThrownBy(() -> new IdempotencyKeyPurger(jdbcTemplate, transactionManager, CLOCK, Duration.ofDays(7), 0,
+                new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_IDEMPOTENCY_PURGE_BATCH_SIZE_MSG.formatted(0));
+    }
+}
@@ -0,0 +1,64 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.domain.model.AccountBalance;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Starts from a database the original schema script created, with no Flyway history, as existing deployments have.
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SchemaMigrationIT {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenDatabaseCreatedBeforeMigrations_whenMigrated_thenExistingRowsArePartitionedAndBalancesBackfilled(){
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(dataSource);
+        jdbcTemplate.update("INSERT INTO ACCOUNTS (ACCOUNT_ID, DOCUMENT_NUMBER) VALUES (1, 77777777701)");
+        jdbcTemplate.update("INSERT INTO TRANSACTIONS (ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE) " +
+                "VALUES (1, 1, -50.00, -50.00, '2025-02-10 09:00:00')");
+        jdbcTemplate.update("INSERT INTO TRANSACTIONS (ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE) " +
+                "VALUES (1, 3, -30.00, -10.00, '2025-03-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO TRANSACTIONS (ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE) " +
+                "VALUES (1, 4, 40.00, 15.00, '2025-03-02 11:00:00')");
+        jdbcTemplate.update("INSERT INTO ACCOUNTS (ACCOUNT_ID, DOCUMENT_NUMBER) VALUES (2, 77777777702)");
+
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        assertThat(jdbcTemplate.queryForList("SELECT VERSION FROM flyway_schema_history ORDER BY INSTALLED_RANK", String.class))
+                .startsWith("1", "2");
+        assertThat(jdbcTemplate.queryForObject("SELECT BALANCE FROM TRANSACTIONS PARTITION (p202502) WHERE OPERATIONTYPE_ID = 1",
+                BigDecimal.class)).isEqualByComparingTo("-50.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS " +
+                "WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'TRANSACTIONS'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TRANSACTIONS WHERE IS_OPEN = 1", Integer.class)).isEqualTo(3);
+        AccountBalance balance = new AccountBalancePersistenceAdapter(jdbcTemplate).retrieve(1L).orElseThrow();
+        assertThat(balance.openDebitTotal()).isEqualByComparingTo("60.00");
+        assertThat(balance.availableCredit()).isEqualByComparingTo("15.00");
+        assertThat(balance.lastEventDate()).isEqualTo(LocalDateTime.of(2025, 3, 2, 11, 0));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ACCOUNT_BALANCES WHERE ACCOUNT_ID = 2", Integer.class)).isZero();
+    }
+}
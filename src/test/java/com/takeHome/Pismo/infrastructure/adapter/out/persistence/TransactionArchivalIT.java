@@ -0,0 +1,121 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+public class TransactionArchivalIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionArchiver transactionArchiver;
+
+    private TransactionPersistenceAdapter transactionPersistenceAdapter;
+
+    private long accountId;
+
+    @BeforeEach
+    void setup(){
+        transactionArchiver = new TransactionArchiver(jdbcTemplate, transactionManager, Clock.systemDefaultZone(), Duration.ofDays(90), 1,
+                new SimpleMeterRegistry());
+        transactionPersistenceAdapter = new TransactionPersistenceAdapter(jdbcTemplate, new JdbcTransactionPersistenceMapper());
+        accountId = new AccountPersistenceAdapter(jdbcTemplate).save(Account.builder().documentNumber(55555555555L).build()).accountId();
+    }
+
+    @Test
+    void givenOldSettledOldOpenAndRecentSettledRows_whenArchived_thenOnlyTheOldSettledRowMoves(){
+        long oldSettled = save(LocalDateTime.of(2024, 3, 1, 10, 0), true);
+        long oldOpen = save(LocalDateTime.of(2024, 4, 1, 10, 0), false);
+        long recentSettled = save(LocalDateTime.now().minusDays(1), true);
+
+        transactionArchiver.archiveSettledTransactions();
+
+        assertThat(idsIn("TRANSACTIONS_ARCHIVE")).contains(oldSettled).doesNotContain(oldOpen, recentSettled);
+        assertThat(idsIn("TRANSACTIONS")).contains(oldOpen, recentSettled).doesNotContain(oldSettled);
+    }
+
+    @Test
+    void givenArchivedRows_whenHistoryReachesPastTheHorizon_thenBothTablesAreReadInOrder(){
+        long oldSettled = save(LocalDateTime.of(2024, 3, 1, 10, 0), true);
+        long oldOpen = save(LocalDateTime.of(2024, 4, 1, 10, 0), false);
+        long recentSettled = save(LocalDateTime.now().minusDays(1), true);
+        transactionArchiver.archiveSettledTransactions();
+
+        List<Long> pagedIds = new ArrayList<>();
+        List<Transaction> page = transactionPersistenceAdapter.fetchTransactions(GetTransactionHistoryQuery.builder()
+                .accountId(accountId).limit(2).build(), 2);
+        page.forEach(transaction -> pagedIds.add(transaction.transactionId()));
+        transactionPersistenceAdapter.fetchTransactions(GetTransactionHistoryQuery.builder()
+                        .accountId(accountId).after(TransactionCursor.after(page.getLast())).limit(2).build(), 2)
+                .forEach(transaction -> pagedIds.add(transaction.transactionId()));
+        List<Long> streamedIds = new ArrayList<>();
+        transactionPersistenceAdapter.streamTransactions(ExportTransactionsQuery.builder().accountId(accountId).build(),
+                transaction -> streamedIds.add(transaction.transactionId()));
+        List<Transaction> recentOnly = transactionPersistenceAdapter.fetchTransactions(GetTransactionHistoryQuery.builder()
+                .accountId(accountId).from(LocalDateTime.now().minusDays(2)).build(), 10);
+
+        assertThat(pagedIds).containsExactly(oldSettled, oldOpen, recentSettled);
+        assertThat(streamedIds).containsExactly(oldSettled, oldOpen, recentSettled);
+        assertThat(recentOnly).extracting(Transaction::transactionId).containsExactly(recentSettled);
+    }
+
+    @Test
+    void givenRowsArchivedUnderShorterMinimumAge_whenMinimumAgeIsRaised_thenHistoryStillReadsThem(){
+        long archivedSettled = save(LocalDateTime.now().minusDays(100), true);
+        transactionArchiver.archiveSettledTransactions();
+        TransactionArchiver raisedArchiver = new TransactionArchiver(jdbcTemplate, transactionManager, Clock.systemDefaultZone(),
+                Duration.ofDays(365), 1, new SimpleMeterRegistry());
+        raisedArchiver.archiveSettledTransactions();
+
+        List<Transaction> history = transactionPersistenceAdapter.fetchTransactions(GetTransactionHistoryQuery.builder()
+                .accountId(accountId).from(LocalDateTime.now().minusDays(200)).build(), 10);
+
+        assertThat(idsIn("TRANSACTIONS_ARCHIVE")).contains(archivedSettled);
+        assertThat(history).extracting(Transaction::transactionId).containsExactly(archivedSettled);
+    }
+
+    private long save(LocalDateTime eventDate, boolean settled){
+        BalanceBearingTransaction saved = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.TEN)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(eventDate).build()));
+        if (settled) {
+            transactionPersistenceAdapter.updateTransaction(ExecutableTransaction.from(saved.transaction(), BigDecimal.ZERO));
+        }
+        return saved.transaction().transactionId();
+    }
+
+    private List<Long> idsIn(String table){
+        return jdbcTemplate.queryForList("SELECT TRANSACTION_ID FROM " + table + " WHERE ACCOUNT_ID = ?", Long.class, accountId);
+    }
+}
@@ -0,0 +1,97 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_ARCHIVE_BATCH_SIZE_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionArchiverTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-11-15T10:00:00Z"), ZoneOffset.UTC);
+    private static final Timestamp CUTOFF = Timestamp.valueOf(LocalDateTime.of(2026, 8, 17, 10, 0));
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void givenMoreSettledRowsThanBatchSize_whenArchived_thenRowsAreMovedBatchByBatch() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TransactionArchiver archiver = new TransactionArchiver(jdbcTemplate, transactionManager, CLOCK, Duration.ofDays(90), 2, meterRegistry);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenAnswer(invocation ->
+                switch (invocation.<Long>getArgument(2).intValue()) {
+                    case 0 -> List.of(3L, 7L);
+                    case 7 -> List.of(9L);
+                    default -> List.of();
+                });
+
+        // When
+        long archived = archiver.archiveSettledTransactions();
+
+        // Then
+        assertThat(archived).isEqualTo(3);
+        verify(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(0L), eq(CUTOFF), eq(2));
+        verify(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(7L), eq(CUTOFF), eq(2));
+        verify(jdbcTemplate).update("INSERT INTO TRANSACTIONS_ARCHIVE (TRANSACTION_ID, ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE) " +
+                "SELECT TRANSACTION_ID, ACCOUNT_ID, OPERATIONTYPE_ID, AMOUNT, BALANCE, EVENT_DATE FROM TRANSACTIONS " +
+                "WHERE TRANSACTION_ID IN (?,?) AND EVENT_DATE < ?", 3L, 7L, CUTOFF);
+        verify(jdbcTemplate).update("DELETE FROM TRANSACTIONS WHERE TRANSACTION_ID IN (?,?) AND EVENT_DATE < ?", 3L, 7L, CUTOFF);
+        verify(jdbcTemplate).update("DELETE FROM TRANSACTIONS WHERE TRANSACTION_ID IN (?) AND EVENT_DATE < ?", 9L, CUTOFF);
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.get("pismo.archive.rows").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("pismo.archive.batch").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("pismo.archive.last.run.rows").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void givenNothingSettled_whenArchived_thenNothingIsMoved() {
+        // Given
+        TransactionArchiver archiver = new TransactionArchiver(jdbcTemplate, transactionManager, CLOCK, Duration.ofDays(90), 500,
+                new SimpleMeterRegistry());
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of());
+
+        // When
+        long archived = archiver.archiveSettledTransactions();
+
+        // Then
+        assertThat(archived).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void givenNonPositiveBatchSize_whenArchiverCreated_thenIllegalArgumentExceptionIsThrown() {
+        // Given
+        // When
+        // Then
+        assertThatThrownBy(() -> new TransactionArchiver(jdbcTemplate, transactionManager, CLOCK, Duration.ofDays(90), 0,
+                new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_ARCHIVE_BATCH_SIZE_MSG.formatted(0));
+    }
+}
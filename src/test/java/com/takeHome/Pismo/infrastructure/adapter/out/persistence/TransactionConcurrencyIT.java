@@ -0,0 +1,161 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.model.ConcurrencyMode;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.usecase.BalanceDischargeUseCase;
+import com.takeHome.Pismo.core.usecase.TransactionManagementUseCase;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TransactionConcurrencyIT {
+
+    private static final int PURCHASES = 200;
+    private static final int PAYMENTS = 120;
+    private static final int THREADS = 16;
+    private static final BigDecimal PURCHASE_AMOUNT = BigDecimal.TEN;
+    private static final BigDecimal PAYMENT_AMOUNT = BigDecimal.valueOf(15);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionManagementPort transactionManagementPort;
+
+    private TransactionTemplate transactionTemplate;
+
+    private long accountId;
+
+    @BeforeEach
+    void setup() {
+        TransactionPersistenceAdapter transactionPersistenceAdapter =
+                new TransactionPersistenceAdapter(jdbcTemplate, new JdbcTransactionPersistenceMapper());
+        transactionManagementPort = new TransactionManagementUseCase(transactionPersistenceAdapter,
+                new AccountBalancePersistenceAdapter(jdbcTemplate), new BalanceDischargeUseCase(), ConcurrencyMode.ACCOUNT_ROW_LOCK);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Account account = new AccountPersistenceAdapter(jdbcTemplate)
+                .save(Account.builder().documentNumber(System.nanoTime()).build());
+        accountId = account.accountId();
+
+        for (int i = 0; i < PURCHASES; i++) {
+            post(new CreateTransactionCommand(accountId, CASH_PURCHASE, PURCHASE_AMOUNT));
+        }
+    }
+
+    @Test
+    void givenManyConcurrentPaymentsForOneAccount_whenDischarged_thenNoDischargeIsLost() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> payments = new ArrayList<>();
+        for (int i = 0; i < PAYMENTS; i++) {
+            payments.add(() -> {
+                start.await();
+                post(new CreateTransactionCommand(accountId, PAYMENT, PAYMENT_AMOUNT));
+                return null;
+            });
+        }
+
+        // When
+        List<Future<Void>> futures = new ArrayList<>();
+        payments.forEach(payment -> futures.add(executor.submit(payment)));
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // Then
+        BigDecimal totalAmount = jdbcTemplate.queryForObject(
+                "SELECT SUM(AMOUNT) FROM TRANSACTIONS WHERE ACCOUNT_ID = ?", BigDecimal.class, accountId);
+        BigDecimal totalBalance = jdbcTemplate.queryForObject(
+                "SELECT SUM(BALANCE) FROM TRANSACTIONS WHERE ACCOUNT_ID = ?", BigDecimal.class, accountId);
+        BigDecimal openDebits = jdbcTemplate.queryForObject(
+                "SELECT SUM(BALANCE) FROM TRANSACTIONS WHERE ACCOUNT_ID = ? AND OPERATIONTYPE_ID != 4", BigDecimal.class, accountId);
+        Integer overpaidDebits = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM TRANSACTIONS WHERE ACCOUNT_ID = ? AND OPERATIONTYPE_ID != 4 AND BALANCE > 0", Integer.class, accountId);
+
+        BigDecimal expectedOpenDebits = PURCHASE_AMOUNT.multiply(BigDecimal.valueOf(PURCHASES))
+                .subtract(PAYMENT_AMOUNT.multiply(BigDecimal.valueOf(PAYMENTS)))
+                .negate();
+
+        assertThat(totalBalance).isEqualByComparingTo(totalAmount);
+        assertThat(openDebits).isEqualByComparingTo(expectedOpenDebits);
+        assertThat(overpaidDebits).isZero();
+    }
+
+    @Test
+    void givenConcurrentPaymentsAndPurchasesForOneAccount_whenNetted_thenDebitsAndCreditsAreNeverBothOpen() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> operations = new ArrayList<>();
+        for (int i = 0; i < PURCHASES; i++) {
+            CreateTransactionCommand command = i % 2 == 0
+                    ? new CreateTransactionCommand(accountId, PAYMENT, PAYMENT_AMOUNT)
+                    : new CreateTransactionCommand(accountId, CASH_PURCHASE, PURCHASE_AMOUNT);
+            operations.add(() -> {
+                start.await();
+                post(command);
+                return null;
+            });
+        }
+
+        // When
+        List<Future<Void>> futures = new ArrayList<>();
+        operations.forEach(operation -> futures.add(executor.submit(operation)));
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // Then
+        BigDecimal totalAmount = jdbcTemplate.queryForObject(
+                "SELECT SUM(AMOUNT) FROM TRANSACTIONS WHERE ACCOUNT_ID = ?", BigDecimal.class, accountId);
+        BigDecimal totalBalance = jdbcTemplate.queryForObject(
+                "SELECT SUM(BALANCE) FROM TRANSACTIONS WHERE ACCOUNT_ID = ?", BigDecimal.class, accountId);
+        Integer openDebits = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM TRANSACTIONS WHERE ACCOUNT_ID = ? AND OPERATIONTYPE_ID != 4 AND BALANCE < 0", Integer.class, accountId);
+        Integer openCredits = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM TRANSACTIONS WHERE ACCOUNT_ID = ? AND OPERATIONTYPE_ID = 4 AND BALANCE > 0", Integer.class, accountId);
+
+        assertThat(totalBalance).isEqualByComparingTo(totalAmount);
+        assertThat(openDebits == 0 || openCredits == 0).isTrue();
+    }
+
+    private void post(CreateTransactionCommand command) {
+        transactionTemplate.executeWithoutResult(status ->
+                transactionManagementPort.saveTransactionAndDischargeDebitBalances(command));
+    }
+}
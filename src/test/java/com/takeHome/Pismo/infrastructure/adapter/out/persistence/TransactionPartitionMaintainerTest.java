@@ -0,0 +1,134 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_PARTITION_MONTHS_AHEAD_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-11-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenPartitionsUpToCurrentMonth_whenUpcomingPartitionsCreated_thenMissingMonthsAreSplitOffCatchAll() {
+        // Given
+        TransactionPartitionMaintainer maintainer = new TransactionPartitionMaintainer(jdbcTemplate, CLOCK, 2, new SimpleMeterRegistry());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("phistory", "p202610", "p202611", "pmax"));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of());
+
+        // When
+        int added = maintainer.createUpcomingPartitions();
+
+        // Then
+        assertThat(added).isEqualTo(2);
+        verify(jdbcTemplate).execute("ALTER TABLE TRANSACTIONS REORGANIZE PARTITION pmax INTO (" +
+                "PARTITION p202612 VALUES LESS THAN (UNIX_TIMESTAMP('2027-01-01 00:00:00')), " +
+                "PARTITION p202701 VALUES LESS THAN (UNIX_TIMESTAMP('2027-02-01 00:00:00')), " +
+                "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    void givenRowsInCatchAllPartition_whenUpcomingPartitionsCreated_thenSplitIsSkippedAndCounted() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TransactionPartitionMaintainer maintainer = new TransactionPartitionMaintainer(jdbcTemplate, CLOCK, 2, meterRegistry);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("p202610", "p202611", "pmax"));
+        when(jdbcTemplate.queryForList("SELECT 1 FROM TRANSACTIONS PARTITION (pmax) LIMIT 1", Integer.class)).thenReturn(List.of(1));
+
+        // When
+        int added = maintainer.createUpcomingPartitions();
+
+        // Then
+        assertThat(added).isZero();
+        assertThat(meterRegistry.counter("pismo.partitions.split.skipped").count()).isEqualTo(1.0);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void givenAnotherNodeSplitFirst_whenUpcomingPartitionsCreated_thenTheFailedSplitCountsAsDone() {
+        // Given
+        TransactionPartitionMaintainer maintainer = new TransactionPartitionMaintainer(jdbcTemplate, CLOCK, 2, new SimpleMeterRegistry());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("p202610", "p202611", "pmax"), List.of("p202610", "p202611", "p202612", "p202701", "pmax"));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("Duplicate partition name p202612")).when(jdbcTemplate).execute(anyString());
+
+        // When
+        int added = maintainer.createUpcomingPartitions();
+
+        // Then
+        assertThat(added).isZero();
+    }
+
+    @Test
+    void givenSplitFailingWithoutAnotherNode_whenUpcomingPartitionsCreated_thenTheFailureIsRethrown() {
+        // Given
+        TransactionPartitionMaintainer maintainer = new TransactionPartitionMaintainer(jdbcTemplate, CLOCK, 2, new SimpleMeterRegistry());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("p202610", "p202611", "pmax"));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class))).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("Lock wait timeout")).when(jdbcTemplate).execute(anyString());
+
+        // When
+        // Then
+        assertThatThrownBy(maintainer::createUpcomingPartitions).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void givenPartitionsAlreadyAhead_whenUpcomingPartitionsCreated_thenNothingIsAltered() {
+        // Given
+        TransactionPartitionMaintainer maintainer = new TransactionPartitionMaintainer(jdbcTemplate, CLOCK, 1, new SimpleMeterRegistry());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("p202611", "p202612", "p202701", "pmax"));
+
+        // When
+        int added = maintainer.createUpcomingPartitions();
+
+        // Then
+        assertThat(added).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void givenUnpartitionedTable_whenPartitionsEnsured_thenNothingIsAltered() {
+        // Given
+        TransactionPartitionMaintainer maintainer = new TransactionPartitionMaintainer(jdbcTemplate, CLOCK, 3, new SimpleMeterRegistry());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+        // When
+        int added = maintainer.ensurePartitionsThrough(YearMonth.of(2027, 3));
+
+        // Then
+        assertThat(added).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void givenNegativeMonthsAhead_whenConstructed_thenExceptionIsThrown() {
+
+        assertThatThrownBy(() -> new TransactionPartitionMaintainer(jdbcTemplate, CLOCK, -1, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_PARTITION_MONTHS_AHEAD_MSG.formatted(-1));
+    }
+}
@@ -0,0 +1,147 @@
+package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
+
+import com.takeHome.Pismo.core.domain.model.Account;
+import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
+import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Partition DDL commits implicitly, so these tests run outside the usual rolled-back test transaction. Dates are written
+// as literals so they are read in the session time zone the partition bounds were computed in.
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TransactionPartitioningIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionPersistenceAdapter transactionPersistenceAdapter;
+
+    private TransactionPartitionMaintainer transactionPartitionMaintainer;
+
+    @BeforeEach
+    void setup(){
+        transactionPersistenceAdapter = new TransactionPersistenceAdapter(jdbcTemplate, new JdbcTransactionPersistenceMapper());
+        transactionPartitionMaintainer = new TransactionPartitionMaintainer(jdbcTemplate, Clock.systemDefaultZone(), 0, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenDateBoundedRead_whenExplained_thenOnlyMonthsInRangeAreScanned(){
+        List<String> partitions = jdbcTemplate.queryForList("EXPLAIN SELECT TRANSACTION_ID FROM TRANSACTIONS WHERE ACCOUNT_ID = ? " +
+                        "AND EVENT_DATE >= '2025-03-10 00:00:00' AND EVENT_DATE < '2025-05-01 00:00:00' ORDER BY EVENT_DATE, TRANSACTION_ID", 1L)
+                .stream().map(row -> (String) row.get("partitions")).toList();
+
+        assertThat(partitions).containsExactly("p202503,p202504");
+    }
+
+    @Test
+    void givenOpenDebitRead_whenExplained_thenOpenRowIndexIsUsed(){
+        List<String> keys = jdbcTemplate.queryForList("EXPLAIN SELECT TRANSACTION_ID FROM TRANSACTIONS WHERE ACCOUNT_ID = ? " +
+                        "AND IS_OPEN = 1 AND OPERATIONTYPE_ID != 4 ORDER BY EVENT_DATE, TRANSACTION_ID", 1L)
+                .stream().map(row -> (String) row.get("possible_keys")).toList();
+
+        assertThat(keys).singleElement().asString().contains("idx_transactions_account_open_event_date");
+    }
+
+    @Test
+    void givenBalanceUpdateByIdAndEventDate_whenExplained_thenSinglePartitionIsTouched(){
+        List<String> partitions = jdbcTemplate.queryForList("EXPLAIN UPDATE TRANSACTIONS SET BALANCE = 0 WHERE TRANSACTION_ID = ? " +
+                        "AND EVENT_DATE = '2026-02-14 12:00:00'", 1L)
+                .stream().map(row -> (String) row.get("partitions")).toList();
+
+        assertThat(partitions).containsExactly("p202602");
+    }
+
+    @Test
+    void givenMonthsBeyondLastPartition_whenEnsured_thenTheyAreCreatedOnceAndReceiveTheirRows(){
+        YearMonth target = YearMonth.of(2027, 3);
+
+        int added = transactionPartitionMaintainer.ensurePartitionsThrough(target);
+        int addedAgain = transactionPartitionMaintainer.ensurePartitionsThrough(target);
+
+        assertThat(added).isEqualTo(3);
+        assertThat(addedAgain).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() " +
+                "AND TABLE_NAME = 'TRANSACTIONS' ORDER BY PARTITION_ORDINAL_POSITION DESC LIMIT 4", String.class))
+                .containsExactly("pmax", "p202703", "p202702", "p202701");
+
+        Account account = new AccountPersistenceAdapter(jdbcTemplate).save(Account.builder().documentNumber(44444444444L).build());
+        BalanceBearingTransaction saved = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(account.accountId())
+                .amount(BigDecimal.TEN)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(LocalDateTime.of(2027, 2, 3, 4, 5, 6, 789_123_456)).build()));
+        transactionPersistenceAdapter.updateTransaction(ExecutableTransaction.from(saved.transaction(), BigDecimal.ZERO));
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TRANSACTIONS PARTITION (p202702) WHERE TRANSACTION_ID = ? AND BALANCE = 0",
+                Integer.class, saved.transaction().transactionId());
+        assertThat(rows).isEqualTo(1);
+    }
+
+    @Test
+    void givenTwoNodesSplittingAtOnce_whenEnsured_thenBothSucceedAndEachMonthIsCreatedOnce() throws Exception {
+        YearMonth target = YearMonth.of(2029, 6);
+        TransactionPartitionMaintainer otherNode = new TransactionPartitionMaintainer(jdbcTemplate, Clock.systemDefaultZone(), 0,
+                new SimpleMeterRegistry());
+        List<Callable<Integer>> runs = List.of(() -> transactionPartitionMaintainer.ensurePartitionsThrough(target),
+                () -> otherNode.ensurePartitionsThrough(target));
+
+        ExecutorService executor = Executors.newFixedThreadPool(runs.size());
+        try {
+            for (Future<Integer> run : executor.invokeAll(runs)) {
+                run.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() " +
+                "AND TABLE_NAME = 'TRANSACTIONS'", String.class)).contains("p202906").doesNotHaveDuplicates();
+    }
+
+    @Test
+    void givenRowsInCatchAllPartition_whenEnsured_thenItIsNotReorganized(){
+        Account account = new AccountPersistenceAdapter(jdbcTemplate).save(Account.builder().documentNumber(55555555555L).build());
+        BalanceBearingTransaction stray = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(account.accountId())
+                .amount(BigDecimal.TEN)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(LocalDateTime.of(2099, 1, 1, 0, 0)).build()));
+        List<String> before = jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'TRANSACTIONS' ORDER BY PARTITION_ORDINAL_POSITION", String.class);
+
+        try {
+            int added = transactionPartitionMaintainer.ensurePartitionsThrough(YearMonth.of(2028, 6));
+
+            assertThat(added).isZero();
+            assertThat(jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'TRANSACTIONS' ORDER BY PARTITION_ORDINAL_POSITION", String.class))
+                    .isEqualTo(before);
+        } finally {
+            jdbcTemplate.update("DELETE FROM TRANSACTIONS WHERE TRANSACTION_ID = ?", stray.transaction().transactionId());
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
 
 import com.takeHome.Pismo.core.Constants;
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.input.ExportTransactionsQuery;
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
 import com.takeHome.Pismo.core.domain.model.Account;
 import com.takeHome.Pismo.core.domain.model.BalanceBearingTransaction;
+import com.takeHome.Pismo.core.domain.model.ConcurrencyMode;
 import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
 import com.takeHome.Pismo.core.domain.model.OperationType;
 import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.domain.model.TransactionCursor;
 import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import com.takeHome.Pismo.core.usecase.BalanceDischargeUseCase;
+import com.takeHome.Pismo.core.usecase.TransactionManagementUseCase;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.entity.TransactionEntity;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.JdbcTransactionPersistenceMapper;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
@@ -19,12 +27,12 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.takeHome.Pismo.core.domain.model.OperationType.CASH_PURCHASE;
@@ -36,9 +44,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @JdbcTest
 @Import(TestcontainersConfiguration.class)
-@TestPropertySource(properties = {
-        "spring.sql.init.mode=always"
-})
 public class TransactionPersistenceAdapterIT {
 
     @Autowired
@@ -239,6 +244,264 @@ public class TransactionPersistenceAdapterIT {
         assertThat(debitTransactions).isEmpty();
     }
 
+    @Test
+    void givenSettledAndOpenDebitsPresentInDb_whenFetchDebitTransactions_thenReturnOnlyOpenDebitsInEventOrder(){
+        Account savedAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build());
+
+        long accountId = savedAccount.accountId();
+        BigDecimal amount = BigDecimal.valueOf(100).setScale(2, RoundingMode.HALF_UP);
+        LocalDateTime now = LocalDateTime.now();
+
+        Transaction settledPurchase = Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(now.minusDays(2)).build();
+
+        Transaction laterPurchase = Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(INSTALLMENT_PURCHASE.getId())
+                .eventDate(now).build();
+
+        Transaction earlierWithdrawal = Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(WITHDRAWAL.getId())
+                .eventDate(now.minusDays(1)).build();
+
+        BalanceBearingTransaction savedSettledPurchase = transactionPersistenceAdapter.save(ExecutableTransaction.from(settledPurchase));
+        BalanceBearingTransaction savedLaterPurchase = transactionPersistenceAdapter.save(ExecutableTransaction.from(laterPurchase));
+        BalanceBearingTransaction savedEarlierWithdrawal = transactionPersistenceAdapter.save(ExecutableTransaction.from(earlierWithdrawal));
+
+        transactionPersistenceAdapter.updateTransaction(ExecutableTransaction.from(savedSettledPurchase.transaction(), BigDecimal.ZERO));
+
+        List<BalanceBearingTransaction> debitTransactions = transactionPersistenceAdapter.fetchDebitTransactions(accountId);
+
+        assertThat(debitTransactions).hasSize(2);
+        assertThat(debitTransactions.getFirst().transaction().transactionId()).isEqualTo(savedEarlierWithdrawal.transaction().transactionId());
+        assertThat(debitTransactions.get(1).transaction().transactionId()).isEqualTo(savedLaterPurchase.transaction().transactionId());
+        assertThat(debitTransactions).allSatisfy(debit -> assertThat(debit.isSettled()).isFalse());
+    }
+
+    @Test
+    void givenOpenDebitsSharingAnEventDate_whenFetchedInKeysetPages_thenEveryDebitIsReturnedOnceInOrder(){
+        Account savedAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build());
+
+        long accountId = savedAccount.accountId();
+        LocalDateTime sharedEventDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                    .accountId(accountId)
+                    .amount(BigDecimal.TEN)
+                    .operationTypeId(CASH_PURCHASE.getId())
+                    .eventDate(i < 3 ? sharedEventDate : sharedEventDate.plusDays(i)).build())).transaction().transactionId());
+        }
+
+        List<Long> pagedIds = new ArrayList<>();
+        TransactionCursor after = null;
+        List<BalanceBearingTransaction> page;
+        do {
+            page = transactionPersistenceAdapter.fetchDebitTransactions(accountId, after, 2);
+            page.forEach(debit -> pagedIds.add(debit.transaction().transactionId()));
+            if (!page.isEmpty()) {
+                after = TransactionCursor.after(page.getLast().transaction());
+            }
+        } while (page.size() == 2);
+
+        assertThat(pagedIds).containsExactlyElementsOf(savedIds);
+    }
+
+    @Test
+    void givenFilteredHistory_whenFetchedInKeysetPages_thenOnlyMatchingTransactionsAreReturnedOnceInOrder(){
+        Account savedAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build());
+        Account otherAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678901L).build());
+
+        long accountId = savedAccount.accountId();
+        LocalDateTime sharedEventDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            OperationType operationType = i % 3 == 2 ? PAYMENT : CASH_PURCHASE;
+            Long transactionId = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                    .accountId(accountId)
+                    .amount(BigDecimal.TEN)
+                    .operationTypeId(operationType.getId())
+                    .eventDate(i < 4 ? sharedEventDate : sharedEventDate.plusMonths(i)).build())).transaction().transactionId();
+            if (operationType == CASH_PURCHASE && i < 5) {
+                expectedIds.add(transactionId);
+            }
+        }
+        transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(otherAccount.accountId())
+                .amount(BigDecimal.TEN)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(sharedEventDate).build()));
+
+        List<Long> pagedIds = new ArrayList<>();
+        TransactionCursor after = null;
+        List<Transaction> page;
+        do {
+            GetTransactionHistoryQuery query = GetTransactionHistoryQuery.builder()
+                    .accountId(accountId)
+                    .operationType(CASH_PURCHASE)
+                    .from(sharedEventDate)
+                    .to(sharedEventDate.plusMonths(5))
+                    .after(after)
+                    .limit(2)
+                    .build();
+            page = transactionPersistenceAdapter.fetchTransactions(query, 2);
+            page.forEach(transaction -> pagedIds.add(transaction.transactionId()));
+            if (!page.isEmpty()) {
+                after = TransactionCursor.after(page.getLast());
+            }
+        } while (page.size() == 2);
+
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void givenTransactionsInAndOutOfRange_whenStreamed_thenOnlyRangeIsHandedOverInOrder(){
+        Account savedAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build());
+
+        long accountId = savedAccount.accountId();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long transactionId = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                    .accountId(accountId)
+                    .amount(BigDecimal.TEN)
+                    .operationTypeId(i % 2 == 0 ? CASH_PURCHASE.getId() : PAYMENT.getId())
+                    .eventDate(start.plusMonths(4 - i)).build())).transaction().transactionId();
+            if (i > 0) {
+                expectedIds.addFirst(transactionId);
+            }
+        }
+
+        List<Long> streamedIds = new ArrayList<>();
+        transactionPersistenceAdapter.streamTransactions(ExportTransactionsQuery.builder()
+                        .accountId(accountId)
+                        .to(start.plusMonths(4))
+                        .build(),
+                transaction -> streamedIds.add(transaction.transactionId()));
+
+        assertThat(streamedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void givenAppliedAndOpenPaymentsPresentInDb_whenFetchCreditTransactions_thenReturnOnlyOpenCreditsInEventOrder(){
+        Account savedAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build());
+
+        long accountId = savedAccount.accountId();
+        BigDecimal amount = BigDecimal.valueOf(100).setScale(2, RoundingMode.HALF_UP);
+        LocalDateTime now = LocalDateTime.now();
+
+        Transaction appliedPayment = Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(PAYMENT.getId())
+                .eventDate(now.minusDays(2)).build();
+
+        Transaction laterPayment = Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(PAYMENT.getId())
+                .eventDate(now).build();
+
+        Transaction earlierPayment = Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(PAYMENT.getId())
+                .eventDate(now.minusDays(1)).build();
+
+        Transaction purchase = Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(now.minusDays(3)).build();
+
+        BalanceBearingTransaction savedAppliedPayment = transactionPersistenceAdapter.save(ExecutableTransaction.from(appliedPayment));
+        BalanceBearingTransaction savedLaterPayment = transactionPersistenceAdapter.save(ExecutableTransaction.from(laterPayment));
+        BalanceBearingTransaction savedEarlierPayment = transactionPersistenceAdapter.save(ExecutableTransaction.from(earlierPayment));
+        transactionPersistenceAdapter.save(ExecutableTransaction.from(purchase));
+
+        transactionPersistenceAdapter.updateTransaction(ExecutableTransaction.from(savedAppliedPayment.transaction(), BigDecimal.ZERO));
+
+        List<BalanceBearingTransaction> creditTransactions = transactionPersistenceAdapter.fetchCreditTransactions(accountId);
+
+        assertThat(creditTransactions).hasSize(2);
+        assertThat(creditTransactions.getFirst().transaction().transactionId()).isEqualTo(savedEarlierPayment.transaction().transactionId());
+        assertThat(creditTransactions.get(1).transaction().transactionId()).isEqualTo(savedLaterPayment.transaction().transactionId());
+        assertThat(creditTransactions).allSatisfy(credit -> assertThat(credit.isPayment()).isTrue());
+    }
+
+    @Test
+    void givenTransactionsForSeveralAccounts_whenSaveAll_thenRowsAreInsertedWithGeneratedIdsInOrder(){
+        long firstAccountId = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build()).accountId();
+        long secondAccountId = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678901L).build()).accountId();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BalanceBearingTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 1_201; i++) {
+            transactions.add(ExecutableTransaction.from(Transaction.builder()
+                    .accountId(i % 2 == 0 ? firstAccountId : secondAccountId)
+                    .amount(BigDecimal.ONE)
+                    .operationTypeId(i % 3 == 0 ? PAYMENT.getId() : CASH_PURCHASE.getId())
+                    .eventDate(now).build()));
+        }
+
+        List<BalanceBearingTransaction> saved = transactionPersistenceAdapter.saveAll(transactions);
+
+        assertThat(saved).hasSize(transactions.size());
+        assertThat(saved).extracting(tx -> tx.transaction().transactionId()).doesNotContainNull().doesNotHaveDuplicates();
+        for (int i = 0; i < saved.size(); i++) {
+            assertThat(saved.get(i).transaction().accountId()).isEqualTo(transactions.get(i).transaction().accountId());
+            assertThat(saved.get(i).transaction().operationTypeId()).isEqualTo(transactions.get(i).transaction().operationTypeId());
+        }
+
+        TransactionEntity lastRow = jdbcTemplate.queryForObject("SELECT * FROM TRANSACTIONS WHERE TRANSACTION_ID = ?",
+                TRANSACTION_ROW_MAPPER, saved.getLast().transaction().transactionId());
+        assertThat(lastRow.accountId()).isEqualTo(firstAccountId);
+        assertThat(lastRow.operationTypeId()).isEqualTo(PAYMENT.getId());
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TRANSACTIONS WHERE ACCOUNT_ID IN (?, ?)",
+                Integer.class, firstAccountId, secondAccountId);
+        assertThat(rows).isEqualTo(transactions.size());
+    }
+
+    @Test
+    void givenAccountDoesNotExistInDB_whenSaveAll_thenThrowException(){
+        List<BalanceBearingTransaction> transactions = List.of(ExecutableTransaction.from(Transaction.builder()
+                .accountId(Long.MAX_VALUE)
+                .amount(BigDecimal.ONE)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(LocalDateTime.now()).build()));
+
+        assertThatThrownBy(() -> transactionPersistenceAdapter.saveAll(transactions))
+                .isInstanceOf(AccountDoesNotExistException.class);
+    }
+
+    @Test
+    void givenUnknownAccountInBulkLoad_whenSaveTransactions_thenItsLinesAreRejectedAndLeaveNoRows(){
+        long accountId = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build()).accountId();
+        long unknownAccountId = Long.MAX_VALUE;
+        TransactionManagementUseCase transactionManagementUseCase = new TransactionManagementUseCase(transactionPersistenceAdapter,
+                new AccountBalancePersistenceAdapter(jdbcTemplate), new BalanceDischargeUseCase(), ConcurrencyMode.NONE);
+
+        List<BulkTransactionResult> results = transactionManagementUseCase.saveTransactions(List.of(
+                new CreateTransactionCommand(accountId, CASH_PURCHASE, BigDecimal.TEN),
+                new CreateTransactionCommand(unknownAccountId, CASH_PURCHASE, BigDecimal.ONE),
+                new CreateTransactionCommand(unknownAccountId, PAYMENT, BigDecimal.ONE)));
+
+        assertThat(results).extracting(BulkTransactionResult::isAccepted).containsExactly(true, false, false);
+        Integer orphanRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TRANSACTIONS WHERE ACCOUNT_ID = ?",
+                Integer.class, unknownAccountId);
+        Integer acceptedRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TRANSACTIONS WHERE ACCOUNT_ID = ?",
+                Integer.class, accountId);
+        assertThat(orphanRows).isZero();
+        assertThat(acceptedRows).isEqualTo(1);
+    }
+
     @Test
     void givenForExistingTransaction_whenUpdateTransaction_thenUpdateExistingTransaction(){
         Account savedAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build());
@@ -271,6 +534,45 @@ public class TransactionPersistenceAdapterIT {
     }
 
 
+    @Test
+    void givenChangedAndUnchangedBalances_whenUpdateBalances_thenAllBalancesAreStoredInOneBatch(){
+        Account savedAccount = accountPersistenceAdapter.save(Account.builder().documentNumber(12345678900L).build());
+
+        long accountId = savedAccount.accountId();
+        BigDecimal amount = BigDecimal.valueOf(100).setScale(2, RoundingMode.HALF_UP);
+
+        BalanceBearingTransaction purchase = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(CASH_PURCHASE.getId())
+                .eventDate(LocalDateTime.now()).build()));
+
+        BalanceBearingTransaction withdrawal = transactionPersistenceAdapter.save(ExecutableTransaction.from(Transaction.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .operationTypeId(WITHDRAWAL.getId())
+                .eventDate(LocalDateTime.now()).build()));
+
+        BalanceBearingTransaction settledPurchase = ExecutableTransaction.from(purchase.transaction(), BigDecimal.ZERO);
+
+        transactionPersistenceAdapter.updateBalances(List.of(settledPurchase, withdrawal));
+
+        TransactionEntity storedPurchase = jdbcTemplate.queryForObject(
+                "SELECT * FROM TRANSACTIONS WHERE TRANSACTION_ID = ?",
+                TRANSACTION_ROW_MAPPER,
+                purchase.transaction().transactionId());
+        TransactionEntity storedWithdrawal = jdbcTemplate.queryForObject(
+                "SELECT * FROM TRANSACTIONS WHERE TRANSACTION_ID = ?",
+                TRANSACTION_ROW_MAPPER,
+                withdrawal.transaction().transactionId());
+
+        assertThat(storedPurchase).isNotNull();
+        assertThat(storedPurchase.balance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(storedWithdrawal).isNotNull();
+        assertThat(storedWithdrawal.balance()).isEqualByComparingTo(amount.negate());
+    }
+
+
     private static LocalDateTime convertToLocalDate(Timestamp eventDate) {
         if(eventDate != null){
             return eventDate.toLocalDateTime();
@@ -1,24 +1,42 @@
 package com.takeHome.Pismo.infrastructure.adapter.out.persistence;
 
+import com.takeHome.Pismo.core.contract.input.GetTransactionHistoryQuery;
 import com.takeHome.Pismo.core.domain.model.ExecutableTransaction;
 import com.takeHome.Pismo.core.domain.model.Transaction;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
 import com.takeHome.Pismo.core.exception.PersistenceException;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.entity.TransactionEntity;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.KeyHolder;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static com.takeHome.Pismo.core.Constants.ACCOUNT_NOT_EXISTS_EXCEPTION_MSG;
 import static com.takeHome.Pismo.core.Constants.KEY_GENERATION_ERROR_MSG;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,14 +58,14 @@ public class TransactionPersistenceAdapterTest {
     @Test
     void givenNullGeneratedKey_whenSave_thenPersistenceExceptionIsThrown() {
         // When
-        when(jdbcTemplate.update(any(), any(KeyHolder.class))).thenAnswer(invocation -> 1);
-
         Transaction tx = Transaction.builder()
                 .accountId(1L)
                 .operationTypeId(1)
                 .amount(BigDecimal.TEN)
                 .eventDate(LocalDateTime.now())
                 .build();
+        when(transactionPersistenceMapper.toEntity(any())).thenReturn(entityOf(tx));
+        when(jdbcTemplate.update(any(), any(KeyHolder.class))).thenAnswer(invocation -> 1);
 
 
         // When - Then
@@ -57,4 +75,75 @@ public class TransactionPersistenceAdapterTest {
 
         verify(jdbcTemplate).update(any(), any(KeyHolder.class));
     }
+
+    @Test
+    void givenUnknownAccount_whenSaveAll_thenNoTransactionRowIsInserted() {
+        // Given
+        Transaction tx = Transaction.builder()
+                .accountId(Long.MAX_VALUE)
+                .operationTypeId(1)
+                .amount(BigDecimal.TEN)
+                .eventDate(LocalDateTime.now())
+                .build();
+        when(transactionPersistenceMapper.toEntity(any())).thenReturn(entityOf(tx));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("fk", new SQLException("fk", "23000", 1452)));
+
+        // When - Then
+        assertThatThrownBy(() -> adapter.saveAll(List.of(ExecutableTransaction.from(tx))))
+                .isInstanceOf(AccountDoesNotExistException.class)
+                .hasMessage(ACCOUNT_NOT_EXISTS_EXCEPTION_MSG.formatted(Long.MAX_VALUE));
+
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+    }
+
+    @Test
+    void givenRangeStartingAtOrBeforeArchiveWatermark_whenFetchTransactions_thenArchiveIsMergedIn() {
+        // Given
+        LocalDateTime archivedThrough = LocalDateTime.of(2026, 3, 1, 12, 0);
+        when(jdbcTemplate.queryForObject("SELECT MAX(EVENT_DATE) FROM TRANSACTIONS_ARCHIVE", Timestamp.class))
+                .thenReturn(Timestamp.valueOf(archivedThrough));
+
+        // When
+        adapter.fetchTransactions(GetTransactionHistoryQuery.builder().accountId(1L).from(archivedThrough).build(), 10);
+
+        // Then
+        verify(jdbcTemplate).query(contains("UNION ALL"), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    void givenRangeStartingAfterArchiveWatermark_whenFetchTransactions_thenOnlyHotTableIsRead() {
+        // Given
+        LocalDateTime archivedThrough = LocalDateTime.of(2026, 3, 1, 12, 0);
+        when(jdbcTemplate.queryForObject("SELECT MAX(EVENT_DATE) FROM TRANSACTIONS_ARCHIVE", Timestamp.class))
+                .thenReturn(Timestamp.valueOf(archivedThrough));
+
+        // When
+        adapter.fetchTransactions(GetTransactionHistoryQuery.builder().accountId(1L).from(archivedThrough.plusSeconds(1)).build(), 10);
+
+        // Then
+        verify(jdbcTemplate).query(not(contains("UNION ALL")), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    void givenEmptyArchive_whenFetchTransactionsWithoutLowerBound_thenOnlyHotTableIsRead() {
+        // When
+        adapter.fetchTransactions(GetTransactionHistoryQuery.builder().accountId(1L).build(), 10);
+
+        // Then
+        verify(jdbcTemplate).query(not(contains("UNION ALL")), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    void givenNoChangedBalances_whenUpdateBalances_thenNoStatementIsExecuted() {
+        // When
+        adapter.updateBalances(List.of());
+
+        // Then
+        verifyNoInteractions(jdbcTemplate, transactionPersistenceMapper);
+    }
+
+    private static TransactionEntity entityOf(Transaction tx) {
+        return new TransactionEntity(null, tx.accountId(), tx.operationTypeId(), tx.amount(), tx.amount().negate(), tx.eventDate());
+    }
 }
@@ -0,0 +1,146 @@
+package com.takeHome.Pismo.infrastructure.concurrency;
+
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.takeHome.Pismo.core.Constants.INVALID_LANE_COUNT_MSG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountLaneExecutorTest {
+
+    private static final int LANES = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AccountLaneExecutor accountLaneExecutor;
+
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountLaneExecutor = new AccountLaneExecutor(LANES, meterRegistry);
+        callers = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        accountLaneExecutor.close();
+    }
+
+    @Test
+    void givenConcurrentCallsForOneAccount_whenExecuted_thenTheyNeverOverlap() throws Exception {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            results.add(callers.submit(() -> accountLaneExecutor.execute(7L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                return running.decrementAndGet();
+            })));
+        }
+        for (Future<Integer> result : results) {
+            result.get(1, TimeUnit.MINUTES);
+        }
+
+        // Then
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void givenAccountsOnDifferentLanes_whenExecuted_thenTheyRunInParallel() throws Exception {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        assertThat(accountLaneExecutor.laneOf(1L)).isNotEqualTo(accountLaneExecutor.laneOf(2L));
+
+        // When
+        Future<Boolean> first = callers.submit(() -> accountLaneExecutor.execute(1L, () -> awaitBoth(bothStarted)));
+        Future<Boolean> second = callers.submit(() -> accountLaneExecutor.execute(2L, () -> awaitBoth(bothStarted)));
+
+        // Then
+        assertThat(first.get(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(second.get(1, TimeUnit.MINUTES)).isTrue();
+    }
+
+    @Test
+    void givenWorkThrowingDomainException_whenExecuted_thenSameExceptionReachesCaller() {
+        AccountDoesNotExistException failure = new AccountDoesNotExistException("missing");
+
+        assertThatThrownBy(() -> accountLaneExecutor.execute(3L, () -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    @Test
+    void givenBlockedLane_whenMoreWorkArrives_thenQueueDepthAndWaitAreRecorded() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        int lane = accountLaneExecutor.laneOf(5L);
+        Future<Object> blocker = callers.submit(() -> accountLaneExecutor.execute(5L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        }));
+        started.await(1, TimeUnit.MINUTES);
+
+        // When
+        Future<Integer> queued = callers.submit(() -> accountLaneExecutor.execute(5L + LANES, () -> 1));
+        while (accountLaneExecutor.queueDepth(lane) == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Then
+        assertThat(meterRegistry.get("pismo.account.lane.queue.depth").tag("lane", String.valueOf(lane)).gauge().value())
+                .isEqualTo(1.0);
+        release.countDown();
+        blocker.get(1, TimeUnit.MINUTES);
+        assertThat(queued.get(1, TimeUnit.MINUTES)).isEqualTo(1);
+        assertThat(accountLaneExecutor.queueDepth(lane)).isZero();
+        assertThat(meterRegistry.get("pismo.account.lane.wait").tag("lane", String.valueOf(lane)).timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void givenNonPositiveLaneCount_whenCreated_thenIllegalArgumentExceptionThrown() {
+        assertThatThrownBy(() -> new AccountLaneExecutor(0, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_LANE_COUNT_MSG.formatted(0));
+    }
+
+    private static boolean awaitBoth(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            return bothStarted.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.takeHome.Pismo.infrastructure.concurrency;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLaneTransactionManagementPortTest {
+
+    private static final long ACCOUNT_ID = 1L;
+
+    @Mock
+    private TransactionManagementPort delegate;
+
+    private AccountLaneExecutor accountLaneExecutor;
+
+    private AccountLaneTransactionManagementPort lanePort;
+
+    @BeforeEach
+    void setup() {
+        accountLaneExecutor = new AccountLaneExecutor(2, new SimpleMeterRegistry());
+        lanePort = new AccountLaneTransactionManagementPort(delegate, accountLaneExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountLaneExecutor.close();
+    }
+
+    @Test
+    void givenSinglePost_whenSaved_thenDelegateRunsOnTheAccountLane() {
+        // Given
+        CreateTransactionCommand command = new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, BigDecimal.TEN);
+        TransactionResult saved = TransactionResult.builder().transactionId(9L).accountId(ACCOUNT_ID).build();
+        AtomicReference<String> executingThread = new AtomicReference<>();
+        when(delegate.saveTransactionAndDischargeDebitBalances(command)).thenAnswer(invocation -> {
+            executingThread.set(Thread.currentThread().getName());
+            return saved;
+        });
+
+        // When
+        TransactionResult result = lanePort.saveTransactionAndDischargeDebitBalances(command);
+
+        // Then
+        assertThat(result).isSameAs(saved);
+        assertThat(executingThread.get()).isEqualTo("account-lane-" + accountLaneExecutor.laneOf(ACCOUNT_ID));
+    }
+
+    @Test
+    void givenBulkLoad_whenSaved_thenDelegateRunsOnTheCallerThread() {
+        // Given
+        List<CreateTransactionCommand> commands = List.of(new CreateTransactionCommand(ACCOUNT_ID, PAYMENT, BigDecimal.TEN));
+        List<BulkTransactionResult> saved = List.of(BulkTransactionResult.rejected("x"));
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        when(delegate.saveTransactions(commands)).thenAnswer(invocation -> {
+            executingThread.set(Thread.currentThread());
+            return saved;
+        });
+
+        // When
+        List<BulkTransactionResult> results = lanePort.saveTransactions(commands);
+
+        // Then
+        assertThat(results).isSameAs(saved);
+        assertThat(executingThread.get()).isSameAs(Thread.currentThread());
+    }
+}
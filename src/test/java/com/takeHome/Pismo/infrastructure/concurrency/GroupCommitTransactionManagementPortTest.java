@@ -0,0 +1,175 @@
+package com.takeHome.Pismo.infrastructure.concurrency;
+
+import com.takeHome.Pismo.core.contract.input.CreateTransactionCommand;
+import com.takeHome.Pismo.core.contract.output.BulkTransactionResult;
+import com.takeHome.Pismo.core.contract.output.TransactionResult;
+import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.takeHome.Pismo.core.domain.model.OperationType.PAYMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitTransactionManagementPortTest {
+
+    private static final int GROUP_SIZE = 3;
+
+    @Mock
+    private TransactionManagementPort delegate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleTransactionStatus groupStatus = new SimpleTransactionStatus();
+
+    private final SimpleTransactionStatus savepointStatus = new SimpleTransactionStatus();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(GROUP_SIZE);
+
+    private GroupCommitTransactionManagementPort groupCommitPort;
+
+    @BeforeEach
+    void setup() {
+        // A long wait with a full-size group means the writer commits exactly when the last caller arrives.
+        groupCommitPort = new GroupCommitTransactionManagementPort(delegate, transactionManager, GROUP_SIZE,
+                Duration.ofSeconds(10), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        groupCommitPort.close();
+    }
+
+    @Test
+    void givenConcurrentPosts_whenSaved_thenCommittedInOneTransactionInAccountOrder() {
+        // Given
+        stubTransactions();
+        CreateTransactionCommand third = command(3L);
+        CreateTransactionCommand first = command(1L);
+        CreateTransactionCommand second = command(2L);
+        when(delegate.saveTransactionAndDischargeDebitBalances(any())).thenAnswer(invocation -> result(invocation.getArgument(0)));
+
+        // When
+        List<CompletableFuture<TransactionResult>> results = submitAll(third, first, second);
+
+        // Then
+        assertThat(results).extracting(CompletableFuture::join).extracting(TransactionResult::accountId)
+                .containsExactly(3L, 1L, 2L);
+        InOrder order = inOrder(delegate);
+        order.verify(delegate).saveTransactionAndDischargeDebitBalances(first);
+        order.verify(delegate).saveTransactionAndDischargeDebitBalances(second);
+        order.verify(delegate).saveTransactionAndDischargeDebitBalances(third);
+        verify(transactionManager).commit(groupStatus);
+        verify(transactionManager, times(GROUP_SIZE)).commit(savepointStatus);
+    }
+
+    @Test
+    void givenOnePostFails_whenSaved_thenOnlyThatCallerFailsAndTheGroupCommits() {
+        // Given
+        stubTransactions();
+        CreateTransactionCommand failing = command(2L);
+        when(delegate.saveTransactionAndDischargeDebitBalances(any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == failing) {
+                throw new AccountDoesNotExistException("Account does not exist");
+            }
+            return result(invocation.getArgument(0));
+        });
+
+        // When
+        List<CompletableFuture<TransactionResult>> results = submitAll(command(1L), failing, command(3L));
+
+        // Then
+        assertThat(results.get(0).join().accountId()).isEqualTo(1L);
+        assertThat(results.get(2).join().accountId()).isEqualTo(3L);
+        assertThatThrownBy(() -> results.get(1).join()).hasCauseInstanceOf(AccountDoesNotExistException.class);
+        verify(transactionManager).rollback(savepointStatus);
+        verify(transactionManager).commit(groupStatus);
+    }
+
+    @Test
+    void givenGroupCommitFails_whenSaved_thenEveryCallerFails() {
+        // Given
+        stubTransactions();
+        when(delegate.saveTransactionAndDischargeDebitBalances(any())).thenAnswer(invocation -> result(invocation.getArgument(0)));
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) == groupStatus) {
+                throw new TransactionSystemException("commit failed");
+            }
+            return null;
+        }).when(transactionManager).commit(any());
+
+        // When
+        List<CompletableFuture<TransactionResult>> results = submitAll(command(1L), command(2L), command(3L));
+
+        // Then
+        assertThat(results).allSatisfy(result ->
+                assertThatThrownBy(result::join).hasCauseInstanceOf(TransactionSystemException.class));
+    }
+
+    @Test
+    void givenBulkLoad_whenSaved_thenDelegateRunsWithoutGroupCommit() {
+        // Given
+        List<CreateTransactionCommand> commands = List.of(command(1L));
+        List<BulkTransactionResult> saved = List.of(BulkTransactionResult.rejected("x"));
+        when(delegate.saveTransactions(commands)).thenReturn(saved);
+
+        // When
+        List<BulkTransactionResult> results = groupCommitPort.saveTransactions(commands);
+
+        // Then
+        assertThat(results).isSameAs(saved);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    private void stubTransactions() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation ->
+                invocation.<TransactionDefinition>getArgument(0).getPropagationBehavior() == TransactionDefinition.PROPAGATION_NESTED
+                        ? savepointStatus : groupStatus);
+    }
+
+    private List<CompletableFuture<TransactionResult>> submitAll(CreateTransactionCommand... commands) {
+        List<CompletableFuture<TransactionResult>> results = Arrays.stream(commands)
+                .map(command -> CompletableFuture.supplyAsync(
+                        () -> groupCommitPort.saveTransactionAndDischargeDebitBalances(command), callers))
+                .toList();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+        return results;
+    }
+
+    private static CreateTransactionCommand command(long accountId) {
+        return new CreateTransactionCommand(accountId, PAYMENT, BigDecimal.TEN);
+    }
+
+    private static TransactionResult result(CreateTransactionCommand command) {
+        return TransactionResult.builder().transactionId(command.accountId()).accountId(command.accountId()).build();
+    }
+}
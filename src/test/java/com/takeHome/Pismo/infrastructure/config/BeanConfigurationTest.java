@@ -1,23 +1,51 @@
 package com.takeHome.Pismo.infrastructure.config;
 
+import com.takeHome.Pismo.core.domain.model.ConcurrencyMode;
 import com.takeHome.Pismo.core.domain.port.in.AccountManagementPort;
 import com.takeHome.Pismo.core.domain.port.in.BalanceDischargePort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionExportPort;
+import com.takeHome.Pismo.core.domain.port.in.TransactionHistoryPort;
 import com.takeHome.Pismo.core.domain.port.in.TransactionManagementPort;
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
 import com.takeHome.Pismo.core.domain.port.out.AccountPersistencePort;
+import com.takeHome.Pismo.core.domain.port.out.AccountRegistryPort;
+import com.takeHome.Pismo.core.domain.port.out.DischargeMetricsPort;
+import com.takeHome.Pismo.core.domain.port.out.IdempotencyKeyPort;
 import com.takeHome.Pismo.core.domain.port.out.TransactionPersistencePort;
 import com.takeHome.Pismo.core.usecase.AccountManagementUseCase;
+import com.takeHome.Pismo.core.usecase.BalanceDischargeUseCase;
+import com.takeHome.Pismo.core.usecase.IdempotentTransactionManagementUseCase;
+import com.takeHome.Pismo.core.usecase.TransactionHistoryUseCase;
 import com.takeHome.Pismo.core.usecase.TransactionManagementUseCase;
+import com.takeHome.Pismo.infrastructure.adapter.out.ledger.LedgerEngine;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountBalancePersistenceAdapter;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountPersistenceAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.AccountRegistryAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.CachingAccountPersistenceAdapter;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionArchiver;
+import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionPartitionMaintainer;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.TransactionPersistenceAdapter;
 import com.takeHome.Pismo.infrastructure.adapter.out.persistence.mapper.TransactionPersistenceMapper;
+import com.takeHome.Pismo.infrastructure.concurrency.AccountLaneExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
 
 import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,6 +61,12 @@ public class BeanConfigurationTest {
     @Mock
     private AccountPersistencePort accountPersistencePort;
 
+    @Mock
+    private AccountBalancePersistencePort accountBalancePersistencePort;
+
+    @Mock
+    private AccountRegistryPort accountRegistryPort;
+
     @Mock
     private TransactionPersistencePort transactionPersistencePort;
 
@@ -42,6 +76,9 @@ public class BeanConfigurationTest {
     @Mock
     private TransactionPersistenceMapper transactionPersistenceMapper;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private BeanConfiguration configuration;
 
     @BeforeEach
@@ -62,54 +99,190 @@ public class BeanConfigurationTest {
     }
 
     @Test
-    void givenJdbcTemplate_whenAccountPersistencePortBeanCreated_thenAccountPersistenceAdapterIsReturned() {
+    void givenCacheEnabled_whenAccountPersistencePortBeanCreated_thenCachingAdapterIsReturned() {
+
+        // When
+        AccountPersistencePort port = configuration.accountPersistencePort(jdbcTemplate, accountRegistryPort, new SimpleMeterRegistry(),
+                true, 100, Duration.ofMinutes(10), Duration.ofSeconds(5));
+
+        // Then
+        assertThat(port).isNotNull();
+        assertThat(port).isInstanceOf(CachingAccountPersistenceAdapter.class);
+    }
+
+    @Test
+    void givenCacheDisabled_whenAccountPersistencePortBeanCreated_thenAccountPersistenceAdapterIsReturned() {
 
         // When
-        AccountPersistencePort port = configuration.accountPersistencePort(jdbcTemplate);
+        AccountPersistencePort port = configuration.accountPersistencePort(jdbcTemplate, accountRegistryPort, new SimpleMeterRegistry(),
+                false, 100, Duration.ofMinutes(10), Duration.ofSeconds(5));
 
         // Then
         assertThat(port).isNotNull();
-        assertThat(port).isInstanceOf(AccountPersistenceAdapter.class);
+        assertThat(AopTestUtils.<AccountPersistencePort>getTargetObject(port)).isInstanceOf(AccountPersistenceAdapter.class);
     }
 
     @Test
     void givenJdbcTemplate_whenTransactionPersistencePortBeanCreated_thenTransactionPersistenceAdapterIsReturned() {
 
-        TransactionPersistencePort port = configuration.transactionPersistencePort(jdbcTemplate, transactionPersistenceMapper);
+        TransactionPersistencePort port = configuration.transactionPersistencePort(jdbcTemplate, transactionPersistenceMapper,
+                new SimpleMeterRegistry());
+
+        // Then
+        assertThat(port).isNotNull();
+        assertThat(AopTestUtils.<TransactionPersistencePort>getTargetObject(port)).isInstanceOf(TransactionPersistenceAdapter.class);
+    }
+
+    @Test
+    void givenJdbcTemplate_whenAccountBalancePersistencePortBeanCreated_thenAccountBalancePersistenceAdapterIsReturned() {
+
+        // When
+        AccountBalancePersistencePort port = configuration.accountBalancePersistencePort(jdbcTemplate, new SimpleMeterRegistry());
 
         // Then
         assertThat(port).isNotNull();
-        assertThat(port).isInstanceOf(TransactionPersistenceAdapter.class);
+        assertThat(AopTestUtils.<AccountBalancePersistencePort>getTargetObject(port)).isInstanceOf(AccountBalancePersistenceAdapter.class);
     }
 
     @Test
     void givenAccountPersistencePort_whenAccountManagementPortBeanCreated_thenAccountManagementUseCaseIsReturned() {
         //When
-        AccountManagementPort port = configuration.accountManagementPort(accountPersistencePort);
+        AccountManagementPort port = configuration.accountManagementPort(accountPersistencePort, accountBalancePersistencePort,
+                new SimpleMeterRegistry());
 
         // Then
         assertThat(port).isNotNull();
-        assertThat(port).isInstanceOf(AccountManagementUseCase.class);
+        assertThat(AopTestUtils.<AccountManagementPort>getTargetObject(port)).isInstanceOf(AccountManagementUseCase.class);
+    }
+
+    @Test
+    void givenPersistencePorts_whenTransactionHistoryPortBeanCreated_thenTransactionHistoryUseCaseIsReturned() {
+        //When
+        TransactionHistoryPort port = configuration.transactionHistoryPort(transactionPersistencePort, accountPersistencePort,
+                new SimpleMeterRegistry());
+
+        // Then
+        assertThat(port).isNotNull();
+        assertThat(AopTestUtils.<TransactionHistoryPort>getTargetObject(port)).isInstanceOf(TransactionHistoryUseCase.class);
+    }
+
+    @Test
+    void givenPersistencePorts_whenTransactionExportPortBeanCreated_thenTransactionHistoryUseCaseIsReturned() {
+        //When
+        TransactionExportPort port = configuration.transactionExportPort(transactionPersistencePort, accountPersistencePort,
+                new SimpleMeterRegistry());
+
+        // Then
+        assertThat(port).isNotNull();
+        assertThat(AopTestUtils.<TransactionExportPort>getTargetObject(port)).isInstanceOf(TransactionHistoryUseCase.class);
     }
 
     @Test
     void assertBalanceDischargePortBeanIsNotNull(){
         //When
-        BalanceDischargePort balanceDischargePort = configuration.balanceDischargePort();
+        BalanceDischargePort balanceDischargePort = configuration.balanceDischargePort(new SimpleMeterRegistry());
 
         //Then
         assertThat(balanceDischargePort).isNotNull();
-        assertThat(balanceDischargePort).isInstanceOf(BalanceDischargePort.class);
+        assertThat(AopTestUtils.<BalanceDischargePort>getTargetObject(balanceDischargePort)).isInstanceOf(BalanceDischargeUseCase.class);
+    }
+
+    @Test
+    void givenTransactionPersistencePort_whenTransactionManagementUseCaseBeanCreated_thenTransactionManagementUseCaseIsReturned() {
+
+        // When
+        TransactionManagementUseCase useCase = configuration.transactionManagementUseCase(transactionPersistencePort, accountBalancePersistencePort, balanceDischargePort, ConcurrencyMode.ACCOUNT_ROW_LOCK, DischargeMetricsPort.NONE, IdempotencyKeyPort.NONE);
+
+        // Then
+        assertThat(useCase).isNotNull();
     }
 
     @Test
-    void givenTransactionPersistencePort_whenTransactionManagementPortBeanCreated_thenTransactionManagementUseCaseIsReturned() {
+    void givenTransactionManagementUseCase_whenTransactionManagementPortBeanCreated_thenIdempotentUseCaseIsReturned() {
 
         // When
-        TransactionManagementPort port = configuration.transactionManagementPort(transactionPersistencePort, balanceDischargePort);
+        TransactionManagementPort port = configuration.transactionManagementPort(
+                configuration.transactionManagementUseCase(transactionPersistencePort, accountBalancePersistencePort, balanceDischargePort, ConcurrencyMode.ACCOUNT_ROW_LOCK, DischargeMetricsPort.NONE, IdempotencyKeyPort.NONE),
+                accountRegistryPort, IdempotencyKeyPort.NONE, Optional.empty(), Optional.empty(), new SimpleMeterRegistry());
 
         // Then
         assertThat(port).isNotNull();
-        assertThat(port).isInstanceOf(TransactionManagementUseCase.class);
+        assertThat(AopTestUtils.<TransactionManagementPort>getTargetObject(port)).isInstanceOf(IdempotentTransactionManagementUseCase.class);
+    }
+
+    @Test
+    void givenAccountLanesEnabled_whenTransactionManagementPortBeanCreated_thenLanesSitBehindIdempotentUseCase() {
+
+        // Given
+        AccountLaneExecutor accountLaneExecutor = configuration.accountLaneExecutor(2, new SimpleMeterRegistry());
+
+        // When
+        TransactionManagementPort port = configuration.transactionManagementPort(
+                configuration.transactionManagementUseCase(transactionPersistencePort, accountBalancePersistencePort, balanceDischargePort, ConcurrencyMode.ACCOUNT_ROW_LOCK, DischargeMetricsPort.NONE, IdempotencyKeyPort.NONE),
+                accountRegistryPort, IdempotencyKeyPort.NONE, Optional.of(accountLaneExecutor), Optional.empty(), new SimpleMeterRegistry());
+
+        // Then
+        assertThat(AopTestUtils.<TransactionManagementPort>getTargetObject(port)).isInstanceOf(IdempotentTransactionManagementUseCase.class);
+        accountLaneExecutor.close();
+    }
+
+    @Test
+    void givenJdbcTemplate_whenTransactionPartitionMaintainerBeanCreated_thenMaintainerIsReturned() {
+
+        // When
+        TransactionPartitionMaintainer maintainer = configuration.transactionPartitionMaintainer(jdbcTemplate, 3, new SimpleMeterRegistry());
+
+        // Then
+        assertThat(maintainer).isNotNull();
+    }
+
+    @Test
+    void givenJournalDirectory_whenLedgerBeansCreated_thenPortsAreBackedByTheLedgerEngine(@TempDir Path journalDirectory) {
+        // Given
+        LedgerEngine ledgerEngine = configuration.ledgerEngine(jdbcTemplate, transactionManager, transactionPersistenceMapper,
+                accountRegistryPort, journalDirectory.toString(), DataSize.ofKilobytes(64), new SimpleMeterRegistry());
+
+        // When
+        TransactionPersistencePort transactionPort = configuration.ledgerTransactionPersistencePort(ledgerEngine, new SimpleMeterRegistry());
+        AccountBalancePersistencePort balancePort = configuration.ledgerAccountBalancePersistencePort(ledgerEngine, new SimpleMeterRegistry());
+
+        // Then
+        assertThat(AopTestUtils.<TransactionPersistencePort>getTargetObject(transactionPort)).isSameAs(ledgerEngine);
+        assertThat(AopTestUtils.<AccountBalancePersistencePort>getTargetObject(balancePort)).isSameAs(ledgerEngine);
+        ledgerEngine.close();
+    }
+
+    @Test
+    void givenJdbcTemplate_whenTransactionArchiverBeanCreated_thenArchiverIsReturned() {
+        // Given
+        // When
+        TransactionArchiver archiver = configuration.transactionArchiver(jdbcTemplate, transactionManager, Duration.ofDays(90), 500,
+                new SimpleMeterRegistry());
+
+        // Then
+        assertThat(archiver).isNotNull();
+    }
+
+    @Test
+    void givenLedgerProfile_whenTransactionArchiverBeanDeclared_thenItIsExcluded() throws NoSuchMethodException {
+        // Given
+        Method archiverBean = BeanConfiguration.class.getMethod("transactionArchiver", JdbcTemplate.class,
+                PlatformTransactionManager.class, Duration.class, int.class, MeterRegistry.class);
+
+        // When
+        Profile profile = archiverBean.getAnnotation(Profile.class);
+
+        // Then
+        assertThat(profile.value()).containsExactly("!ledger");
+    }
+
+    @Test
+    void givenJdbcTemplate_whenAccountRegistryPortBeanCreated_thenAccountRegistryAdapterIsReturned() {
+
+        // When
+        AccountRegistryPort port = configuration.accountRegistryPort(jdbcTemplate, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        // Then
+        assertThat(port).isInstanceOf(AccountRegistryAdapter.class);
     }
 }
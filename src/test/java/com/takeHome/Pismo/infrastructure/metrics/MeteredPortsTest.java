@@ -0,0 +1,63 @@
+package com.takeHome.Pismo.infrastructure.metrics;
+
+import com.takeHome.Pismo.core.domain.port.out.AccountBalancePersistencePort;
+import com.takeHome.Pismo.core.exception.AccountDoesNotExistException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredPortsTest {
+
+    private static final long ACCOUNT_ID = 1L;
+
+    @Mock
+    private AccountBalancePersistencePort accountBalancePersistencePort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AccountBalancePersistencePort meteredPort;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        meteredPort = MeteredPorts.timed(AccountBalancePersistencePort.class, accountBalancePersistencePort, meterRegistry);
+    }
+
+    @Test
+    void givenPortCall_whenItReturns_thenResultIsPassedThroughAndTimedPerMethod() {
+        // Given
+        when(accountBalancePersistencePort.hasOpenDebits(ACCOUNT_ID)).thenReturn(true);
+
+        // When
+        boolean hasOpenDebits = meteredPort.hasOpenDebits(ACCOUNT_ID);
+        meteredPort.hasOpenDebits(ACCOUNT_ID);
+
+        // Then
+        assertThat(hasOpenDebits).isTrue();
+        Timer timer = meterRegistry.get(MeteredPorts.TIMER_NAME)
+                .tags("port", "AccountBalancePersistencePort", "method", "hasOpenDebits", "exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenPortCall_whenItThrows_thenExceptionIsRethrownAndTaggedOnTheTimer() {
+        // Given
+        when(accountBalancePersistencePort.hasAvailableCredit(ACCOUNT_ID)).thenThrow(new AccountDoesNotExistException("missing"));
+
+        // When / Then
+        assertThatThrownBy(() -> meteredPort.hasAvailableCredit(ACCOUNT_ID)).isInstanceOf(AccountDoesNotExistException.class);
+        assertThat(meterRegistry.get(MeteredPorts.TIMER_NAME)
+                .tags("method", "hasAvailableCredit", "exception", "AccountDoesNotExistException")
+                .timer().count()).isEqualTo(1);
+    }
+}